@@ -0,0 +1,176 @@
+package frc.robot;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Provides;
+
+import frc.robot.common.IMechanism;
+import frc.robot.common.LoggingManager;
+import frc.robot.common.MechanismManager;
+import frc.robot.common.robotprovider.*;
+import frc.robot.driver.ButtonMap;
+import frc.robot.driver.common.IButtonMap;
+import frc.robot.mechanisms.DriveTrainMechanism;
+import frc.robot.mechanisms.PositionManager;
+import frc.robot.mechanisms.PowerManager;
+
+/**
+ * Benchmark for a full teleop loop (CoreRobot.teleopPeriodic), with the drivetrain, position and power mechanisms running
+ * against TestProvider mocks, the real ButtonMap, and a CSV logger that discards its output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoreRobotBenchmark
+{
+    private CoreRobot<BenchmarkModule> robot;
+
+    @Setup
+    public void setup()
+    {
+        this.robot = new CoreRobot<BenchmarkModule>(new BenchmarkModule());
+        this.robot.robotInit();
+        this.robot.teleopInit();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.robot.disabledInit();
+    }
+
+    @Benchmark
+    public CoreRobot<BenchmarkModule> teleopPeriodic()
+    {
+        this.robot.teleopPeriodic();
+        return this.robot;
+    }
+
+    public static class BenchmarkModule extends AbstractModule
+    {
+        @Override
+        protected void configure()
+        {
+            this.bind(IRobotProvider.class).toInstance(new BenchmarkProvider());
+            this.bind(ITimer.class).to(BenchmarkTimer.class);
+            this.bind(IButtonMap.class).to(ButtonMap.class);
+            this.bind(ISmartDashboardLogger.class).toInstance(mock(ISmartDashboardLogger.class, withSettings().stubOnly()));
+        }
+
+        @Singleton
+        @Provides
+        public MechanismManager getMechanismManager(Injector injector)
+        {
+            List<IMechanism> mechanismList = new ArrayList<IMechanism>();
+            mechanismList.add(injector.getInstance(DriveTrainMechanism.class));
+            mechanismList.add(injector.getInstance(PositionManager.class));
+            mechanismList.add(injector.getInstance(PowerManager.class));
+            return new MechanismManager(mechanismList);
+        }
+
+        @Singleton
+        @Provides
+        public LoggingManager getLoggingManager()
+        {
+            return new LoggingManager(
+                injector ->
+                {
+                    try
+                    {
+                        return new CSVLogger(new NullFileWriter());
+                    }
+                    catch (IOException ex)
+                    {
+                        throw new RuntimeException(ex);
+                    }
+                });
+        }
+    }
+
+    /**
+     * TestProvider that also provides the devices that TestProvider doesn't mock, and joysticks that don't need mock invocations.
+     * The devices used within the loop are stub-only mocks, which don't record their invocations (which would grow without bound over a benchmark run).
+     */
+    private static class BenchmarkProvider extends TestProvider
+    {
+        private final IDriverStation driverStation;
+        private final INavx navx;
+        private final IPowerDistributionPanel pdp;
+        private final INetworkTableProvider networkTableProvider;
+        private final HashMap<Integer, ITalonFX> talonFxMap;
+        private final BenchmarkJoystick driverJoystick;
+        private final BenchmarkJoystick operatorJoystick;
+
+        BenchmarkProvider()
+        {
+            this.driverStation = mock(IDriverStation.class, withSettings().stubOnly());
+            doReturn(MatchType.None).when(this.driverStation).getMatchType();
+            doReturn(Alliance.Invalid).when(this.driverStation).getAlliance();
+
+            this.navx = mock(INavx.class, withSettings().stubOnly());
+            this.pdp = mock(IPowerDistributionPanel.class, withSettings().stubOnly());
+            this.networkTableProvider = mock(INetworkTableProvider.class, RETURNS_MOCKS);
+            this.talonFxMap = new HashMap<Integer, ITalonFX>();
+            this.driverJoystick = new BenchmarkJoystick();
+            this.operatorJoystick = new BenchmarkJoystick();
+        }
+
+        @Override
+        public ITalonFX getTalonFX(int deviceNumber)
+        {
+            return this.talonFxMap.computeIfAbsent(deviceNumber, d -> mock(ITalonFX.class, withSettings().stubOnly()));
+        }
+
+        @Override
+        public IPowerDistributionPanel getPDP(int module)
+        {
+            return this.pdp;
+        }
+
+        @Override
+        public IJoystick getJoystick(int port)
+        {
+            return port == ElectronicsConstants.JOYSTICK_DRIVER_PORT ? this.driverJoystick : this.operatorJoystick;
+        }
+
+        @Override
+        public INavx getNavx()
+        {
+            return this.navx;
+        }
+
+        @Override
+        public IDriverStation getDriverStation()
+        {
+            return this.driverStation;
+        }
+
+        @Override
+        public INetworkTableProvider getNetworkTableProvider()
+        {
+            return this.networkTableProvider;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package frc.robot.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.common.robotprovider.BenchmarkTimer;
+
+/**
+ * Benchmark for a single PIDHandler calculation, with minimum/maximum outputs and the complementary filters in use (as in DriveTrainMechanism),
+ * compared with the same calculation by PIDCalculator (with the timestamp passed in), and with re-configuring for a mode change
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PIDHandlerBenchmark
+{
+    private static final double TIME_STEP = 0.02;
+
+    private BenchmarkTimer timer;
+    private PIDHandler positionHandler;
+    private PIDHandler velocityHandler;
+    private PIDCalculator positionCalculator;
+    private PIDCalculator velocityCalculator;
+    private double measuredValue;
+    private double time;
+
+    @Setup
+    public void setup()
+    {
+        this.timer = new BenchmarkTimer();
+        this.positionHandler = new PIDHandler(0.01, 0.001, 0.1, 0.0, 1.0, 0.5, 0.5, 0.5, 0.5, -1.0, 1.0, this.timer);
+        this.velocityHandler = new PIDHandler(0.01, 0.001, 0.1, 0.5, 1.0, 0.5, 0.5, 0.5, 0.5, -1.0, 1.0, this.timer);
+
+        this.positionCalculator = new PIDCalculator(0.01, 0.001, 0.1, 0.0, 1.0);
+        this.positionCalculator.configure(0.01, 0.001, 0.1, 0.0, 1.0, -1.0, 1.0);
+        this.positionCalculator.setFilters(0.5, 0.5, 0.5, 0.5);
+        this.velocityCalculator = new PIDCalculator(0.01, 0.001, 0.1, 0.5, 1.0);
+        this.velocityCalculator.configure(0.01, 0.001, 0.1, 0.5, 1.0, -1.0, 1.0);
+        this.velocityCalculator.setFilters(0.5, 0.5, 0.5, 0.5);
+
+        this.measuredValue = 0.0;
+        this.time = 0.0;
+    }
+
+    @Benchmark
+    public double calculatePosition()
+    {
+        // move the measured value around so that the error (and output) keep changing
+        this.measuredValue = (this.measuredValue + 0.37) % 100.0;
+        return this.positionHandler.calculatePosition(50.0, this.measuredValue);
+    }
+
+    @Benchmark
+    public double calculateVelocity()
+    {
+        this.measuredValue = (this.measuredValue + 0.0037) % 1.0;
+        return this.velocityHandler.calculateVelocity(0.5, this.measuredValue);
+    }
+
+    @Benchmark
+    public double calculatorPosition()
+    {
+        this.measuredValue = (this.measuredValue + 0.37) % 100.0;
+        this.time += PIDHandlerBenchmark.TIME_STEP;
+        return this.positionCalculator.calculatePosition(50.0, this.measuredValue, this.time);
+    }
+
+    @Benchmark
+    public double calculatorVelocity()
+    {
+        this.measuredValue = (this.measuredValue + 0.0037) % 1.0;
+        this.time += PIDHandlerBenchmark.TIME_STEP;
+        return this.velocityCalculator.calculateVelocity(0.5, this.measuredValue, this.time);
+    }
+
+    @Benchmark
+    public PIDHandler changeModeHandler()
+    {
+        // what DriveTrainMechanism used to do on a mode change
+        return new PIDHandler(0.01, 0.001, 0.1, 0.0, 1.0, -1.0, 1.0, this.timer);
+    }
+
+    @Benchmark
+    public PIDCalculator changeModeCalculator()
+    {
+        this.positionCalculator.configure(0.01, 0.001, 0.1, 0.0, 1.0, -1.0, 1.0);
+        this.positionCalculator.reset();
+        return this.positionCalculator;
+    }
+}
@@ -0,0 +1,32 @@
+package frc.robot.common.robotprovider;
+
+/**
+ * Joystick with fixed button states for benchmarks (avoiding the cost of mock invocations within the measured loop)
+ */
+public class BenchmarkJoystick implements IJoystick
+{
+    private final boolean[] buttons = new boolean[32];
+
+    public void setButton(int value, boolean pressed)
+    {
+        this.buttons[value] = pressed;
+    }
+
+    @Override
+    public double getAxis(int relevantAxis)
+    {
+        return 0.0;
+    }
+
+    @Override
+    public int getPOV()
+    {
+        return -1;
+    }
+
+    @Override
+    public boolean getRawButton(int value)
+    {
+        return this.buttons[value];
+    }
+}
@@ -0,0 +1,34 @@
+package frc.robot.common.robotprovider;
+
+/**
+ * Timer for benchmarks that advances by a fixed step every time it is read, as if each read happened in the next robot loop
+ */
+public class BenchmarkTimer implements ITimer
+{
+    private static final double STEP = 0.02;
+
+    private double time = 0.0;
+
+    @Override
+    public void start()
+    {
+    }
+
+    @Override
+    public void stop()
+    {
+    }
+
+    @Override
+    public double get()
+    {
+        this.time += BenchmarkTimer.STEP;
+        return this.time;
+    }
+
+    @Override
+    public void reset()
+    {
+        this.time = 0.0;
+    }
+}
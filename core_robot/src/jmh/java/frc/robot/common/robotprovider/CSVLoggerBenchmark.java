@@ -0,0 +1,62 @@
+package frc.robot.common.robotprovider;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Benchmark for logging a typical loop's worth of values and then writing the row with CSVLogger.update()
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CSVLoggerBenchmark
+{
+    private NullFileWriter fileWriter;
+    private CSVLogger logger;
+    private int loop;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        this.fileWriter = new NullFileWriter();
+        this.logger = new CSVLogger(this.fileWriter);
+        this.loop = 0;
+    }
+
+    @Benchmark
+    public int update()
+    {
+        this.loop++;
+
+        this.logger.logString(LoggingKey.RobotState, "Teleop");
+        this.logger.logNumber(LoggingKey.RobotTime, this.loop * 0.02);
+        this.logger.logBoolean(LoggingKey.DriverIsAuto, false);
+        this.logger.logString(LoggingKey.DriverActiveMacros, "");
+        this.logger.logString(LoggingKey.DriverActiveShifts, "0");
+        this.logger.logBoolean(LoggingKey.PositionNavxConnected, true);
+        this.logger.logNumber(LoggingKey.PositionNavxAngle, this.loop * 0.1);
+        this.logger.logNumber(LoggingKey.DriveTrainLeftVelocity, this.loop * 0.5);
+        this.logger.logNumber(LoggingKey.DriveTrainRightVelocity, this.loop * 0.5);
+        this.logger.logInteger(LoggingKey.DriveTrainLeftTicks, this.loop * 10);
+        this.logger.logInteger(LoggingKey.DriveTrainRightTicks, this.loop * 10);
+        this.logger.logNumber(LoggingKey.DriveTrainLeftPositionGoal, this.loop * 0.25);
+        this.logger.logNumber(LoggingKey.DriveTrainRightPositionGoal, this.loop * 0.25);
+        this.logger.logNumber(LoggingKey.DriveTrainLeftError, 0.0);
+        this.logger.logNumber(LoggingKey.DriveTrainRightError, 0.0);
+        this.logger.logNumber(LoggingKey.OffboardVisionX, (Double)null);
+        this.logger.logNumber(LoggingKey.OffboardVisionY, (Double)null);
+        this.logger.update();
+
+        return this.fileWriter.getLength();
+    }
+}
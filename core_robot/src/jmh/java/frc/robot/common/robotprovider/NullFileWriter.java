@@ -0,0 +1,26 @@
+package frc.robot.common.robotprovider;
+
+/**
+ * File writer for benchmarks that discards everything written to it, so that we measure the cost of the logger rather than the disk
+ */
+public class NullFileWriter implements IFileWriter
+{
+    private int length = 0;
+
+    @Override
+    public void append(String string)
+    {
+        // keep track of the length so that the JIT can't optimize away the strings being written
+        this.length += string.length();
+    }
+
+    @Override
+    public void flush()
+    {
+    }
+
+    public int getLength()
+    {
+        return this.length;
+    }
+}
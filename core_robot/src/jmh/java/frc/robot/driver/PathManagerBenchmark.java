@@ -0,0 +1,63 @@
+package frc.robot.driver;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark for loading all of the CSV paths:
+ * loadPathsFromCsv - reading and parsing the CSV files from the resources (no cache)
+ * loadPathsFromCache - memory-mapping the binary path cache file
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PathManagerBenchmark
+{
+    private File cacheFile;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        this.cacheFile = File.createTempFile("paths", ".bin");
+        this.cacheFile.delete();
+
+        // populate the cache
+        PathManager pathManager = new PathManager(this.cacheFile.getAbsolutePath(), null, Integer.MAX_VALUE, 0.0);
+        pathManager.loadPaths();
+        pathManager.loadAllPaths();
+        pathManager.saveCache();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        this.cacheFile.delete();
+    }
+
+    @Benchmark
+    public Map<String, PathManager.StoredPath> loadPathsFromCsv()
+    {
+        PathManager pathManager = new PathManager(null, null, Integer.MAX_VALUE, 0.0);
+        pathManager.loadPaths();
+        return pathManager.loadAllPaths();
+    }
+
+    @Benchmark
+    public Map<String, PathManager.StoredPath> loadPathsFromCache()
+    {
+        PathManager pathManager = new PathManager(this.cacheFile.getAbsolutePath(), null, Integer.MAX_VALUE, 0.0);
+        pathManager.loadPaths();
+        return pathManager.loadAllPaths();
+    }
+}
@@ -0,0 +1,98 @@
+package frc.robot.driver.common;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.inject.Injector;
+
+import frc.robot.common.LoggingManager;
+import frc.robot.common.robotprovider.IRobotProvider;
+import frc.robot.driver.AnalogOperation;
+import frc.robot.driver.AutonomousRoutineSelector;
+import frc.robot.driver.ButtonMap;
+import frc.robot.driver.DigitalOperation;
+import frc.robot.driver.PathManager;
+import frc.robot.driver.common.states.AnalogOperationState;
+import frc.robot.driver.common.states.DigitalOperationState;
+import frc.robot.driver.common.states.OperationState;
+
+/**
+ * Benchmark comparing the per-call cost of reading operation values from the Driver using the dense, ordinal-indexed
+ * snapshot (getDigital/getAnalog) against the previous approach of a HashMap lookup plus instanceof check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DriverOperationBenchmark
+{
+    private Driver driver;
+    private DigitalOperation[] digitalOperations;
+    private AnalogOperation[] analogOperations;
+
+    @Setup
+    public void setup()
+    {
+        Injector injector = mock(Injector.class);
+        doReturn(mock(AutonomousRoutineSelector.class)).when(injector).getInstance(AutonomousRoutineSelector.class);
+        doReturn(mock(PathManager.class)).when(injector).getInstance(PathManager.class);
+
+        this.driver = new Driver(mock(LoggingManager.class), injector, new ButtonMap(), mock(IRobotProvider.class));
+        this.digitalOperations = DigitalOperation.values();
+        this.analogOperations = AnalogOperation.values();
+    }
+
+    @Benchmark
+    public void getDigital(Blackhole blackhole)
+    {
+        for (DigitalOperation operation : this.digitalOperations)
+        {
+            blackhole.consume(this.driver.getDigital(operation));
+        }
+    }
+
+    @Benchmark
+    public void getDigitalFromMap(Blackhole blackhole)
+    {
+        for (DigitalOperation operation : this.digitalOperations)
+        {
+            OperationState state = this.driver.operationStateMap.get(operation);
+            if (state instanceof DigitalOperationState)
+            {
+                blackhole.consume(((DigitalOperationState)state).getState());
+            }
+        }
+    }
+
+    @Benchmark
+    public void getAnalog(Blackhole blackhole)
+    {
+        for (AnalogOperation operation : this.analogOperations)
+        {
+            blackhole.consume(this.driver.getAnalog(operation));
+        }
+    }
+
+    @Benchmark
+    public void getAnalogFromMap(Blackhole blackhole)
+    {
+        for (AnalogOperation operation : this.analogOperations)
+        {
+            OperationState state = this.driver.operationStateMap.get(operation);
+            if (state instanceof AnalogOperationState)
+            {
+                blackhole.consume(((AnalogOperationState)state).getState());
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package frc.robot.driver.common;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.inject.Injector;
+
+import frc.robot.ElectronicsConstants;
+import frc.robot.common.LoggingManager;
+import frc.robot.common.robotprovider.BenchmarkJoystick;
+import frc.robot.common.robotprovider.CSVLogger;
+import frc.robot.common.robotprovider.IRobotProvider;
+import frc.robot.common.robotprovider.NullFileWriter;
+import frc.robot.driver.AnalogOperation;
+import frc.robot.driver.AutonomousRoutineSelector;
+import frc.robot.driver.DigitalOperation;
+import frc.robot.driver.IOperation;
+import frc.robot.driver.MacroOperation;
+import frc.robot.driver.PathManager;
+import frc.robot.driver.common.buttons.ButtonType;
+import frc.robot.driver.common.descriptions.AnalogOperationDescription;
+import frc.robot.driver.common.descriptions.DigitalOperationDescription;
+import frc.robot.driver.common.descriptions.MacroOperationDescription;
+import frc.robot.driver.common.descriptions.ShiftDescription;
+import frc.robot.driver.common.descriptions.UserInputDevice;
+import frc.robot.driver.common.states.OperationState;
+
+/**
+ * Benchmark for a single Driver.update() under various macro loads:
+ * None - no buttons are pressed
+ * Single - one macro is running
+ * Disjoint - four macros that use separate operations are running
+ * Overlapping - two of the running macros use the same operations, so they are arbitrated on every update
+ * UserOverride - the user is pressing a button for an operation that one of the running macros uses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DriverUpdateBenchmark
+{
+    @Param({ "None", "Single", "Disjoint", "Overlapping", "UserOverride" })
+    public String macroLoad;
+
+    private Driver driver;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        BenchmarkJoystick joystick = new BenchmarkJoystick();
+        switch (this.macroLoad)
+        {
+            case "UserOverride":
+                joystick.setButton(UserInputDeviceButton.XBONE_RIGHT_BUTTON.Value, true);
+                // fall through
+            case "Disjoint":
+                joystick.setButton(UserInputDeviceButton.XBONE_LEFT_BUTTON.Value, true);
+                joystick.setButton(UserInputDeviceButton.XBONE_A_BUTTON.Value, true);
+                joystick.setButton(UserInputDeviceButton.XBONE_X_BUTTON.Value, true);
+                joystick.setButton(UserInputDeviceButton.XBONE_Y_BUTTON.Value, true);
+                break;
+
+            case "Overlapping":
+                joystick.setButton(UserInputDeviceButton.XBONE_A_BUTTON.Value, true);
+                joystick.setButton(UserInputDeviceButton.XBONE_B_BUTTON.Value, true);
+                joystick.setButton(UserInputDeviceButton.XBONE_X_BUTTON.Value, true);
+                joystick.setButton(UserInputDeviceButton.XBONE_Y_BUTTON.Value, true);
+                break;
+
+            case "Single":
+                joystick.setButton(UserInputDeviceButton.XBONE_A_BUTTON.Value, true);
+                break;
+        }
+
+        IRobotProvider provider = mock(IRobotProvider.class);
+        doReturn(joystick).when(provider).getJoystick(ElectronicsConstants.JOYSTICK_DRIVER_PORT);
+        doReturn(new BenchmarkJoystick()).when(provider).getJoystick(ElectronicsConstants.JOYSTICK_CO_DRIVER_PORT);
+
+        Injector injector = mock(Injector.class);
+        doReturn(mock(AutonomousRoutineSelector.class)).when(injector).getInstance(AutonomousRoutineSelector.class);
+        doReturn(mock(PathManager.class)).when(injector).getInstance(PathManager.class);
+
+        CSVLogger csvLogger = new CSVLogger(new NullFileWriter());
+        LoggingManager logger = new LoggingManager(i -> csvLogger);
+        logger.refresh(injector);
+
+        IButtonMap buttonMap = mock(IButtonMap.class);
+        doReturn(new ShiftDescription[0]).when(buttonMap).getShiftSchema();
+        doReturn(new AnalogOperationDescription[0]).when(buttonMap).getAnalogOperationSchema();
+        doReturn(
+            new DigitalOperationDescription[]
+            {
+                new DigitalOperationDescription(
+                    DigitalOperation.DriveTrainUseBrakeMode,
+                    UserInputDevice.Driver,
+                    UserInputDeviceButton.XBONE_RIGHT_BUTTON,
+                    ButtonType.Simple),
+            }).when(buttonMap).getDigitalOperationSchema();
+        doReturn(
+            new MacroOperationDescription[]
+            {
+                DriverUpdateBenchmark.createMacro(
+                    MacroOperation.FollowSomePath,
+                    UserInputDeviceButton.XBONE_A_BUTTON,
+                    AnalogOperation.DriveTrainLeftPosition,
+                    AnalogOperation.DriveTrainRightPosition),
+                DriverUpdateBenchmark.createMacro(
+                    MacroOperation.FollowAnotherPath,
+                    UserInputDeviceButton.XBONE_B_BUTTON,
+                    AnalogOperation.DriveTrainLeftPosition,
+                    AnalogOperation.DriveTrainRightPosition),
+                DriverUpdateBenchmark.createMacro(
+                    MacroOperation.FollowADifferentPath,
+                    UserInputDeviceButton.XBONE_X_BUTTON,
+                    AnalogOperation.DriveTrainTurn),
+                DriverUpdateBenchmark.createMacro(
+                    MacroOperation.TurnInPlaceLeft,
+                    UserInputDeviceButton.XBONE_Y_BUTTON,
+                    AnalogOperation.DriveTrainMoveForward),
+                DriverUpdateBenchmark.createMacro(
+                    MacroOperation.PIDBrake,
+                    UserInputDeviceButton.XBONE_LEFT_BUTTON,
+                    DigitalOperation.DriveTrainUseBrakeMode),
+            }).when(buttonMap).getMacroOperationSchema();
+
+        this.driver = new Driver(logger, injector, buttonMap, provider);
+    }
+
+    @Benchmark
+    public Driver update()
+    {
+        this.driver.update();
+        return this.driver;
+    }
+
+    private static MacroOperationDescription createMacro(MacroOperation operation, UserInputDeviceButton button, IOperation... affectedOperations)
+    {
+        return new MacroOperationDescription(
+            operation,
+            UserInputDevice.Driver,
+            button,
+            ButtonType.Simple,
+            () -> new RunForeverTask(),
+            affectedOperations);
+    }
+
+    /**
+     * Task that never completes (so that the macro keeps running while its button is held)
+     */
+    private static class RunForeverTask implements IControlTask
+    {
+        @Override
+        public void initialize(Map<IOperation, OperationState> operationStateMap, Injector injector)
+        {
+        }
+
+        @Override
+        public void begin()
+        {
+        }
+
+        @Override
+        public void update()
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+        }
+
+        @Override
+        public void end()
+        {
+        }
+
+        @Override
+        public boolean hasCompleted()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean shouldCancel()
+        {
+            return false;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package frc.robot;
 
+import frc.robot.common.ControlThread;
 import frc.robot.common.LoggingManager;
+import frc.robot.common.LoopTimer;
 import frc.robot.common.MechanismManager;
 import frc.robot.common.robotprovider.Alliance;
 import frc.robot.common.robotprovider.IDriverStation;
@@ -37,6 +39,8 @@ public class CoreRobot<T extends AbstractModule>
     // Mechanisms and injector
     private MechanismManager mechanisms;
     private LoggingManager logger;
+    private LoopTimer loopTimer;
+    private ControlThread controlThread;
     private Injector injector;
 
     private ITimer timer;
@@ -71,6 +75,16 @@ public class CoreRobot<T extends AbstractModule>
         // create driver
         this.driver = injector.getInstance(Driver.class);
 
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            this.loopTimer = injector.getInstance(LoopTimer.class);
+        }
+
+        if (TuningConstants.CONTROL_THREAD_ENABLED)
+        {
+            this.controlThread = injector.getInstance(ControlThread.class);
+        }
+
         // reset number of logger updates
         this.loggerUpdates = 0;
     }
@@ -90,11 +104,18 @@ public class CoreRobot<T extends AbstractModule>
             this.driver.stop();
         }
 
+        // stop the control thread before the mechanisms, so that it doesn't apply any more setpoints
+        if (this.controlThread != null)
+        {
+            this.controlThread.stop();
+        }
+
         if (this.mechanisms != null)
         {
             this.mechanisms.stop();
         }
 
+        // update and flush the log, draining any rows still waiting to be written
         this.logger.logString(LoggingKey.RobotState, "Disabled");
         this.logger.update();
         this.logger.flush();
@@ -132,6 +153,8 @@ public class CoreRobot<T extends AbstractModule>
      */
     public void disabledPeriodic()
     {
+        // start loading the paths for the selected autonomous routine
+        this.driver.updateDisabled();
     }
 
     /**
@@ -178,9 +201,19 @@ public class CoreRobot<T extends AbstractModule>
         IRobotProvider robotProvider = injector.getInstance(IRobotProvider.class);
         this.logger.logString(LoggingKey.RobotMatch, this.generateMatchString(robotProvider.getDriverStation()));
 
-        // apply the driver to the mechanisms
+        // apply the driver to the mechanisms (with the control thread stopped, as the mechanisms reset their control mode)
+        if (TuningConstants.CONTROL_THREAD_ENABLED)
+        {
+            this.controlThread.stop();
+        }
+
         this.mechanisms.setDriver(this.driver);
 
+        if (TuningConstants.CONTROL_THREAD_ENABLED)
+        {
+            this.controlThread.start();
+        }
+
         if (!this.timerStarted)
         {
             this.timer.start();
@@ -193,20 +226,54 @@ public class CoreRobot<T extends AbstractModule>
      */
     private void generalPeriodic()
     {
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            this.loopTimer.startLoop();
+        }
+
         this.mechanisms.readSensors();
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            this.loopTimer.endPhase(LoopTimer.Phase.ReadSensors);
+        }
 
         this.driver.update();
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            this.loopTimer.endPhase(LoopTimer.Phase.DriverUpdate);
+        }
 
         // run each mechanism
         this.mechanisms.update();
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            this.loopTimer.endPhase(LoopTimer.Phase.MechanismUpdate);
+        }
+
+        if (TuningConstants.CONTROL_THREAD_ENABLED)
+        {
+            this.controlThread.report();
+        }
 
         this.logger.logNumber(LoggingKey.RobotTime, this.timer.get());
         this.logger.update();
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            this.loopTimer.endPhase(LoopTimer.Phase.LoggerUpdate);
+        }
 
-        if (this.loggerUpdates++ > TuningConstants.LOG_FLUSH_THRESHOLD)
+        // (when logging asynchronously, the writer thread flushes periodically on its own)
+        if (!TuningConstants.LOG_ASYNC && this.loggerUpdates++ > TuningConstants.LOG_FLUSH_THRESHOLD)
         {
             // lazily flush the log, in case of power-off.
             this.logger.flush();
+            this.loggerUpdates = 0;
+        }
+
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            // the loop time includes flushing, and the statistics will be written with the next update
+            this.loopTimer.endLoop();
         }
     }
 
@@ -8,6 +8,11 @@ public enum LoggingKey
     RobotState("r.state", true),
     RobotTime("r.time", true),
     RobotMatch("r.match"),
+    RobotSensorReads("r.sensorReads"),
+    RobotSuppressedWrites("r.suppressedWrites"),
+    LoggerDroppedRows("log.droppedRows", true),
+    LoggerKeyframe("log.keyframe", true),
+    LoggerAbsent("log.absent", true),
     DriverIsAuto("driver.isAuto"),
     DriverActiveMacros("driver.activeMacros", true),
     DriverActiveShifts("driver.activeShifts"),
@@ -22,10 +27,14 @@ public enum LoggingKey
     DriveTrainRightVelocityGoal("dt.rightVelocityGoal", true),
     DriveTrainLeftPositionGoal("dt.leftPositionGoal", true),
     DriveTrainRightPositionGoal("dt.rightPositionGoal", true),
+    DriveTrainLeftAccelerationGoal("dt.leftAccelerationGoal", true),
+    DriveTrainRightAccelerationGoal("dt.rightAccelerationGoal", true),
     OffboardVisionX("rpi.x", true),
     OffboardVisionY("rpi.y", true),
     OffboardVisionDistance("rpi.distance", true),
     OffboardVisionHorizontalAngle("rpi.horizontalAngle", true),
+    OffboardVisionFrameId("rpi.frameId"),
+    OffboardVisionLatency("rpi.latency"),
     OffboardVisionEnableVision("rpi.enableVision", true),
     OffboardVisionEnableStream("rpi.enableStream", true),
     OffboardVisionEnableProcessing("rpi.enableProcessing", true),
@@ -34,7 +43,44 @@ public enum LoggingKey
     PositionNavxX("pos.navx_x"),
     PositionNavxY("pos.navx_y"),
     PositionNavxZ("pos.navx_z"),
-    PositionStartingAngle("pos.startingAngle");
+    PositionStartingAngle("pos.startingAngle"),
+    TimingReadSensorsMin("t.readSensors.min"),
+    TimingReadSensorsMean("t.readSensors.mean"),
+    TimingReadSensorsP99("t.readSensors.p99", true),
+    TimingReadSensorsMax("t.readSensors.max", true),
+    TimingDriverUpdateMin("t.driverUpdate.min"),
+    TimingDriverUpdateMean("t.driverUpdate.mean"),
+    TimingDriverUpdateP99("t.driverUpdate.p99", true),
+    TimingDriverUpdateMax("t.driverUpdate.max", true),
+    TimingMechanismUpdateMin("t.mechanismUpdate.min"),
+    TimingMechanismUpdateMean("t.mechanismUpdate.mean"),
+    TimingMechanismUpdateP99("t.mechanismUpdate.p99", true),
+    TimingMechanismUpdateMax("t.mechanismUpdate.max", true),
+    TimingLoggerUpdateMin("t.loggerUpdate.min"),
+    TimingLoggerUpdateMean("t.loggerUpdate.mean"),
+    TimingLoggerUpdateP99("t.loggerUpdate.p99", true),
+    TimingLoggerUpdateMax("t.loggerUpdate.max", true),
+    TimingLoopMin("t.loop.min", true),
+    TimingLoopMean("t.loop.mean", true),
+    TimingLoopP99("t.loop.p99", true),
+    TimingLoopMax("t.loop.max", true),
+    TimingLoopOverruns("t.loop.overruns", true),
+    TimingSlowestMechanism("t.slowestMechanism", true),
+    TimingSlowestMechanismP99("t.slowestMechanism.p99", true),
+    TimingSlowestMechanismMax("t.slowestMechanism.max", true),
+    ControlThreadLoops("t.control.loops", true),
+    ControlThreadOverruns("t.control.overruns", true),
+    ControlThreadMax("t.control.max"),
+    ControlThreadErrors("t.control.errors"),
+    VisionExecutorFrames("t.vision.frames"),
+    VisionExecutorDroppedFrames("t.vision.dropped"),
+    VisionExecutorGrabErrors("t.vision.grabErrors"),
+    VisionExecutorProcessErrors("t.vision.processErrors"),
+    VisionExecutorGrab("t.vision.grab"),
+    VisionExecutorQueue("t.vision.queue"),
+    VisionExecutorProcess("t.vision.process"),
+    VisionExecutorLatency("t.vision.latency"),
+    VisionExecutorAllocations("t.vision.allocations");
 
     public final String value;
     public final boolean shouldLog;
@@ -7,7 +7,10 @@ import com.google.inject.Injector;
 
 import frc.robot.common.*;
 import frc.robot.common.robotprovider.Alliance;
+import frc.robot.common.robotprovider.AsyncLogger;
+import frc.robot.common.robotprovider.BinaryLogger;
 import frc.robot.common.robotprovider.CSVLogger;
+import frc.robot.common.robotprovider.DeltaLogger;
 import frc.robot.common.robotprovider.IDriverStation;
 import frc.robot.common.robotprovider.IFile;
 import frc.robot.common.robotprovider.ILogger;
@@ -33,6 +36,28 @@ public class TuningConstants
     public static final boolean LOG_FILE_ONLY_COMPETITION_MATCHES = false; // true;
     public static final long LOG_FILE_REQUIRED_FREE_SPACE = 50 * 1024 * 1024; // require at least 50 MB of space
     public static final int LOG_FLUSH_THRESHOLD = 25;
+    public static final boolean LOG_FILE_BINARY = true; // use BinaryLogger instead of CSVLogger (convert with BinaryLogConverter)
+    public static final int LOG_BINARY_BUFFER_SIZE = 64 * 1024; // buffer up to 64 KB of rows between flushes
+    public static final boolean LOG_DELTA = true; // only write values that have changed (expand with DeltaLogExpander)
+    public static final int LOG_DELTA_KEYFRAME_FREQUENCY = 50; // write every value once every 50 rows (~1 second)
+    public static final boolean LOG_ASYNC = true; // write the log file from a background thread (see AsyncLogger)
+    public static final int LOG_ASYNC_QUEUE_SIZE = 128; // rows waiting to be written before they are dropped (~2.5 seconds)
+    public static final long LOG_ASYNC_WRITER_PERIOD = 10000000L; // writer thread checks for new rows every 10ms (in nanoseconds)
+    public static final long LOG_ASYNC_FINAL_DRAIN_TIMEOUT = 1000L; // wait up to 1 second for the final drain (in milliseconds)
+
+    // loop timing is a compile-time constant so that the timing code is removed entirely when disabled
+    public static final boolean LOOP_TIMING_ENABLED = false;
+    public static final int LOOP_TIMING_HISTORY_SIZE = 128; // number of recent loops to consider for min/mean/p99/max
+    public static final int LOOP_TIMING_REPORT_FREQUENCY = 50; // report timing statistics every 50 loops (~1 second)
+    public static final long LOOP_TIMING_OVERRUN_THRESHOLD = 20000000L; // 20ms loop budget (in nanoseconds)
+
+    // dedicated thread for running mechanisms' inner control loops faster than the robot loop (see ControlThread and IControlLoop).
+    // it runs in real time, so it shouldn't be enabled when simulating with a virtual clock in the fauxbot.
+    public static final boolean CONTROL_THREAD_ENABLED = false;
+    public static final long CONTROL_THREAD_PERIOD = 5000000L; // 200Hz, matching the drivetrain's 5ms feedback frames (in nanoseconds)
+
+    // motor wrappers skip writes identical to the previous one, but re-send them after this long anyway (0 to send every write)
+    public static final long MOTOR_WRITE_KEEPALIVE_PERIOD = 100000000L; // 100ms (in nanoseconds)
 
     public static final double MAGIC_NULL_VALUE = -1318.0;
 
@@ -74,6 +99,7 @@ public class TuningConstants
             return smartDashboardLogger;
         }
 
+        String extension = TuningConstants.LOG_FILE_BINARY ? "bin" : "csv";
         String eventName = driverStation.getEventName();
         int matchNumber = driverStation.getMatchNumber();
         int replayNumber = driverStation.getReplayNumber();
@@ -100,7 +126,7 @@ public class TuningConstants
                 directory.mkdir();
 
                 file = injector.getInstance(IFile.class);
-                file.open(String.format("/U/other/%1$d.csv", Calendar.getInstance().getTime().getTime()));
+                file.open(String.format("/U/other/%1$d.%2$s", Calendar.getInstance().getTime().getTime(), extension));
                 if (file.exists())
                 {
                     // file already exists
@@ -120,14 +146,15 @@ public class TuningConstants
             file = injector.getInstance(IFile.class);
             String fileName =
                 String.format(
-                    "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.csv",
+                    "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.%8$s",
                     directoryPath,
                     matchType.value,
                     matchNumber,
                     replayNumber == 0 ? "" : String.format("R%1$d", replayNumber),
                     alliance.value,
                     location,
-                    isAuto ? "auto" : "tele");
+                    isAuto ? "auto" : "tele",
+                    extension);
 
             file.open(fileName);
             if (file.exists())
@@ -137,7 +164,7 @@ public class TuningConstants
                     // start adding .2, .3, etc. to the name, a la "/U/2020 - Glacier Peak/Q03 (R2).2.csv"
                     fileName =
                         String.format(
-                            "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.%8$d.csv",
+                            "%1$s%2$s%3$02d%4$s (%5$s%6$d).%7$s.%8$d.%9$s",
                             directoryPath,
                             matchType.value,
                             matchNumber,
@@ -145,7 +172,8 @@ public class TuningConstants
                             alliance.value,
                             location,
                             isAuto ? "auto" : "tele",
-                            i);
+                            i,
+                            extension);
 
                     file.open(fileName);
                     if (!file.exists())
@@ -158,8 +186,27 @@ public class TuningConstants
 
         try
         {
-            CSVLogger csvLogger = new CSVLogger(file.openWriter());
-            return new MultiLogger(csvLogger, smartDashboardLogger);
+            ILogger fileLogger;
+            if (TuningConstants.LOG_FILE_BINARY)
+            {
+                fileLogger = new BinaryLogger(file.openChannel(), TuningConstants.LOG_BINARY_BUFFER_SIZE);
+            }
+            else
+            {
+                fileLogger = new CSVLogger(file.openWriter());
+            }
+
+            if (TuningConstants.LOG_DELTA)
+            {
+                fileLogger = new DeltaLogger(fileLogger, TuningConstants.LOG_DELTA_KEYFRAME_FREQUENCY);
+            }
+
+            if (TuningConstants.LOG_ASYNC)
+            {
+                fileLogger = new AsyncLogger(fileLogger, TuningConstants.LOG_ASYNC_QUEUE_SIZE);
+            }
+
+            return new MultiLogger(fileLogger, smartDashboardLogger);
         }
         catch (IOException ex)
         {
@@ -197,6 +244,9 @@ public class TuningConstants
     public static final double NAVX_FAST_TURN_PID_MIN = -0.8;
     public static final double NAVX_FAST_TURN_PID_MAX = 0.8;
 
+    // Number of recent loops of position/orientation that PositionManager keeps, for looking up where the robot was at a recent time
+    public static final int POSITION_HISTORY_SIZE = 50; // ~1 second
+
     // Kinodynamic constraints for driving with roadrunner
     public static final double ROADRUNNER_TIME_STEP = 0.01;
     public static final double ROADRUNNER_MAX_VELOCITY = 100.0;
@@ -206,8 +256,27 @@ public class TuningConstants
     public static final double ROADRUNNER_MAX_ANGULAR_ACCELERATION = 10.0;
     public static final double ROADRUNNER_MAX_ANGULAR_JERK = 20.0;
 
+    // Cache of loaded/generated paths, so that they don't need to be parsed/generated again on the next boot
+    public static final boolean PATH_CACHE_ENABLED = true;
+    public static final String PATH_CACHE_FILE_PATH = System.getProperty("user.home") + "/paths.bin";
+    public static final int PATH_MAX_LOADED_STEPS = 6000; // ~330KB of path data (each step is 7 doubles)
+    public static final double PATH_RESAMPLE_TIME_STEP = 0.0; // coarser time step to resample loaded paths to (e.g. 0.02 to match the loop), 0.0 to keep ROADRUNNER_TIME_STEP
+    public static final double PATH_GENERATION_TIMEOUT = 2.0; // seconds to wait for a path to be generated on the fly (FollowGeneratedPathTask) before giving up
+
     //================================================= Vision ======================================================
 
+    // Results from the offboard vision processor are ignored once this old (seconds since the frame was captured)
+    public static final double VISION_MAX_RESULT_AGE = 0.5;
+
+    // Convert vision angles into a heading goal using where the robot was facing when the frame was captured (see PositionManager's history)
+    public static final boolean VISION_USE_LATENCY_COMPENSATION = true;
+
+    // Number of released Mats that the OpenCV provider keeps for reuse by the vision pipeline (beyond this they are freed)
+    public static final int VISION_MAT_POOL_SIZE = 16;
+
+    // Longest time (in seconds) that the on-robot vision threads wait for a frame before checking whether they have been stopped (see VisionExecutor)
+    public static final double VISION_FRAME_TIMEOUT = 0.25;
+
     // Acceptable vision centering range values in degrees
     public static final double MAX_VISION_CENTERING_RANGE_DEGREES = 5.0;
     public static final double MAX_VISION_TURRET_CENTERING_RANGE_DEGREES = 1.0;
@@ -261,6 +330,7 @@ public class TuningConstants
 
     // Drivetrain PID keys/default values:
     public static final boolean DRIVETRAIN_USE_PID = true;
+    public static final boolean DRIVETRAIN_USE_CONTROL_THREAD = true; // run the drivetrain's PID on the control thread (when CONTROL_THREAD_ENABLED)
     public static final boolean DRIVETRAIN_USE_CROSS_COUPLING = false;
     public static final boolean DRIVETRAIN_USE_HEADING_CORRECTION = true;
 
@@ -307,6 +377,17 @@ public class TuningConstants
     public static final double DRIVETRAIN_PATH_LEFT_MAX_VELOCITY_INCHES_PER_SECOND = 10.0 * TuningConstants.DRIVETRAIN_VELOCITY_PID_LEFT_KS * HardwareConstants.DRIVETRAIN_LEFT_PULSE_DISTANCE;
     // public static final double DRIVETRAIN_PATH_LEFT_MAX_VELOCITY_INCHES_PER_SECOND = TuningConstants.DRIVETRAIN_VELOCITY_PID_LEFT_KS * HardwareConstants.DRIVETRAIN_LEFT_PULSE_DISTANCE;
 
+    // Path feed-forward, used in path mode (controlling power directly instead of using the motors' velocity PID) when enabled.
+    // power = KS * sign(velocity) + KV * velocity + KA * acceleration, with velocity in inches/second and acceleration in inches/second^2,
+    // so the path position PID only needs to correct for error.  (KV defaults to the equivalent of the path velocity term above)
+    public static final boolean DRIVETRAIN_PATH_USE_FEED_FORWARD = false;
+    public static final double DRIVETRAIN_PATH_FF_LEFT_KS = 0.0;
+    public static final double DRIVETRAIN_PATH_FF_LEFT_KV = 1.0 / TuningConstants.DRIVETRAIN_PATH_LEFT_MAX_VELOCITY_INCHES_PER_SECOND;
+    public static final double DRIVETRAIN_PATH_FF_LEFT_KA = 0.0;
+    public static final double DRIVETRAIN_PATH_FF_RIGHT_KS = 0.0;
+    public static final double DRIVETRAIN_PATH_FF_RIGHT_KV = 1.0 / TuningConstants.DRIVETRAIN_PATH_RIGHT_MAX_VELOCITY_INCHES_PER_SECOND;
+    public static final double DRIVETRAIN_PATH_FF_RIGHT_KA = 0.0;
+
     // Position PID (right)
     public static final double DRIVETRAIN_POSITION_PID_RIGHT_KP = 0.0002;
     public static final double DRIVETRAIN_POSITION_PID_RIGHT_KI = 0.0;
@@ -333,6 +414,10 @@ public class TuningConstants
     public static final double DRIVETRAIN_BRAKE_PID_LEFT_KD = 0.0;
     public static final double DRIVETRAIN_BRAKE_PID_LEFT_KF = 0.0;
 
+    // Path/positional/brake PID integral anti-windup (kb only used for back-calculation)
+    public static final PIDAntiWindup DRIVETRAIN_PID_ANTI_WINDUP = PIDAntiWindup.Clamp;
+    public static final double DRIVETRAIN_PID_ANTI_WINDUP_KB = 1.0;
+
     // Drivetrain choices for one-stick drive
     public static final double DRIVETRAIN_K1 = 1.4;
     public static final double DRIVETRAIN_K2 = 0.5;
@@ -0,0 +1,208 @@
+package frc.robot.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+import frc.robot.common.robotprovider.ILogger;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Dedicated thread that runs the inner control loops of the mechanisms that use it (see IControlLoop) at a fixed rate,
+ * faster than the robot loop, so that their PID can keep up with the motors' feedback frames.
+ *
+ * The control thread only runs while the robot is enabled.  CoreRobot stops it before changing a mechanism's driver or stopping the
+ * mechanisms, so that only one thread ever uses a mechanism's motors and PID handlers at a time.
+ *
+ * If a mechanism's control loop throws, the mechanism is stopped and its control loop isn't run again until the control thread is
+ * restarted (e.g. on the next mode change), rather than retrying it (and reporting the same exception) every iteration.
+ */
+@Singleton
+public class ControlThread
+{
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000.0;
+
+    private final ILogger logger;
+    private final List<IControlLoop> controlLoops;
+    private final boolean[] faulted;
+
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> scheduledLoop;
+
+    // only written by the control thread, and read by the robot loop when reporting
+    private volatile int loopCount;
+    private volatile int overrunCount;
+    private volatile int errorCount;
+    private volatile long maxElapsed;
+
+    /**
+     * Initializes a new ControlThread
+     * @param logger to report statistics to
+     * @param mechanisms whose control loops should be run on the control thread (if they use it)
+     */
+    @Inject
+    public ControlThread(LoggingManager logger, MechanismManager mechanisms)
+    {
+        this.logger = logger;
+
+        this.controlLoops = new ArrayList<IControlLoop>();
+        for (IMechanism mechanism : mechanisms.mechanismList)
+        {
+            if (mechanism instanceof IControlLoop && ((IControlLoop)mechanism).useControlThread())
+            {
+                this.controlLoops.add((IControlLoop)mechanism);
+            }
+        }
+
+        this.faulted = new boolean[this.controlLoops.size()];
+
+        this.loopCount = 0;
+        this.overrunCount = 0;
+        this.errorCount = 0;
+        this.maxElapsed = 0L;
+    }
+
+    /**
+     * Start running the control loops, if they aren't already running (including any that were stopped after throwing)
+     */
+    public void start()
+    {
+        if (this.scheduledLoop != null || this.controlLoops.isEmpty())
+        {
+            return;
+        }
+
+        // the control thread isn't running, so it is safe to clear this here (scheduling the loop publishes it to the control thread)
+        Arrays.fill(this.faulted, false);
+
+        if (this.executor == null)
+        {
+            this.executor = Executors.newSingleThreadScheduledExecutor(
+                runnable ->
+                {
+                    Thread thread = new Thread(runnable, "ControlThread");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MAX_PRIORITY);
+                    return thread;
+                });
+        }
+
+        this.scheduledLoop = this.executor.scheduleAtFixedRate(this::runControlLoops, 0L, TuningConstants.CONTROL_THREAD_PERIOD, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop running the control loops, waiting for an iteration that is in progress to finish
+     */
+    public void stop()
+    {
+        if (this.scheduledLoop == null)
+        {
+            return;
+        }
+
+        this.scheduledLoop.cancel(false);
+        this.scheduledLoop = null;
+
+        try
+        {
+            // the executor only has one thread, so this can't run until any iteration in progress has finished
+            this.executor.submit(
+                () ->
+                {
+                }).get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException ex)
+        {
+            // not possible, as the task doesn't do anything
+        }
+    }
+
+    /**
+     * Log statistics about the control thread (from the robot loop)
+     */
+    public void report()
+    {
+        this.logger.logInteger(LoggingKey.ControlThreadLoops, this.loopCount);
+        this.logger.logInteger(LoggingKey.ControlThreadOverruns, this.overrunCount);
+        this.logger.logInteger(LoggingKey.ControlThreadErrors, this.errorCount);
+        this.logger.logNumber(LoggingKey.ControlThreadMax, this.maxElapsed / ControlThread.NANOSECONDS_PER_MILLISECOND);
+    }
+
+    /**
+     * Gets the number of iterations of the control loops that have been run
+     * @return the number of iterations
+     */
+    public int getLoopCount()
+    {
+        return this.loopCount;
+    }
+
+    /**
+     * Gets the number of times that a control loop has thrown (and its mechanism was stopped)
+     * @return the number of errors
+     */
+    public int getErrorCount()
+    {
+        return this.errorCount;
+    }
+
+    private void runControlLoops()
+    {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < this.controlLoops.size(); i++)
+        {
+            if (this.faulted[i])
+            {
+                continue;
+            }
+
+            IControlLoop controlLoop = this.controlLoops.get(i);
+            try
+            {
+                controlLoop.runControlLoop();
+            }
+            catch (Exception ex)
+            {
+                // throwing would silently cancel the schedule, so stop this mechanism (rather than leaving its motors at their last output)
+                // and keep running the other control loops instead
+                this.faulted[i] = true;
+                this.errorCount++;
+                System.out.println("Encountered exception on control thread, stopping " + controlLoop.getClass().getSimpleName() + ": " + ex.toString());
+                try
+                {
+                    ((IMechanism)controlLoop).stop();
+                }
+                catch (Exception stopEx)
+                {
+                    System.out.println("Encountered exception stopping " + controlLoop.getClass().getSimpleName() + ": " + stopEx.toString());
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - startTime;
+        if (elapsed > this.maxElapsed)
+        {
+            this.maxElapsed = elapsed;
+        }
+
+        if (elapsed > TuningConstants.CONTROL_THREAD_PERIOD)
+        {
+            this.overrunCount++;
+        }
+
+        this.loopCount++;
+    }
+}
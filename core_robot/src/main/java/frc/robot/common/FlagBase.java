@@ -40,6 +40,18 @@ public class FlagBase
         return (this.value & other.value) == other.value;
     }
 
+    /**
+     * Checks whether the intersection of this and the other set of flags is exactly the expected set of flags.
+     * Equivalent to checking whether Intersect(this, other) equals expected, but without allocating a new instance.
+     * @param other set of flags to intersect with
+     * @param expected set of flags the intersection should be equal to
+     * @return true if the intersection is the same as expected
+     */
+    public boolean intersectEquals(FlagBase other, FlagBase expected)
+    {
+        return (this.value & other.value) == expected.value;
+    }
+
     @Override
     public String toString()
     {
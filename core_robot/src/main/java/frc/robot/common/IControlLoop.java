@@ -0,0 +1,21 @@
+package frc.robot.common;
+
+/**
+ * A mechanism with an inner control loop that can be run on the control thread (see ControlThread), at a higher rate than the robot loop.
+ *
+ * The mechanism's update() hands a snapshot of the driver's requests to the control loop, and the control loop publishes its sensor
+ * readings back for the next readSensors(), so that neither thread has to wait on the other.  Logging stays on the robot loop.
+ */
+public interface IControlLoop
+{
+    /**
+     * run one iteration of the inner control loop: read the sensors it needs, calculate the outputs and apply them
+     */
+    public void runControlLoop();
+
+    /**
+     * get whether the inner control loop should be run on the control thread
+     * @return true if the control thread should call runControlLoop, false if the mechanism runs it as part of update
+     */
+    public boolean useControlThread();
+}
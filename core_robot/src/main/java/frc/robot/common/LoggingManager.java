@@ -20,10 +20,16 @@ public class LoggingManager implements ILogger
     }
 
     /**
-     * Refresh the current logger that is being used based on the logger creator function
+     * Refresh the current logger that is being used based on the logger creator function,
+     * flushing the previous logger first so that its rows are written (and an AsyncLogger's writer thread exits) before it is dropped
      */
     public void refresh(Injector injector)
     {
+        if (this.currentLogger != null)
+        {
+            this.currentLogger.flush();
+        }
+
         this.currentLogger = this.loggerCreator.apply(injector);
     }
 
@@ -0,0 +1,164 @@
+package frc.robot.common;
+
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+import frc.robot.common.robotprovider.ILogger;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Loop timer that records how long each phase of the robot's periodic loop takes, as well as each mechanism.
+ *
+ * Timing is only recorded when TuningConstants.LOOP_TIMING_ENABLED is set.  Because that is a compile-time constant,
+ * the calls to this class from CoreRobot and MechanismManager are removed entirely when it is disabled.
+ */
+@Singleton
+public class LoopTimer
+{
+    private static final double NANOSECONDS_PER_MILLISECOND = 1000000.0;
+
+    public enum Phase
+    {
+        ReadSensors(LoggingKey.TimingReadSensorsMin, LoggingKey.TimingReadSensorsMean, LoggingKey.TimingReadSensorsP99, LoggingKey.TimingReadSensorsMax),
+        DriverUpdate(LoggingKey.TimingDriverUpdateMin, LoggingKey.TimingDriverUpdateMean, LoggingKey.TimingDriverUpdateP99, LoggingKey.TimingDriverUpdateMax),
+        MechanismUpdate(LoggingKey.TimingMechanismUpdateMin, LoggingKey.TimingMechanismUpdateMean, LoggingKey.TimingMechanismUpdateP99, LoggingKey.TimingMechanismUpdateMax),
+        LoggerUpdate(LoggingKey.TimingLoggerUpdateMin, LoggingKey.TimingLoggerUpdateMean, LoggingKey.TimingLoggerUpdateP99, LoggingKey.TimingLoggerUpdateMax),
+        Loop(LoggingKey.TimingLoopMin, LoggingKey.TimingLoopMean, LoggingKey.TimingLoopP99, LoggingKey.TimingLoopMax);
+
+        public final LoggingKey minKey;
+        public final LoggingKey meanKey;
+        public final LoggingKey p99Key;
+        public final LoggingKey maxKey;
+
+        private Phase(LoggingKey minKey, LoggingKey meanKey, LoggingKey p99Key, LoggingKey maxKey)
+        {
+            this.minKey = minKey;
+            this.meanKey = meanKey;
+            this.p99Key = p99Key;
+            this.maxKey = maxKey;
+        }
+    }
+
+    private final ILogger logger;
+    private final MechanismManager mechanisms;
+
+    private final Phase[] phases;
+    private final TimingHistory[] phaseTimings;
+
+    private long loopStartTime;
+    private long phaseStartTime;
+    private int loopsSinceReport;
+
+    /**
+     * Initializes a new LoopTimer
+     * @param logger to report timing statistics to
+     * @param mechanisms whose individual timings should be reported
+     */
+    @Inject
+    public LoopTimer(LoggingManager logger, MechanismManager mechanisms)
+    {
+        this.logger = logger;
+        this.mechanisms = mechanisms;
+
+        this.phases = Phase.values();
+        this.phaseTimings = new TimingHistory[this.phases.length];
+        for (Phase phase : this.phases)
+        {
+            long overrunThreshold = Long.MAX_VALUE;
+            if (phase == Phase.Loop)
+            {
+                overrunThreshold = TuningConstants.LOOP_TIMING_OVERRUN_THRESHOLD;
+            }
+
+            this.phaseTimings[phase.ordinal()] = new TimingHistory(TuningConstants.LOOP_TIMING_HISTORY_SIZE, overrunThreshold);
+        }
+
+        this.loopsSinceReport = 0;
+    }
+
+    /**
+     * Mark the beginning of a loop (and of its first phase)
+     */
+    public void startLoop()
+    {
+        this.loopStartTime = System.nanoTime();
+        this.phaseStartTime = this.loopStartTime;
+    }
+
+    /**
+     * Mark the end of a phase within the loop (and the beginning of the next phase)
+     * @param phase that has just completed
+     */
+    public void endPhase(Phase phase)
+    {
+        long currentTime = System.nanoTime();
+        this.phaseTimings[phase.ordinal()].record(currentTime - this.phaseStartTime);
+        this.phaseStartTime = currentTime;
+    }
+
+    /**
+     * Mark the end of the loop, periodically reporting the timing statistics to the logger
+     */
+    public void endLoop()
+    {
+        this.phaseTimings[Phase.Loop.ordinal()].record(System.nanoTime() - this.loopStartTime);
+
+        if (++this.loopsSinceReport >= TuningConstants.LOOP_TIMING_REPORT_FREQUENCY)
+        {
+            this.loopsSinceReport = 0;
+            this.report();
+        }
+    }
+
+    /**
+     * Gets the timing history for the provided phase
+     * @param phase to retrieve
+     * @return the timing history for that phase
+     */
+    public TimingHistory getPhaseTiming(Phase phase)
+    {
+        return this.phaseTimings[phase.ordinal()];
+    }
+
+    /**
+     * Calculate and log the statistics for each phase, and for the slowest mechanism
+     */
+    private void report()
+    {
+        for (Phase phase : this.phases)
+        {
+            TimingHistory timing = this.phaseTimings[phase.ordinal()];
+            timing.calculate();
+
+            this.logger.logNumber(phase.minKey, timing.getMin() / LoopTimer.NANOSECONDS_PER_MILLISECOND);
+            this.logger.logNumber(phase.meanKey, timing.getMean() / LoopTimer.NANOSECONDS_PER_MILLISECOND);
+            this.logger.logNumber(phase.p99Key, timing.getP99() / LoopTimer.NANOSECONDS_PER_MILLISECOND);
+            this.logger.logNumber(phase.maxKey, timing.getMax() / LoopTimer.NANOSECONDS_PER_MILLISECOND);
+        }
+
+        this.logger.logInteger(LoggingKey.TimingLoopOverruns, this.phaseTimings[Phase.Loop.ordinal()].getOverrunCount());
+
+        // find the mechanism with the worst tail latency
+        int slowestIndex = -1;
+        long slowestP99 = -1L;
+        for (int i = 0; i < this.mechanisms.mechanismList.size(); i++)
+        {
+            TimingHistory timing = this.mechanisms.getMechanismTiming(i);
+            timing.calculate();
+            if (timing.getP99() > slowestP99)
+            {
+                slowestIndex = i;
+                slowestP99 = timing.getP99();
+            }
+        }
+
+        if (slowestIndex >= 0)
+        {
+            TimingHistory timing = this.mechanisms.getMechanismTiming(slowestIndex);
+            this.logger.logString(LoggingKey.TimingSlowestMechanism, this.mechanisms.mechanismList.get(slowestIndex).getClass().getSimpleName());
+            this.logger.logNumber(LoggingKey.TimingSlowestMechanismP99, timing.getP99() / LoopTimer.NANOSECONDS_PER_MILLISECOND);
+            this.logger.logNumber(LoggingKey.TimingSlowestMechanismMax, timing.getMax() / LoopTimer.NANOSECONDS_PER_MILLISECOND);
+        }
+    }
+}
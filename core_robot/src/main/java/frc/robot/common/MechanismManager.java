@@ -9,16 +9,43 @@ public class MechanismManager implements IMechanism
 {
     public final List<IMechanism> mechanismList;
 
+    private final TimingHistory[] mechanismTimings;
+    private final long[] mechanismElapsed;
+
     public MechanismManager(List<IMechanism> mechanismList)
     {
         this.mechanismList = mechanismList;
+
+        if (TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            int mechanismCount = this.mechanismList.size();
+            this.mechanismTimings = new TimingHistory[mechanismCount];
+            for (int i = 0; i < mechanismCount; i++)
+            {
+                this.mechanismTimings[i] = new TimingHistory(TuningConstants.LOOP_TIMING_HISTORY_SIZE, TuningConstants.LOOP_TIMING_OVERRUN_THRESHOLD);
+            }
+
+            this.mechanismElapsed = new long[mechanismCount];
+        }
+        else
+        {
+            this.mechanismTimings = null;
+            this.mechanismElapsed = null;
+        }
     }
 
     @Override
     public void readSensors()
     {
-        for (IMechanism mechanism : this.mechanismList)
+        for (int i = 0; i < this.mechanismList.size(); i++)
         {
+            IMechanism mechanism = this.mechanismList.get(i);
+            long startTime = 0L;
+            if (TuningConstants.LOOP_TIMING_ENABLED)
+            {
+                startTime = System.nanoTime();
+            }
+
             try
             {
                 mechanism.readSensors();
@@ -31,14 +58,26 @@ public class MechanismManager implements IMechanism
                     throw ex;
                 }
             }
+
+            if (TuningConstants.LOOP_TIMING_ENABLED)
+            {
+                this.mechanismElapsed[i] = System.nanoTime() - startTime;
+            }
         }
     }
 
     @Override
     public void update()
     {
-        for (IMechanism mechanism : this.mechanismList)
+        for (int i = 0; i < this.mechanismList.size(); i++)
         {
+            IMechanism mechanism = this.mechanismList.get(i);
+            long startTime = 0L;
+            if (TuningConstants.LOOP_TIMING_ENABLED)
+            {
+                startTime = System.nanoTime();
+            }
+
             try
             {
                 mechanism.update();
@@ -51,6 +90,13 @@ public class MechanismManager implements IMechanism
                     throw ex;
                 }
             }
+
+            if (TuningConstants.LOOP_TIMING_ENABLED)
+            {
+                // a mechanism's time for the loop is the time spent in both readSensors() and update()
+                this.mechanismElapsed[i] += System.nanoTime() - startTime;
+                this.mechanismTimings[i].record(this.mechanismElapsed[i]);
+            }
         }
     }
 
@@ -82,4 +128,19 @@ public class MechanismManager implements IMechanism
             mechanism.setDriver(driver);
         }
     }
+
+    /**
+     * Gets the timing history for the mechanism at the provided index within the mechanism list
+     * @param index of the mechanism
+     * @return the timing history for the mechanism, or null if loop timing is disabled
+     */
+    public TimingHistory getMechanismTiming(int index)
+    {
+        if (!TuningConstants.LOOP_TIMING_ENABLED)
+        {
+            return null;
+        }
+
+        return this.mechanismTimings[index];
+    }
 }
@@ -0,0 +1,16 @@
+package frc.robot.common;
+
+/**
+ * How PIDCalculator keeps its integral from winding up while the output is limited by the output range
+ */
+public enum PIDAntiWindup
+{
+    // let the integral grow without limit
+    None,
+
+    // limit the integral term itself to the output range (as PIDHandler does)
+    Clamp,
+
+    // remove the amount that the output went past the output range from the integral (scaled by kb)
+    BackCalculation;
+}
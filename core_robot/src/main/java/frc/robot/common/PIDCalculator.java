@@ -0,0 +1,299 @@
+package frc.robot.common;
+
+/**
+ * This class is a PID calculator with a feed-forward term, complementary filters and integral anti-windup.
+ *
+ * It calculates the same way as PIDHandler, but is meant for control loops that run every loop (or faster):
+ *      everything is stored as primitives, so calculating never allocates
+ *      the caller provides the timestamp, so one timestamp can be shared by everything that runs in the same loop
+ *      the gains and output range can be changed in place (see configure), so switching modes doesn't create a new calculator
+ *
+ * To use PID control:
+ *      configure the kp/ki/kd/kf tuning values and the output range
+ *      calculate output based on the setpoint, measured value and current time regularly
+ *      reset whenever the calculator starts being used again for a new goal
+ *
+ * for reference:
+ *      http://en.wikipedia.org/wiki/PID_controller
+ *      http://en.wikipedia.org/wiki/Integral_windup
+ */
+public class PIDCalculator
+{
+    // constants
+    private static final double MinTimeStep = 0.001;
+
+    // instance PIDFS constants
+    private double kp;        // proportion for proportional
+    private double ki;        // proportion for integral
+    private double kd;        // proportion for derivative
+    private double kf;        // proportion for feed-forward
+    private double ks;        // multiplicand for adjusting scale of setpoint to match scale of measured value
+
+    // output range (infinite when there is no limit)
+    private double minOutput;
+    private double maxOutput;
+
+    // anti-windup
+    private PIDAntiWindup antiWindup;
+    private double kb;        // proportion of the saturated output to remove from the integral when using back-calculation
+
+    // complementary filters (old value and new value multipliers) for the error and output
+    private double kEO;
+    private double kEN;
+    private double kO;
+    private double kN;
+
+    // instance variables
+    private double integral;            // integral of error data in memory
+    private double prevMeasuredValue;   // the previous measured value
+    private double prevTime;            // the timestamp of our previous measurement, or NaN if there hasn't been one since reset
+    private double prevError;           // the (filtered) error during our previous measurement
+    private double output;              // the (filtered) output we wish to set after our calculation
+
+    /**
+     * Initializes a new PIDCalculator with no output range and no complementary filters, clamping the integral to the output range
+     *
+     * @param kp scalar for proportional component
+     * @param ki scalar for integral component
+     * @param kd scalar for derivative component
+     * @param kf scalar for feed-forward control
+     * @param ks scalar for adjusting scale difference between measured value and setpoint value
+     */
+    public PIDCalculator(double kp, double ki, double kd, double kf, double ks)
+    {
+        this.configure(kp, ki, kd, kf, ks, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        this.setFilters(0.0, 1.0, 0.0, 1.0);
+        this.setAntiWindup(PIDAntiWindup.Clamp, 0.0);
+        this.reset();
+    }
+
+    /**
+     * Change the gains and output range in place, keeping the current state (integral, previous error, etc.).
+     * Call reset as well when the calculator is being switched to a new goal.
+     *
+     * @param kp scalar for proportional component
+     * @param ki scalar for integral component
+     * @param kd scalar for derivative component
+     * @param kf scalar for feed-forward control
+     * @param ks scalar for adjusting scale difference between measured value and setpoint value
+     * @param minOutput the minimum output value acceptable, or Double.NEGATIVE_INFINITY for no minimum
+     * @param maxOutput the maximum output value acceptable, or Double.POSITIVE_INFINITY for no maximum
+     */
+    public void configure(double kp, double ki, double kd, double kf, double ks, double minOutput, double maxOutput)
+    {
+        if (minOutput > maxOutput)
+        {
+            throw new IllegalArgumentException("expected the minimum output (" + minOutput + ") to be no more than the maximum output (" + maxOutput + ")");
+        }
+
+        this.kp = kp;
+        this.ki = ki;
+        this.kd = kd;
+        this.kf = kf;
+        this.ks = ks;
+        this.minOutput = minOutput;
+        this.maxOutput = maxOutput;
+    }
+
+    /**
+     * Set the complementary filters used to slow ramp-up/ramp-down (0.0 and 1.0 for no filtering)
+     *
+     * @param kO scalar for output complementary filter multiplier (old value)
+     * @param kN scalar for output complementary filter multiplier (new value)
+     * @param kEO scalar for error complementary filter multiplier (old value)
+     * @param kEN scalar for error complementary filter multiplier (new value)
+     */
+    public void setFilters(double kO, double kN, double kEO, double kEN)
+    {
+        this.kO = kO;
+        this.kN = kN;
+        this.kEO = kEO;
+        this.kEN = kEN;
+    }
+
+    /**
+     * Set how the integral is kept from winding up while the output is limited by the output range
+     *
+     * @param antiWindup the anti-windup method to use
+     * @param kb for back-calculation, the proportion of the amount that the output went past the output range to remove from the
+     * integral term each calculation (1.0 removes all of it), otherwise ignored
+     */
+    public void setAntiWindup(PIDAntiWindup antiWindup, double kb)
+    {
+        this.antiWindup = antiWindup;
+        this.kb = kb;
+    }
+
+    /**
+     * Calculate the desired output value based on the history, setpoint, and measured value.
+     * measuredValue should be in the same unit as the setpoint.  This method should be called in a loop and fed feedback data and
+     * setpoint changes.  Like PIDHandler, the integral and derivative are per calculation rather than per second.
+     *
+     * @param setpoint describes the goal value
+     * @param measuredValue describes the measured value
+     * @param time the current time, in seconds
+     *
+     * @return output value to be used
+     */
+    public double calculatePosition(double setpoint, double measuredValue, double time)
+    {
+        double dt = this.updateTime(measuredValue, time);
+        if (dt > 0.0)
+        {
+            this.calculate(setpoint, setpoint - measuredValue, measuredValue, 1.0, 1.0);
+        }
+
+        return this.output;
+    }
+
+    /**
+     * Calculate the desired output value based on the setpoint and measured value.
+     * measuredValue should be in the same unit as the setpoint, typically a rate of change of something over time.
+     * This method should be called in a loop and fed feedback data and setpoint changes
+     *
+     * @param setpoint describes the goal velocity value
+     * @param measuredValue describes the measured value
+     * @param time the current time, in seconds
+     *
+     * @return output value to be used
+     */
+    public double calculateVelocity(double setpoint, double measuredValue, double time)
+    {
+        double dt = this.updateTime(measuredValue, time);
+        if (dt > 0.0)
+        {
+            this.calculate(setpoint, this.ks * setpoint - measuredValue, measuredValue, dt, 1.0 / dt);
+        }
+
+        return this.output;
+    }
+
+    /**
+     * Calculate the desired output value based on the history, setpoint, and measured value.
+     * measuredValue should be in a different unit than the setpoint, where the setpoint is the rate of change
+     * of something over time, whereas the measured value is of the current "something" that is changing.
+     * This method should be called in a loop and fed feedback data and setpoint changes
+     *
+     * @param setpoint describes the goal velocity value
+     * @param measuredValue describes the measured value, where the measured value is the ticks on the encoder
+     * @param time the current time, in seconds
+     *
+     * @return output value to be used
+     */
+    public double calculateVelocityByTicks(double setpoint, double measuredValue, double time)
+    {
+        double prevMeasuredValue = this.prevMeasuredValue;
+        double dt = this.updateTime(measuredValue, time);
+        if (dt > 0.0)
+        {
+            // calculate change in ticks since our last measurement, per 20ms
+            double deltaX = measuredValue - prevMeasuredValue;
+            double timeRatio = 0.02 / dt;
+
+            this.calculate(setpoint, this.ks * setpoint - deltaX * timeRatio, measuredValue, dt, 1.0 / dt);
+        }
+
+        return this.output;
+    }
+
+    public double getCurrentOutput()
+    {
+        return this.output;
+    }
+
+    public double getError()
+    {
+        return this.prevError;
+    }
+
+    public double getIntegral()
+    {
+        return this.integral;
+    }
+
+    /**
+     * Clear the history, so that the next calculation starts over (its output will be 0.0, as it only records the time)
+     */
+    public void reset()
+    {
+        this.integral = 0.0;
+        this.prevMeasuredValue = 0.0;
+        this.prevTime = Double.NaN;
+        this.prevError = 0.0;
+        this.output = 0.0;
+    }
+
+    /**
+     * Update the timestamp of the previous measurement, if enough time has passed to calculate again
+     * @param measuredValue describes the measured value
+     * @param time the current time, in seconds
+     * @return the amount of time since the previous measurement, or 0.0 if we shouldn't calculate again yet
+     */
+    private double updateTime(double measuredValue, double time)
+    {
+        if (Double.isNaN(this.prevTime))
+        {
+            // first measurement since reset - there's nothing to compare it to yet
+            this.prevTime = time;
+            this.prevMeasuredValue = measuredValue;
+            return 0.0;
+        }
+
+        // To prevent division by zero and over-aggressive measurement, output updates at a max of 1kHz
+        double dt = time - this.prevTime;
+        if (dt < PIDCalculator.MinTimeStep)
+        {
+            return 0.0;
+        }
+
+        this.prevTime = time;
+        return dt;
+    }
+
+    /**
+     * Calculate and store the output
+     * @param setpoint describes the goal value (for feed-forward)
+     * @param rawError the difference between the setpoint and the measured value, before filtering
+     * @param measuredValue describes the measured value
+     * @param integralScale the amount to scale the error by when adding it to the integral
+     * @param derivativeScale the amount to scale the change in error by for the derivative
+     */
+    private void calculate(double setpoint, double rawError, double measuredValue, double integralScale, double derivativeScale)
+    {
+        double error = this.prevError * this.kEO + rawError * this.kEN;
+
+        this.integral += error * integralScale;
+        if (this.antiWindup == PIDAntiWindup.Clamp && this.ki != 0.0)
+        {
+            // limit the integral term to the output range
+            double integralTerm = this.ki * this.integral;
+            if (integralTerm > this.maxOutput)
+            {
+                this.integral = this.maxOutput / this.ki;
+            }
+            else if (integralTerm < this.minOutput)
+            {
+                this.integral = this.minOutput / this.ki;
+            }
+        }
+
+        double derivative = (error - this.prevError) * derivativeScale;
+        this.prevError = error;
+
+        double result = this.kp * error +   // proportional
+            this.ki * this.integral +       // integral
+            this.kd * derivative +          // derivative
+            this.kf * setpoint;             // feed-forward
+
+        double limitedResult = Helpers.EnforceRange(result, this.minOutput, this.maxOutput);
+        if (this.antiWindup == PIDAntiWindup.BackCalculation && this.ki != 0.0 && limitedResult != result)
+        {
+            // remove (some of) the amount that we went past the output range from the integral
+            this.integral += this.kb * (limitedResult - result) / this.ki;
+        }
+
+        // apply complementary filter to slow ramp-up/ramp-down
+        this.output = this.output * this.kO + limitedResult * this.kN;
+        this.prevMeasuredValue = measuredValue;
+    }
+}
@@ -0,0 +1,169 @@
+package frc.robot.common;
+
+/**
+ * Fixed-size ring buffer of timestamped poses (x, y and angle) that can look up where the robot was at a recent time, interpolating
+ * between the poses recorded on either side of it.
+ * All of the storage is allocated up-front (as parallel primitive arrays) so that recording and looking up poses doesn't allocate.
+ */
+public class PoseHistory
+{
+    private final double[] times;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] angles;
+
+    private int nextIndex;
+    private int count;
+
+    /**
+     * Initializes a new PoseHistory
+     * @param capacity the number of recent poses to keep
+     */
+    public PoseHistory(int capacity)
+    {
+        this.times = new double[capacity];
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.angles = new double[capacity];
+
+        this.reset();
+    }
+
+    /**
+     * Record a new pose, replacing the oldest pose if the history is full.
+     * Poses must be recorded in time order, so a pose at the same time as the newest pose replaces it instead, and a pose from before the
+     * newest pose (e.g. after the timer was reset when the robot was disabled) clears the history first.
+     * @param time of the pose, in seconds
+     * @param x position
+     * @param y position
+     * @param angle the (continuous, not wrapped) angle, in degrees
+     */
+    public void record(double time, double x, double y, double angle)
+    {
+        if (this.count > 0 && time < this.times[this.getIndex(this.count - 1)])
+        {
+            // the lookups rely on the poses being in time order, so the older poses can't be kept
+            this.reset();
+        }
+
+        int index = this.nextIndex;
+        if (this.count > 0 && !(time > this.times[this.getIndex(this.count - 1)]))
+        {
+            index = this.getIndex(this.count - 1);
+        }
+        else
+        {
+            this.nextIndex = (this.nextIndex + 1) % this.times.length;
+            if (this.count < this.times.length)
+            {
+                this.count++;
+            }
+        }
+
+        this.times[index] = time;
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.angles[index] = angle;
+    }
+
+    /**
+     * Gets the x position at a time, interpolating between the poses on either side of it
+     * @param time to look up, in seconds.  Times before the oldest pose or after the newest pose give the oldest or newest pose.
+     * @return the x position, or NaN if the history is empty
+     */
+    public double getX(double time)
+    {
+        return this.interpolate(this.xs, time);
+    }
+
+    /**
+     * Gets the y position at a time, interpolating between the poses on either side of it
+     * @param time to look up, in seconds.  Times before the oldest pose or after the newest pose give the oldest or newest pose.
+     * @return the y position, or NaN if the history is empty
+     */
+    public double getY(double time)
+    {
+        return this.interpolate(this.ys, time);
+    }
+
+    /**
+     * Gets the angle at a time, interpolating between the poses on either side of it
+     * @param time to look up, in seconds.  Times before the oldest pose or after the newest pose give the oldest or newest pose.
+     * @return the angle in degrees, or NaN if the history is empty
+     */
+    public double getAngle(double time)
+    {
+        return this.interpolate(this.angles, time);
+    }
+
+    public int getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Clear the history
+     */
+    public void reset()
+    {
+        this.nextIndex = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Interpolate one of the values at a time
+     * @param values to interpolate between
+     * @param time to look up, in seconds
+     * @return the interpolated value, or NaN if the history is empty
+     */
+    private double interpolate(double[] values, double time)
+    {
+        if (this.count == 0)
+        {
+            return Double.NaN;
+        }
+
+        int oldestIndex = this.getIndex(0);
+        if (!(time > this.times[oldestIndex]))
+        {
+            return values[oldestIndex];
+        }
+
+        int newestIndex = this.getIndex(this.count - 1);
+        if (time >= this.times[newestIndex])
+        {
+            return values[newestIndex];
+        }
+
+        // binary search for the last pose at or before the time (the pose after it is then after the time)
+        int low = 0;
+        int high = this.count - 1;
+        while (high - low > 1)
+        {
+            int middle = (low + high) >>> 1;
+            if (this.times[this.getIndex(middle)] <= time)
+            {
+                low = middle;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+
+        int before = this.getIndex(low);
+        int after = this.getIndex(high);
+        double ratio = (time - this.times[before]) / (this.times[after] - this.times[before]);
+        return values[before] + ratio * (values[after] - values[before]);
+    }
+
+    /**
+     * Gets the index in the arrays of a pose
+     * @param age the position of the pose within the history, from 0 for the oldest pose
+     * @return the index in the arrays
+     */
+    private int getIndex(int age)
+    {
+        return (this.nextIndex - this.count + age + this.times.length) % this.times.length;
+    }
+}
@@ -3,8 +3,21 @@ package frc.robot.common;
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Helpers for set operations.
+ *
+ * In addition to the general-purpose operations on Sets (which allocate a new HashSet for their result), this provides operations on bit sets
+ * for sets drawn from a fixed universe, such as the values of an enum (e.g. MacroOperation, DigitalOperation, AnalogOperation).
+ * A bit set is a long[] (created with CreateBitSet) where bit i is set when the item with index (typically ordinal) i is in the set.
+ * The bit set operations never allocate, so they can be used within the robot's loop.  Each operation has an in-place variant
+ * (e.g. UnionWith) and a variant that writes its result into a provided destination (e.g. Union).  To iterate over a bit set:
+ * for (int i = SetHelper.NextSetBit(set, 0); i >= 0; i = SetHelper.NextSetBit(set, i + 1))
+ */
 public class SetHelper
 {
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << SetHelper.ADDRESS_BITS_PER_WORD;
+
     /**
      * Generate a set that represents the intersection of the two provided sets.
      * Selects all of the items that exist in both the left and the right set (inner join)
@@ -55,4 +68,274 @@ public class SetHelper
         result.removeAll(notIn);
         return result;
     }
+
+    /**
+     * Create an empty bit set that can hold items from a universe of the provided size
+     * @param universeSize the number of possible items (e.g. the number of values of an enum)
+     * @return an empty bit set
+     */
+    public static long[] CreateBitSet(int universeSize)
+    {
+        return new long[(universeSize + SetHelper.BITS_PER_WORD - 1) >>> SetHelper.ADDRESS_BITS_PER_WORD];
+    }
+
+    /**
+     * Create an empty bit set that can hold the values of the provided enum
+     * @param enumClass the enum that makes up the universe of items
+     * @return an empty bit set
+     */
+    public static <E extends Enum<E>> long[] CreateBitSet(Class<E> enumClass)
+    {
+        return SetHelper.CreateBitSet(enumClass.getEnumConstants().length);
+    }
+
+    /**
+     * Add the item with the provided index to the bit set
+     * @param set to add to
+     * @param index of the item
+     */
+    public static void Add(long[] set, int index)
+    {
+        set[index >>> SetHelper.ADDRESS_BITS_PER_WORD] |= 1L << index;
+    }
+
+    /**
+     * Add the enum value to the bit set
+     * @param set to add to
+     * @param item to add
+     */
+    public static void Add(long[] set, Enum<?> item)
+    {
+        SetHelper.Add(set, item.ordinal());
+    }
+
+    /**
+     * Remove the item with the provided index from the bit set
+     * @param set to remove from
+     * @param index of the item
+     */
+    public static void Remove(long[] set, int index)
+    {
+        set[index >>> SetHelper.ADDRESS_BITS_PER_WORD] &= ~(1L << index);
+    }
+
+    /**
+     * Remove the enum value from the bit set
+     * @param set to remove from
+     * @param item to remove
+     */
+    public static void Remove(long[] set, Enum<?> item)
+    {
+        SetHelper.Remove(set, item.ordinal());
+    }
+
+    /**
+     * Check whether the item with the provided index is in the bit set
+     * @param set to check
+     * @param index of the item
+     * @return true if the item is in the set
+     */
+    public static boolean Contains(long[] set, int index)
+    {
+        return (set[index >>> SetHelper.ADDRESS_BITS_PER_WORD] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Check whether the enum value is in the bit set
+     * @param set to check
+     * @param item to check
+     * @return true if the item is in the set
+     */
+    public static boolean Contains(long[] set, Enum<?> item)
+    {
+        return SetHelper.Contains(set, item.ordinal());
+    }
+
+    /**
+     * Remove all of the items from the bit set
+     * @param set to clear
+     */
+    public static void Clear(long[] set)
+    {
+        for (int i = 0; i < set.length; i++)
+        {
+            set[i] = 0L;
+        }
+    }
+
+    /**
+     * Check whether the bit set is empty
+     * @param set to check
+     * @return true if there are no items in the set
+     */
+    public static boolean IsEmpty(long[] set)
+    {
+        for (int i = 0; i < set.length; i++)
+        {
+            if (set[i] != 0L)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Count the number of items in the bit set
+     * @param set to count
+     * @return the number of items in the set
+     */
+    public static int Count(long[] set)
+    {
+        int count = 0;
+        for (int i = 0; i < set.length; i++)
+        {
+            count += Long.bitCount(set[i]);
+        }
+
+        return count;
+    }
+
+    /**
+     * Check whether the two bit sets contain the same items
+     * @param left set to compare
+     * @param right set to compare
+     * @return true if the sets contain the same items
+     */
+    public static boolean SetEquals(long[] left, long[] right)
+    {
+        for (int i = 0; i < left.length; i++)
+        {
+            if (left[i] != right[i])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copy the items of one bit set into another
+     * @param source set to copy from
+     * @param destination set to copy into (replacing its items)
+     */
+    public static void Copy(long[] source, long[] destination)
+    {
+        System.arraycopy(source, 0, destination, 0, source.length);
+    }
+
+    /**
+     * Get the index of the next item in the bit set, starting from the provided index
+     * @param set to search
+     * @param fromIndex the index to start searching from (inclusive)
+     * @return the index of the next item in the set, or -1 if there are no more items
+     */
+    public static int NextSetBit(long[] set, int fromIndex)
+    {
+        int wordIndex = fromIndex >>> SetHelper.ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= set.length)
+        {
+            return -1;
+        }
+
+        long word = set[wordIndex] & (-1L << fromIndex);
+        while (word == 0L)
+        {
+            wordIndex++;
+            if (wordIndex >= set.length)
+            {
+                return -1;
+            }
+
+            word = set[wordIndex];
+        }
+
+        return (wordIndex << SetHelper.ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Update the target bit set to contain only the items that also exist in the other set (inner join)
+     * @param target set to update
+     * @param other set to intersect with
+     */
+    public static void IntersectWith(long[] target, long[] other)
+    {
+        for (int i = 0; i < target.length; i++)
+        {
+            target[i] &= other[i];
+        }
+    }
+
+    /**
+     * Update the target bit set to also contain all of the items in the other set (outer join)
+     * @param target set to update
+     * @param other set to union with
+     */
+    public static void UnionWith(long[] target, long[] other)
+    {
+        for (int i = 0; i < target.length; i++)
+        {
+            target[i] |= other[i];
+        }
+    }
+
+    /**
+     * Update the target bit set to remove all of the items in the other set (the relative complement of other with respect to target)
+     * @param target set to update
+     * @param other set of items that should be removed
+     */
+    public static void ExceptWith(long[] target, long[] other)
+    {
+        for (int i = 0; i < target.length; i++)
+        {
+            target[i] &= ~other[i];
+        }
+    }
+
+    /**
+     * Calculate the intersection of the two provided bit sets into the result set.
+     * Selects all of the items that exist in both the left and the right set (inner join)
+     * @param left set to perform the inner join
+     * @param right set to perform the inner join
+     * @param result set to write the items that exist in both the left and the right set into (may be left or right)
+     */
+    public static void Intersection(long[] left, long[] right, long[] result)
+    {
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = left[i] & right[i];
+        }
+    }
+
+    /**
+     * Calculate the union of the two provided bit sets into the result set.
+     * Selects all of the items that appear in either the left or the right set (outer join)
+     * @param left set to perform the outer join
+     * @param right set to perform the outer join
+     * @param result set to write the items that exist in either the left or the right set into (may be left or right)
+     */
+    public static void Union(long[] left, long[] right, long[] result)
+    {
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = left[i] | right[i];
+        }
+    }
+
+    /**
+     * Calculate the relative complement of notIn with respect to in into the result set.
+     * Selects all of the items that appear in "in" but not in "notIn"
+     * @param notIn set of items that should not be included in the result
+     * @param in set of items that may be included in the result
+     * @param result set to write the items of "in" that are not in "notIn" into (may be notIn or in)
+     */
+    public static void RelativeComplement(long[] notIn, long[] in, long[] result)
+    {
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = in[i] & ~notIn[i];
+        }
+    }
 }
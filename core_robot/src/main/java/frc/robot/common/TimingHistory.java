@@ -0,0 +1,159 @@
+package frc.robot.common;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring buffer of timing samples (in nanoseconds) that can summarize its recent history.
+ * All of the storage is allocated up-front so that recording and summarizing samples doesn't allocate.
+ */
+public class TimingHistory
+{
+    private static final double PERCENTILE_99 = 0.99;
+
+    private final long[] samples;
+    private final long[] sortedSamples;
+    private final long overrunThreshold;
+
+    private int nextIndex;
+    private int count;
+    private int overrunCount;
+
+    private long min;
+    private long mean;
+    private long p99;
+    private long max;
+
+    /**
+     * Initializes a new TimingHistory
+     * @param capacity the number of recent samples to keep
+     * @param overrunThreshold the elapsed time (in nanoseconds) above which a sample is considered an overrun
+     */
+    public TimingHistory(int capacity, long overrunThreshold)
+    {
+        this.samples = new long[capacity];
+        this.sortedSamples = new long[capacity];
+        this.overrunThreshold = overrunThreshold;
+
+        this.reset();
+    }
+
+    /**
+     * Record a new sample, replacing the oldest sample if the history is full
+     * @param elapsed time in nanoseconds
+     */
+    public void record(long elapsed)
+    {
+        this.samples[this.nextIndex] = elapsed;
+        this.nextIndex = (this.nextIndex + 1) % this.samples.length;
+        if (this.count < this.samples.length)
+        {
+            this.count++;
+        }
+
+        if (elapsed > this.overrunThreshold)
+        {
+            this.overrunCount++;
+        }
+    }
+
+    /**
+     * Calculate the min/mean/p99/max of the samples currently in the history
+     */
+    public void calculate()
+    {
+        if (this.count == 0)
+        {
+            this.min = 0L;
+            this.mean = 0L;
+            this.p99 = 0L;
+            this.max = 0L;
+            return;
+        }
+
+        // until the buffer wraps, the samples occupy the beginning of the array
+        System.arraycopy(this.samples, 0, this.sortedSamples, 0, this.count);
+        Arrays.sort(this.sortedSamples, 0, this.count);
+
+        long sum = 0L;
+        for (int i = 0; i < this.count; i++)
+        {
+            sum += this.sortedSamples[i];
+        }
+
+        int p99Index = (int)Math.ceil(this.count * TimingHistory.PERCENTILE_99) - 1;
+
+        this.min = this.sortedSamples[0];
+        this.mean = sum / this.count;
+        this.p99 = this.sortedSamples[p99Index];
+        this.max = this.sortedSamples[this.count - 1];
+    }
+
+    /**
+     * Clear all of the samples and statistics
+     */
+    public void reset()
+    {
+        this.nextIndex = 0;
+        this.count = 0;
+        this.overrunCount = 0;
+
+        this.min = 0L;
+        this.mean = 0L;
+        this.p99 = 0L;
+        this.max = 0L;
+    }
+
+    /**
+     * Gets the number of samples currently in the history
+     * @return number of samples
+     */
+    public int getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Gets the number of samples that exceeded the overrun threshold since the last reset
+     * @return number of overruns
+     */
+    public int getOverrunCount()
+    {
+        return this.overrunCount;
+    }
+
+    /**
+     * Gets the minimum sample as of the last calculation
+     * @return minimum in nanoseconds
+     */
+    public long getMin()
+    {
+        return this.min;
+    }
+
+    /**
+     * Gets the mean sample as of the last calculation
+     * @return mean in nanoseconds
+     */
+    public long getMean()
+    {
+        return this.mean;
+    }
+
+    /**
+     * Gets the 99th percentile sample as of the last calculation
+     * @return 99th percentile in nanoseconds
+     */
+    public long getP99()
+    {
+        return this.p99;
+    }
+
+    /**
+     * Gets the maximum sample as of the last calculation
+     * @return maximum in nanoseconds
+     */
+    public long getMax()
+    {
+        return this.max;
+    }
+}
@@ -0,0 +1,432 @@
+package frc.robot.common;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+import frc.robot.common.robotprovider.*;
+
+/**
+ * Runs a vision pipeline on the frames from a camera, always processing the newest frame and dropping any frame that was replaced by a
+ * newer one before the pipeline got to it (instead of letting slow frames queue up behind each other like WPILib's VisionThread).
+ *
+ * A capture thread grabs frames into one of three preallocated frames and swaps it into a single pending slot, and a processing thread
+ * swaps the pending frame out whenever it has finished the previous one.  Each side only ever touches the frames it owns, so neither
+ * thread takes a lock.  The targets found in each frame are published to the robot loop as an immutable VisionResult (with its capture
+ * time and latency), and the time spent in each stage of the most recent frame is kept for reporting.
+ *
+ * The pipeline can optionally be restricted to a region of interest within the frame, in which case the targets are converted back to
+ * the coordinates of the full frame before they are published.
+ */
+public class VisionExecutor<P extends IVisionPipeline>
+{
+    private static final double NANOSECONDS_PER_SECOND = 1000000000.0;
+    private static final double MILLISECONDS_PER_SECOND = 1000.0;
+    private static final double MICROSECONDS_PER_SECOND = 1000000.0;
+
+    private final ILogger logger;
+    private final IUsbCamera camera;
+    private final IOpenCVProvider openCVProvider;
+    private final ITimer timer;
+    private final P pipeline;
+    private final IVisionTargetReader<P> targetReader;
+
+    private final AtomicReference<Frame> pendingFrame;
+
+    private volatile boolean stopRequested;
+    private volatile VisionResult latestResult;
+    private volatile int[] regionOfInterest;
+    private Thread captureThread;
+    private Thread processingThread;
+
+    // owned by the capture thread
+    private Frame captureFrame;
+    private int nextFrameId;
+    private volatile int frameCount;
+    private volatile int droppedFrameCount;
+    private volatile int grabErrorCount;
+
+    // owned by the processing thread
+    private Frame processingFrame;
+    private volatile double grabDuration;
+    private volatile double queueDuration;
+    private volatile double processDuration;
+    private volatile double latency;
+    private volatile int allocationCount;
+    private volatile int processErrorCount;
+
+    /**
+     * Initializes a new VisionExecutor
+     * @param logger to report statistics to
+     * @param camera to grab frames from
+     * @param openCVProvider to allocate the frames from
+     * @param timer to time the frames with (the same timer as the rest of the robot, so capture times can be compared with the pose history)
+     * @param pipeline to process each frame with (only ever used from the processing thread)
+     * @param targetReader to read the targets from the pipeline after it processes a frame
+     */
+    public VisionExecutor(
+        LoggingManager logger,
+        IUsbCamera camera,
+        IOpenCVProvider openCVProvider,
+        ITimer timer,
+        P pipeline,
+        IVisionTargetReader<P> targetReader)
+    {
+        this.logger = logger;
+        this.camera = camera;
+        this.openCVProvider = openCVProvider;
+        this.timer = timer;
+        this.pipeline = pipeline;
+        this.targetReader = targetReader;
+
+        this.pendingFrame = new AtomicReference<Frame>();
+        this.acquireFrames();
+
+        this.stopRequested = false;
+        this.latestResult = null;
+        this.regionOfInterest = null;
+        this.nextFrameId = 0;
+        this.frameCount = 0;
+        this.droppedFrameCount = 0;
+        this.grabErrorCount = 0;
+        this.grabDuration = 0.0;
+        this.queueDuration = 0.0;
+        this.processDuration = 0.0;
+        this.latency = 0.0;
+        this.allocationCount = 0;
+        this.processErrorCount = 0;
+    }
+
+    /**
+     * Start the capture and processing threads, if they aren't already running (or still finishing after being stopped)
+     */
+    public void start()
+    {
+        if (this.captureThread != null)
+        {
+            if (this.captureThread.isAlive() || this.processingThread.isAlive())
+            {
+                // a second pair of threads would share the frames with this pair, so wait for this pair to exit before restarting
+                return;
+            }
+
+            // the threads exited after stop gave up waiting for them
+            this.finishStopping();
+        }
+
+        if (this.captureFrame == null)
+        {
+            this.acquireFrames();
+        }
+
+        this.stopRequested = false;
+        this.processingThread = new Thread(this::runProcessing, "VisionProcessing");
+        this.processingThread.setDaemon(true);
+        this.captureThread = new Thread(this::runCapture, "VisionCapture");
+        this.captureThread.setDaemon(true);
+
+        this.processingThread.start();
+        this.captureThread.start();
+    }
+
+    /**
+     * Stop the capture and processing threads, waiting for them to finish the frame they are working on, and return the frames to the pool
+     * @return true if the threads have exited, false if they are still finishing (in which case the frames are kept until they exit)
+     */
+    public boolean stop()
+    {
+        if (this.captureThread == null)
+        {
+            return true;
+        }
+
+        this.stopRequested = true;
+        LockSupport.unpark(this.captureThread);
+        LockSupport.unpark(this.processingThread);
+        try
+        {
+            long timeout = (long)(2.0 * TuningConstants.VISION_FRAME_TIMEOUT * VisionExecutor.MILLISECONDS_PER_SECOND);
+            this.captureThread.join(timeout);
+            this.processingThread.join(timeout);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (this.captureThread.isAlive() || this.processingThread.isAlive())
+        {
+            // still using the frames (e.g. stuck in the pipeline), so keep them and the threads until start sees that they have exited
+            return false;
+        }
+
+        this.finishStopping();
+        return true;
+    }
+
+    /**
+     * Restrict processing to a region of the frame, such as around where the target was last seen
+     * @param x of the left edge of the region, in pixels
+     * @param y of the top edge of the region, in pixels
+     * @param width of the region, in pixels
+     * @param height of the region, in pixels
+     */
+    public void setRegionOfInterest(int x, int y, int width, int height)
+    {
+        this.regionOfInterest = new int[] { x, y, width, height };
+    }
+
+    /**
+     * Process the whole frame again
+     */
+    public void clearRegionOfInterest()
+    {
+        this.regionOfInterest = null;
+    }
+
+    /**
+     * Gets the result from the most recently processed frame
+     * @return the result, or null if no frame has been processed yet
+     */
+    public VisionResult getLatestResult()
+    {
+        return this.latestResult;
+    }
+
+    /**
+     * Gets the number of frames that have been grabbed from the camera
+     * @return the number of frames
+     */
+    public int getFrameCount()
+    {
+        return this.frameCount;
+    }
+
+    /**
+     * Gets the number of frames that were replaced by a newer frame before they could be processed
+     * @return the number of dropped frames
+     */
+    public int getDroppedFrameCount()
+    {
+        return this.droppedFrameCount;
+    }
+
+    /**
+     * Gets the number of times that grabbing a frame from the camera failed (or timed out)
+     * @return the number of failed grabs
+     */
+    public int getGrabErrorCount()
+    {
+        return this.grabErrorCount;
+    }
+
+    /**
+     * Gets the number of frames that the pipeline (or target reader) threw an exception while processing
+     * @return the number of failed frames
+     */
+    public int getProcessErrorCount()
+    {
+        return this.processErrorCount;
+    }
+
+    /**
+     * Log statistics about the most recently processed frame (from the robot loop)
+     */
+    public void report()
+    {
+        this.logger.logInteger(LoggingKey.VisionExecutorFrames, this.frameCount);
+        this.logger.logInteger(LoggingKey.VisionExecutorDroppedFrames, this.droppedFrameCount);
+        this.logger.logInteger(LoggingKey.VisionExecutorGrabErrors, this.grabErrorCount);
+        this.logger.logInteger(LoggingKey.VisionExecutorProcessErrors, this.processErrorCount);
+        this.logger.logNumber(LoggingKey.VisionExecutorGrab, this.grabDuration);
+        this.logger.logNumber(LoggingKey.VisionExecutorQueue, this.queueDuration);
+        this.logger.logNumber(LoggingKey.VisionExecutorProcess, this.processDuration);
+        this.logger.logNumber(LoggingKey.VisionExecutorLatency, this.latency);
+        this.logger.logInteger(LoggingKey.VisionExecutorAllocations, this.allocationCount);
+    }
+
+    /**
+     * Grab the next frame from the camera and make it the pending frame (on the capture thread)
+     * @return true if a frame was grabbed
+     */
+    boolean captureFrame()
+    {
+        Frame frame = this.captureFrame;
+        double startTime = this.timer.get();
+        long frameTime = this.camera.grabFrame(frame.image, TuningConstants.VISION_FRAME_TIMEOUT);
+        if (frameTime == 0L)
+        {
+            this.grabErrorCount++;
+            return false;
+        }
+
+        // the frame was stamped when it arrived from the camera (which may have been a while before we grabbed it), in the camera's own
+        // time base, so convert it to the robot's timer using how long ago it was captured
+        double endTime = this.timer.get();
+        long frameAge = Math.max(0L, this.camera.getCurrentTime() - frameTime);
+
+        frame.frameId = ++this.nextFrameId;
+        frame.captureTime = endTime - frameAge / VisionExecutor.MICROSECONDS_PER_SECOND;
+        frame.grabDuration = endTime - startTime;
+        frame.isNew = true;
+
+        // hand the frame over, taking back whichever frame was pending (which is unused if the processing thread never took it)
+        Frame previous = this.pendingFrame.getAndSet(frame);
+        if (previous.isNew)
+        {
+            this.droppedFrameCount++;
+        }
+
+        this.captureFrame = previous;
+        this.frameCount++;
+        return true;
+    }
+
+    /**
+     * Process the pending frame, if there is a new one, and publish its result (on the processing thread)
+     * @return true if a frame was processed
+     */
+    boolean processFrame()
+    {
+        // only the capture thread can make the pending frame new, and only we can take it, so a new frame stays new until it is taken
+        if (!this.pendingFrame.get().isNew)
+        {
+            return false;
+        }
+
+        Frame previous = this.processingFrame;
+        previous.isNew = false;
+        Frame frame = this.pendingFrame.getAndSet(previous);
+        this.processingFrame = frame;
+
+        double startTime = this.timer.get();
+        this.openCVProvider.startFrame();
+
+        int[] region = this.regionOfInterest;
+        int offsetX = 0;
+        int offsetY = 0;
+        IMat regionImage = null;
+        if (region != null)
+        {
+            // keep the region within the frame, in case the frame is smaller than when the region was chosen
+            offsetX = Math.max(0, Math.min(region[0], frame.image.cols() - 1));
+            offsetY = Math.max(0, Math.min(region[1], frame.image.rows() - 1));
+            int endX = Math.max(offsetX + 1, Math.min(region[0] + region[2], frame.image.cols()));
+            int endY = Math.max(offsetY + 1, Math.min(region[1] + region[3], frame.image.rows()));
+            regionImage = frame.image.submat(offsetY, endY, offsetX, endX);
+        }
+
+        if (regionImage != null)
+        {
+            this.pipeline.process(regionImage);
+            regionImage.release();
+        }
+        else
+        {
+            this.pipeline.process(frame.image);
+        }
+
+        double[] targets = this.targetReader.readTargets(this.pipeline);
+        for (int i = 0; i + 1 < targets.length; i += 2)
+        {
+            targets[i] += offsetX;
+            targets[i + 1] += offsetY;
+        }
+
+        double endTime = this.timer.get();
+        this.latestResult = new VisionResult(frame.frameId, frame.captureTime, endTime - frame.captureTime, targets);
+
+        this.allocationCount = this.openCVProvider.getFrameAllocationCount();
+        this.grabDuration = frame.grabDuration;
+        this.queueDuration = startTime - frame.captureTime;
+        this.processDuration = endTime - startTime;
+        this.latency = endTime - frame.captureTime;
+        return true;
+    }
+
+    private void runCapture()
+    {
+        long timeout = (long)(TuningConstants.VISION_FRAME_TIMEOUT * VisionExecutor.NANOSECONDS_PER_SECOND);
+        while (!this.stopRequested)
+        {
+            if (this.captureFrame())
+            {
+                LockSupport.unpark(this.processingThread);
+            }
+            else
+            {
+                // grabFrame returns straight away when there is an error (e.g. the camera is unplugged), so back off instead of spinning
+                LockSupport.parkNanos(this, timeout);
+            }
+        }
+    }
+
+    private void runProcessing()
+    {
+        long timeout = (long)(TuningConstants.VISION_FRAME_TIMEOUT * VisionExecutor.NANOSECONDS_PER_SECOND);
+        while (!this.stopRequested)
+        {
+            try
+            {
+                if (!this.processFrame())
+                {
+                    LockSupport.parkNanos(this, timeout);
+                }
+            }
+            catch (Exception ex)
+            {
+                // a bad frame shouldn't stop the processing of the frames after it, and a pipeline that fails on every frame shouldn't flood
+                // the console, so only the first error is printed (the rest are counted and reported)
+                this.processErrorCount++;
+                if (this.processErrorCount == 1)
+                {
+                    System.out.println("Encountered exception on vision processing thread: " + ex.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Acquire the images for the three frames from the pool
+     */
+    private void acquireFrames()
+    {
+        this.captureFrame = new Frame(this.openCVProvider.acquireMat());
+        this.pendingFrame.set(new Frame(this.openCVProvider.acquireMat()));
+        this.processingFrame = new Frame(this.openCVProvider.acquireMat());
+    }
+
+    /**
+     * Forget the threads once they have exited, and return the images for the three frames to the pool
+     */
+    private void finishStopping()
+    {
+        this.captureThread = null;
+        this.processingThread = null;
+
+        this.openCVProvider.releaseMat(this.captureFrame.image);
+        this.openCVProvider.releaseMat(this.pendingFrame.getAndSet(null).image);
+        this.openCVProvider.releaseMat(this.processingFrame.image);
+        this.captureFrame = null;
+        this.processingFrame = null;
+    }
+
+    /**
+     * One of the three frames, owned by the capture thread, the processing thread or the pending slot between them
+     */
+    private static class Frame
+    {
+        private final IMat image;
+        private volatile boolean isNew;
+        private int frameId;
+        private double captureTime;
+        private double grabDuration;
+
+        Frame(IMat image)
+        {
+            this.image = image;
+            this.isNew = false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package frc.robot.common;
+
+/**
+ * The result of processing one vision frame: which frame it was, when it was captured, how long it took to get to the robot, and the
+ * targets that were found in it (in pixel coordinates, best target first).
+ *
+ * A result is immutable, so that it can be handed from whichever thread receives it to the robot loop as a single value.
+ */
+public class VisionResult
+{
+    private final int frameId;
+    private final double captureTime;
+    private final double latency;
+    private final double[] targets;
+
+    /**
+     * Initializes a new VisionResult
+     * @param frameId increasing number that identifies the frame
+     * @param captureTime when the frame was captured, according to the robot's timer, in seconds
+     * @param latency how long it took from capturing the frame to receiving its result, in seconds
+     * @param targets the x and y of each target, one after the other (x0, y0, x1, y1, ...), which must not be modified afterwards
+     */
+    public VisionResult(int frameId, double captureTime, double latency, double[] targets)
+    {
+        if (targets.length % 2 != 0)
+        {
+            throw new IllegalArgumentException("expected an x and y for each target, but found " + targets.length + " values");
+        }
+
+        this.frameId = frameId;
+        this.captureTime = captureTime;
+        this.latency = latency;
+        this.targets = targets;
+    }
+
+    /**
+     * Read a vision result as published by the vision processor: the frame id, the latency (in seconds from capturing the frame to
+     * publishing its result), and then the x and y of each target
+     * @param values that were published
+     * @param receiveTime when the values were received, according to the robot's timer, in seconds
+     * @return the result, or null if the values aren't a valid result
+     */
+    public static VisionResult Read(double[] values, double receiveTime)
+    {
+        if (values == null || values.length < 2 || values.length % 2 != 0)
+        {
+            return null;
+        }
+
+        double latency = values[1];
+        if (!(latency >= 0.0))
+        {
+            return null;
+        }
+
+        double[] targets = new double[values.length - 2];
+        System.arraycopy(values, 2, targets, 0, targets.length);
+        return new VisionResult((int)values[0], receiveTime - latency, latency, targets);
+    }
+
+    public int getFrameId()
+    {
+        return this.frameId;
+    }
+
+    /**
+     * Gets when the frame was captured
+     * @return the capture time, according to the robot's timer, in seconds
+     */
+    public double getCaptureTime()
+    {
+        return this.captureTime;
+    }
+
+    /**
+     * Gets how long it took from capturing the frame to receiving its result
+     * @return the latency, in seconds
+     */
+    public double getLatency()
+    {
+        return this.latency;
+    }
+
+    public int getTargetCount()
+    {
+        return this.targets.length / 2;
+    }
+
+    public double getTargetX(int target)
+    {
+        return this.targets[2 * target];
+    }
+
+    public double getTargetY(int target)
+    {
+        return this.targets[2 * target + 1];
+    }
+}
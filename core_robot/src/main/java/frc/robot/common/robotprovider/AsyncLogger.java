@@ -0,0 +1,450 @@
+package frc.robot.common.robotprovider;
+
+import java.util.concurrent.locks.LockSupport;
+
+import frc.robot.LoggingKey;
+import frc.robot.TuningConstants;
+
+/**
+ * Logger that moves the work of another logger (typically a file logger) off of the robot's loop thread.
+ *
+ * Values logged during a loop are recorded into a preallocated row, and each completed row is handed to a dedicated writer thread through a
+ * fixed-size single-producer/single-consumer ring of rows.  If the writer thread falls behind and the ring is full, the row is dropped and counted.
+ * The writer thread periodically flushes the wrapped logger on its own, and flush() performs a final drain of all of the rows (blocking until the
+ * writer thread has written and flushed them), after which the writer thread exits until more rows are logged.
+ */
+public class AsyncLogger implements ILogger
+{
+    private static final byte TYPE_NONE = 0;
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_BOOLEAN_ARRAY = 2;
+    private static final byte TYPE_NUMBER = 3;
+    private static final byte TYPE_NULL_NUMBER = 4;
+    private static final byte TYPE_INTEGER = 5;
+    private static final byte TYPE_FORMATTED_INTEGER = 6;
+    private static final byte TYPE_POINT = 7;
+    private static final byte TYPE_STRING = 8;
+
+    private final ILogger logger;
+    private final LoggingKey[] keys;
+    private final Row[] rows;
+    private final Row overflowRow;
+    private final LogWriter writer;
+
+    // written only by the robot's loop thread
+    private volatile long writeSequence;
+    private volatile boolean stopRequested;
+    private Row currentRow;
+    private Thread writerThread;
+    private int droppedRows;
+
+    // written only by the writer thread
+    private volatile long readSequence;
+
+    /**
+     * Initializes a new instance of the AsyncLogger class
+     * @param logger to write rows to from the writer thread
+     * @param capacity the number of rows that can be waiting for the writer thread before rows are dropped
+     */
+    public AsyncLogger(ILogger logger, int capacity)
+    {
+        this.logger = logger;
+        this.keys = LoggingKey.values();
+        this.rows = new Row[capacity];
+        for (int i = 0; i < capacity; i++)
+        {
+            this.rows[i] = new Row(this.keys.length);
+        }
+
+        this.overflowRow = new Row(this.keys.length);
+        this.writer = new LogWriter();
+
+        this.writeSequence = 0L;
+        this.readSequence = 0L;
+        this.stopRequested = false;
+        this.currentRow = this.rows[0];
+        this.writerThread = null;
+        this.droppedRows = 0;
+    }
+
+    /**
+     * Write a boolean to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBoolean(LoggingKey key, boolean value)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_BOOLEAN);
+        this.currentRow.booleans[index] = value;
+    }
+
+    /**
+     * Write a boolean array to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBooleanArray(LoggingKey key, boolean[] value)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_BOOLEAN_ARRAY);
+        if (value == null)
+        {
+            this.currentRow.booleanArrays[index] = null;
+            return;
+        }
+
+        // copy the values, as the array may be re-used by the caller.  Arrays are only re-allocated if their length changes.
+        boolean[] copy = this.currentRow.booleanArrayBuffers[index];
+        if (copy == null || copy.length != value.length)
+        {
+            copy = new boolean[value.length];
+            this.currentRow.booleanArrayBuffers[index] = copy;
+        }
+
+        System.arraycopy(value, 0, copy, 0, value.length);
+        this.currentRow.booleanArrays[index] = copy;
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, double value)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_NUMBER);
+        this.currentRow.numbers[index] = value;
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, Double value)
+    {
+        if (value == null)
+        {
+            this.currentRow.set(key, AsyncLogger.TYPE_NULL_NUMBER);
+        }
+        else
+        {
+            this.logNumber(key, value.doubleValue());
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_INTEGER);
+        this.currentRow.integers[index] = value;
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     * @param formatString to use
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value, String formatString)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_FORMATTED_INTEGER);
+        this.currentRow.integers[index] = value;
+        this.currentRow.strings[index] = formatString;
+    }
+
+    /**
+     * Write a point (x,y or N/A) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logPoint(LoggingKey key, IPoint value)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_POINT);
+        this.currentRow.points[index] = value;
+    }
+
+    /**
+     * Write a string to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logString(LoggingKey key, String value)
+    {
+        int index = this.currentRow.set(key, AsyncLogger.TYPE_STRING);
+        this.currentRow.strings[index] = value;
+    }
+
+    /**
+     * Update the log, handing the current row to the writer thread
+     */
+    @Override
+    public void update()
+    {
+        if (this.currentRow == this.overflowRow)
+        {
+            // there wasn't room for this row when it was started
+            this.overflowRow.clear();
+            this.droppedRows++;
+        }
+        else
+        {
+            this.logInteger(LoggingKey.LoggerDroppedRows, this.droppedRows);
+
+            // publish the row to the writer thread
+            this.writeSequence++;
+        }
+
+        this.selectCurrentRow();
+        this.ensureWriterThread();
+    }
+
+    /**
+     * Flush the output stream, waiting for the writer thread to write and flush all of the completed rows
+     */
+    @Override
+    public void flush()
+    {
+        if (this.writerThread == null)
+        {
+            return;
+        }
+
+        this.stopRequested = true;
+        LockSupport.unpark(this.writerThread);
+        try
+        {
+            this.writerThread.join(TuningConstants.LOG_ASYNC_FINAL_DRAIN_TIMEOUT);
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        // if the ring was full when the current row was started, there is now room for it
+        if (this.currentRow == this.overflowRow && this.overflowRow.touchedCount == 0)
+        {
+            this.selectCurrentRow();
+        }
+    }
+
+    /**
+     * Gets the number of rows that have been dropped because the writer thread had fallen behind
+     * @return the number of dropped rows
+     */
+    public int getDroppedRows()
+    {
+        return this.droppedRows;
+    }
+
+    /**
+     * Use the next slot in the ring for the current row if the writer thread has finished with it, otherwise the row will need to be dropped
+     */
+    private void selectCurrentRow()
+    {
+        long sequence = this.writeSequence;
+        if (sequence - this.readSequence < this.rows.length)
+        {
+            this.currentRow = this.rows[(int)(sequence % this.rows.length)];
+        }
+        else
+        {
+            this.currentRow = this.overflowRow;
+        }
+    }
+
+    /**
+     * Start the writer thread if it isn't running (either because no rows have been written yet, or because it exited after flushing)
+     */
+    private void ensureWriterThread()
+    {
+        if (this.writerThread != null && (!this.stopRequested || this.writerThread.isAlive()))
+        {
+            // either still running, or still finishing its final drain (we'll try again on the next update)
+            return;
+        }
+
+        this.stopRequested = false;
+        this.writerThread = new Thread(this.writer, "AsyncLogger");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    private class LogWriter implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            AsyncLogger outer = AsyncLogger.this;
+            int rowsSinceFlush = 0;
+            while (true)
+            {
+                // read whether we should stop before draining, so that we drain every row that was published before the request
+                boolean stopping = outer.stopRequested;
+
+                long sequence = outer.readSequence;
+                long writeSequence = outer.writeSequence;
+                while (sequence < writeSequence)
+                {
+                    Row row = outer.rows[(int)(sequence % outer.rows.length)];
+                    try
+                    {
+                        row.replay(outer.keys, outer.logger);
+                        outer.logger.update();
+                    }
+                    catch (Exception ex)
+                    {
+                        System.out.println("Encountered exception: " + ex.toString());
+                    }
+
+                    row.clear();
+
+                    // hand the row back to the robot's loop thread
+                    sequence++;
+                    outer.readSequence = sequence;
+                    rowsSinceFlush++;
+                }
+
+                if (stopping || rowsSinceFlush >= TuningConstants.LOG_FLUSH_THRESHOLD)
+                {
+                    outer.logger.flush();
+                    rowsSinceFlush = 0;
+                }
+
+                if (stopping)
+                {
+                    return;
+                }
+
+                LockSupport.parkNanos(TuningConstants.LOG_ASYNC_WRITER_PERIOD);
+            }
+        }
+    }
+
+    /**
+     * The values logged during a single loop, stored by LoggingKey ordinal
+     */
+    private static class Row
+    {
+        private final byte[] types;
+        private final int[] touched;
+        private int touchedCount;
+
+        private final boolean[] booleans;
+        private final boolean[][] booleanArrays;
+        private final boolean[][] booleanArrayBuffers;
+        private final double[] numbers;
+        private final int[] integers;
+        private final IPoint[] points;
+        private final String[] strings;
+
+        Row(int keyCount)
+        {
+            this.types = new byte[keyCount];
+            this.touched = new int[keyCount];
+            this.touchedCount = 0;
+
+            this.booleans = new boolean[keyCount];
+            this.booleanArrays = new boolean[keyCount][];
+            this.booleanArrayBuffers = new boolean[keyCount][];
+            this.numbers = new double[keyCount];
+            this.integers = new int[keyCount];
+            this.points = new IPoint[keyCount];
+            this.strings = new String[keyCount];
+        }
+
+        /**
+         * Record that a value of the provided type is being logged for the key
+         * @param key being logged
+         * @param type of the value
+         * @return the index to store the value at
+         */
+        int set(LoggingKey key, byte type)
+        {
+            int index = key.ordinal();
+            if (this.types[index] == AsyncLogger.TYPE_NONE)
+            {
+                this.touched[this.touchedCount++] = index;
+            }
+
+            this.types[index] = type;
+            return index;
+        }
+
+        /**
+         * Log each of the values in this row to the provided logger, in the order they were first logged
+         * @param keys the LoggingKeys, in ordinal order
+         * @param logger to log to
+         */
+        void replay(LoggingKey[] keys, ILogger logger)
+        {
+            for (int i = 0; i < this.touchedCount; i++)
+            {
+                int index = this.touched[i];
+                LoggingKey key = keys[index];
+                switch (this.types[index])
+                {
+                    case AsyncLogger.TYPE_BOOLEAN:
+                        logger.logBoolean(key, this.booleans[index]);
+                        break;
+
+                    case AsyncLogger.TYPE_BOOLEAN_ARRAY:
+                        logger.logBooleanArray(key, this.booleanArrays[index]);
+                        break;
+
+                    case AsyncLogger.TYPE_NUMBER:
+                        logger.logNumber(key, this.numbers[index]);
+                        break;
+
+                    case AsyncLogger.TYPE_NULL_NUMBER:
+                        logger.logNumber(key, (Double)null);
+                        break;
+
+                    case AsyncLogger.TYPE_INTEGER:
+                        logger.logInteger(key, this.integers[index]);
+                        break;
+
+                    case AsyncLogger.TYPE_FORMATTED_INTEGER:
+                        logger.logInteger(key, this.integers[index], this.strings[index]);
+                        break;
+
+                    case AsyncLogger.TYPE_POINT:
+                        logger.logPoint(key, this.points[index]);
+                        break;
+
+                    case AsyncLogger.TYPE_STRING:
+                        logger.logString(key, this.strings[index]);
+                        break;
+                }
+            }
+        }
+
+        /**
+         * Clear the row so that it can be re-used, releasing any references it holds
+         */
+        void clear()
+        {
+            for (int i = 0; i < this.touchedCount; i++)
+            {
+                int index = this.touched[i];
+                this.types[index] = AsyncLogger.TYPE_NONE;
+                this.booleanArrays[index] = null;
+                this.points[index] = null;
+                this.strings[index] = null;
+            }
+
+            this.touchedCount = 0;
+        }
+    }
+}
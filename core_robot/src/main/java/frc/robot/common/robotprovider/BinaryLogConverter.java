@@ -0,0 +1,243 @@
+package frc.robot.common.robotprovider;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Offline converter that expands a log file written by BinaryLogger into the CSV format that CSVLogger writes.
+ *
+ * The keys in the binary file are matched to the current LoggingKeys by name, so the output uses the current CSV schema
+ * even if LoggingKeys have been added, removed, or re-ordered since the binary file was written.
+ */
+public class BinaryLogConverter
+{
+    /**
+     * Convert a binary log file into a CSV log file
+     * @param args the binary file to read, and the CSV file to write
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 2)
+        {
+            System.out.println("usage: BinaryLogConverter <input.bin> <output.csv>");
+            return;
+        }
+
+        try (FileChannel input = FileChannel.open(Paths.get(args[0]), StandardOpenOption.READ);
+            FileWriter output = new FileWriter(args[1]))
+        {
+            int rows = BinaryLogConverter.convert(
+                input,
+                new IFileWriter()
+                {
+                    @Override
+                    public void append(String string) throws IOException
+                    {
+                        output.append(string);
+                    }
+
+                    @Override
+                    public void flush() throws IOException
+                    {
+                        output.flush();
+                    }
+                });
+
+            System.out.println(String.format("Converted %1$d rows", rows));
+        }
+    }
+
+    /**
+     * Convert the contents of a binary log file into CSV
+     * @param input channel to read the binary log from
+     * @param output writer to write the CSV into
+     * @return the number of rows converted
+     * @throws IOException
+     */
+    public static int convert(FileChannel input, IFileWriter output) throws IOException
+    {
+        ByteBuffer buffer = input.map(FileChannel.MapMode.READ_ONLY, 0, input.size());
+        buffer.order(BinaryLogger.BYTE_ORDER);
+
+        if (buffer.remaining() < 2 * Integer.BYTES + Short.BYTES ||
+            buffer.getInt() != BinaryLogger.MAGIC)
+        {
+            throw new IOException("Not a binary log file");
+        }
+
+        int version = buffer.getInt();
+        if (version != BinaryLogger.VERSION)
+        {
+            throw new IOException(String.format("Unsupported binary log version %1$d", version));
+        }
+
+        // map the keys as of when the file was written to the current keys
+        HashMap<String, LoggingKey> currentKeys = new HashMap<String, LoggingKey>();
+        for (LoggingKey key : LoggingKey.values())
+        {
+            currentKeys.put(key.value, key);
+        }
+
+        int keyCount = buffer.getShort();
+        LoggingKey[] keys = new LoggingKey[keyCount];
+        for (int i = 0; i < keyCount; i++)
+        {
+            keys[i] = currentKeys.get(BinaryLogConverter.getChars(buffer, buffer.getShort()));
+        }
+
+        CSVLogger csvLogger = new CSVLogger(output);
+
+        int rows = 0;
+        while (buffer.remaining() >= Integer.BYTES)
+        {
+            int rowLength = buffer.getInt();
+            if (rowLength < 0 || buffer.remaining() < rowLength)
+            {
+                // the last row was only partially written (e.g. the robot was turned off)
+                break;
+            }
+
+            int rowEnd = buffer.position() + rowLength;
+            while (buffer.position() < rowEnd)
+            {
+                LoggingKey key = keys[buffer.getShort()];
+                byte type = buffer.get();
+                BinaryLogConverter.convertEntry(buffer, type, key, csvLogger);
+            }
+
+            csvLogger.update();
+            rows++;
+        }
+
+        csvLogger.flush();
+        return rows;
+    }
+
+    /**
+     * Read a single entry's value from the buffer and log it to the CSV logger
+     * @param buffer to read from
+     * @param type of the entry
+     * @param key to log the value to, or null if that key no longer exists (in which case the value is skipped)
+     * @param csvLogger to log the value to
+     * @throws IOException
+     */
+    private static void convertEntry(ByteBuffer buffer, byte type, LoggingKey key, CSVLogger csvLogger) throws IOException
+    {
+        switch (type)
+        {
+            case BinaryLogger.TYPE_NULL:
+                if (key != null)
+                {
+                    csvLogger.logNumber(key, (Double)null);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_BOOLEAN:
+                boolean booleanValue = buffer.get() != 0;
+                if (key != null)
+                {
+                    csvLogger.logBoolean(key, booleanValue);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_DOUBLE:
+                double doubleValue = buffer.getDouble();
+                if (key != null)
+                {
+                    csvLogger.logNumber(key, doubleValue);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_INTEGER:
+                int integerValue = buffer.getInt();
+                if (key != null)
+                {
+                    csvLogger.logInteger(key, integerValue);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_FORMATTED_INTEGER:
+                int formattedValue = buffer.getInt();
+                String formatString = BinaryLogConverter.getChars(buffer, buffer.getShort());
+                if (key != null)
+                {
+                    csvLogger.logInteger(key, formattedValue, formatString);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_STRING:
+                String stringValue = BinaryLogConverter.getChars(buffer, buffer.getInt());
+                if (key != null)
+                {
+                    csvLogger.logString(key, stringValue);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_BOOLEAN_ARRAY:
+                int length = buffer.getInt();
+                boolean[] arrayValue = null;
+                if (length >= 0)
+                {
+                    arrayValue = new boolean[length];
+                    for (int i = 0; i < length; i++)
+                    {
+                        arrayValue[i] = buffer.get() != 0;
+                    }
+                }
+
+                if (key != null)
+                {
+                    csvLogger.logBooleanArray(key, arrayValue);
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_POINT:
+                double x = buffer.getDouble();
+                double y = buffer.getDouble();
+                if (key != null)
+                {
+                    // matches the formatting in StringLogger.logPoint
+                    csvLogger.logString(key, String.format("(%f, %f)", x, y));
+                }
+
+                break;
+
+            case BinaryLogger.TYPE_NULL_POINT:
+                if (key != null)
+                {
+                    csvLogger.logPoint(key, null);
+                }
+
+                break;
+
+            default:
+                throw new IOException(String.format("Unknown entry type %1$d", type));
+        }
+    }
+
+    private static String getChars(ByteBuffer buffer, int length)
+    {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++)
+        {
+            chars[i] = buffer.getChar();
+        }
+
+        return new String(chars);
+    }
+}
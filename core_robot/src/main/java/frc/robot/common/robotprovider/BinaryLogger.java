@@ -0,0 +1,317 @@
+package frc.robot.common.robotprovider;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Logger that writes primitive values into a binary log file without any string formatting or allocation.
+ *
+ * The file begins with a header (magic, version, and the names of all of the LoggingKeys in ordinal order), followed by one row per update.
+ * Each row is the length of the row in bytes, followed by an entry for each value that was logged during that loop.
+ * Each entry is the ordinal of the LoggingKey (short), a type (byte), and the type-specific value.
+ * Use BinaryLogConverter to expand a binary log file into the CSV format that CSVLogger would have written.
+ */
+public class BinaryLogger implements ILogger
+{
+    static final int MAGIC = 0x31474F4C; // "LOG1"
+    static final int VERSION = 1;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final byte TYPE_NULL = 0;
+    static final byte TYPE_BOOLEAN = 1;
+    static final byte TYPE_DOUBLE = 2;
+    static final byte TYPE_INTEGER = 3;
+    static final byte TYPE_FORMATTED_INTEGER = 4;
+    static final byte TYPE_STRING = 5;
+    static final byte TYPE_BOOLEAN_ARRAY = 6;
+    static final byte TYPE_POINT = 7;
+    static final byte TYPE_NULL_POINT = 8;
+
+    private static final int ENTRY_HEADER_SIZE = Short.BYTES + Byte.BYTES;
+    private static final int ROW_HEADER_SIZE = Integer.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean[] shouldLog;
+
+    private int rowStart;
+
+    /**
+     * Initializes a new instance of the BinaryLogger class, logging the shouldLog LoggingKeys
+     * @param channel to write into
+     * @param bufferSize the size of the buffer (in bytes) used to hold rows until they are flushed
+     * @throws IOException
+     */
+    public BinaryLogger(FileChannel channel, int bufferSize) throws IOException
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.order(BinaryLogger.BYTE_ORDER);
+
+        LoggingKey[] keys = LoggingKey.values();
+        this.shouldLog = new boolean[keys.length];
+        for (LoggingKey key : keys)
+        {
+            this.shouldLog[key.ordinal()] = key.shouldLog;
+        }
+
+        this.writeHeader(keys);
+    }
+
+    private void writeHeader(LoggingKey[] keys) throws IOException
+    {
+        this.buffer.putInt(BinaryLogger.MAGIC);
+        this.buffer.putInt(BinaryLogger.VERSION);
+        this.buffer.putShort((short)keys.length);
+        for (LoggingKey key : keys)
+        {
+            this.buffer.putShort((short)key.value.length());
+            this.putChars(key.value);
+        }
+
+        this.rowStart = this.buffer.position();
+        this.startRow();
+        this.flush();
+    }
+
+    /**
+     * Write a boolean to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBoolean(LoggingKey key, boolean value)
+    {
+        if (this.startEntry(key, BinaryLogger.TYPE_BOOLEAN, Byte.BYTES))
+        {
+            this.buffer.put(value ? (byte)1 : (byte)0);
+        }
+    }
+
+    /**
+     * Write a boolean array to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBooleanArray(LoggingKey key, boolean[] value)
+    {
+        int length = value == null ? -1 : value.length;
+        if (this.startEntry(key, BinaryLogger.TYPE_BOOLEAN_ARRAY, Integer.BYTES + Math.max(length, 0)))
+        {
+            this.buffer.putInt(length);
+            for (int i = 0; i < length; i++)
+            {
+                this.buffer.put(value[i] ? (byte)1 : (byte)0);
+            }
+        }
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, double value)
+    {
+        if (this.startEntry(key, BinaryLogger.TYPE_DOUBLE, Double.BYTES))
+        {
+            this.buffer.putDouble(value);
+        }
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, Double value)
+    {
+        if (value == null)
+        {
+            this.startEntry(key, BinaryLogger.TYPE_NULL, 0);
+        }
+        else
+        {
+            this.logNumber(key, value.doubleValue());
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value)
+    {
+        if (this.startEntry(key, BinaryLogger.TYPE_INTEGER, Integer.BYTES))
+        {
+            this.buffer.putInt(value);
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     * @param formatString to use
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value, String formatString)
+    {
+        // the format string is written alongside the value so that the converter can apply it later
+        if (this.startEntry(key, BinaryLogger.TYPE_FORMATTED_INTEGER, Integer.BYTES + Short.BYTES + Character.BYTES * formatString.length()))
+        {
+            this.buffer.putInt(value);
+            this.buffer.putShort((short)formatString.length());
+            this.putChars(formatString);
+        }
+    }
+
+    /**
+     * Write a point (x,y or N/A) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logPoint(LoggingKey key, IPoint value)
+    {
+        if (value == null)
+        {
+            this.startEntry(key, BinaryLogger.TYPE_NULL_POINT, 0);
+        }
+        else if (this.startEntry(key, BinaryLogger.TYPE_POINT, 2 * Double.BYTES))
+        {
+            this.buffer.putDouble(value.getX());
+            this.buffer.putDouble(value.getY());
+        }
+    }
+
+    /**
+     * Write a string to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logString(LoggingKey key, String value)
+    {
+        if (value == null)
+        {
+            this.startEntry(key, BinaryLogger.TYPE_NULL, 0);
+        }
+        else if (this.startEntry(key, BinaryLogger.TYPE_STRING, Integer.BYTES + Character.BYTES * value.length()))
+        {
+            this.buffer.putInt(value.length());
+            this.putChars(value);
+        }
+    }
+
+    /**
+     * Update the log, if appropriate..
+     */
+    @Override
+    public void update()
+    {
+        // complete the current row by filling in its length, and then start the next one
+        this.buffer.putInt(this.rowStart, this.buffer.position() - this.rowStart - BinaryLogger.ROW_HEADER_SIZE);
+        this.rowStart = this.buffer.position();
+        this.startRow();
+    }
+
+    /**
+     * Flush the output stream, if appropriate..
+     */
+    @Override
+    public void flush()
+    {
+        this.writeCompletedRows();
+    }
+
+    /**
+     * Reserve space for the length at the beginning of a new row
+     */
+    private void startRow()
+    {
+        if (this.ensureCapacity(BinaryLogger.ROW_HEADER_SIZE))
+        {
+            this.rowStart = this.buffer.position();
+            this.buffer.putInt(0);
+        }
+    }
+
+    /**
+     * Write the header for a new entry in the current row, if the key should be logged and there is enough space for the value
+     * @param key to write
+     * @param type of the value
+     * @param valueSize the number of bytes needed for the value
+     * @return true if the value should be written
+     */
+    private boolean startEntry(LoggingKey key, byte type, int valueSize)
+    {
+        if (!this.shouldLog[key.ordinal()] ||
+            !this.ensureCapacity(BinaryLogger.ENTRY_HEADER_SIZE + valueSize))
+        {
+            return false;
+        }
+
+        this.buffer.putShort((short)key.ordinal());
+        this.buffer.put(type);
+        return true;
+    }
+
+    /**
+     * Make sure that there is enough space in the buffer, writing completed rows to the channel to make room if necessary
+     * @param size the number of bytes needed
+     * @return true if there is enough space, false if the value would not fit within the buffer even after writing (so it should be dropped)
+     */
+    private boolean ensureCapacity(int size)
+    {
+        if (this.buffer.remaining() < size)
+        {
+            this.writeCompletedRows();
+        }
+
+        return this.buffer.remaining() >= size;
+    }
+
+    /**
+     * Write all of the completed rows to the channel, and then move the in-progress row to the beginning of the buffer
+     */
+    private void writeCompletedRows()
+    {
+        int position = this.buffer.position();
+        this.buffer.limit(this.rowStart);
+        this.buffer.position(0);
+        try
+        {
+            while (this.buffer.hasRemaining())
+            {
+                this.channel.write(this.buffer);
+            }
+        }
+        catch (IOException e)
+        {
+            // best-effort...
+        }
+
+        this.buffer.limit(position);
+        this.buffer.position(this.rowStart);
+        this.buffer.compact();
+        this.rowStart = 0;
+    }
+
+    private void putChars(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            this.buffer.putChar(value.charAt(i));
+        }
+    }
+}
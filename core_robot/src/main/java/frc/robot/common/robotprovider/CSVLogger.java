@@ -72,8 +72,8 @@ public class CSVLogger extends StringLogger
         int index = this.schema.indexOf(key.value);
         if (index >= 0)
         {
-            // check if string needs to be quoted
-            if (value.contains("\"") || value.contains("\r") || value.contains("\n"))
+            // check if string needs to be quoted (quoting empty strings distinguishes them from values that weren't logged)
+            if (value.isEmpty() || value.contains(",") || value.contains("\"") || value.contains("\r") || value.contains("\n"))
             {
                 value = "\"" + value.replace("\"", "\"\"") + "\"";
             }
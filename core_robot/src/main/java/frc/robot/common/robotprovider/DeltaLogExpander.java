@@ -0,0 +1,180 @@
+package frc.robot.common.robotprovider;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Offline reader that reconstructs full rows from a change-only CSV log file (as written through DeltaLogger), so that
+ * each row contains the most recent value for every column, just like a CSV log file written without DeltaLogger.
+ *
+ * Fields are copied exactly as they were written (including any quotes), because an empty field means that the value didn't change
+ * while an empty string is written by CSVLogger as a quoted empty field ("").  Columns listed in log.absent weren't written in that row,
+ * so they are left empty (as CSVLogger would have) until they are written again.
+ */
+public class DeltaLogExpander
+{
+    /**
+     * Expand a change-only CSV log file into a full CSV log file
+     * @param args the change-only CSV file to read, and the CSV file to write
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 2)
+        {
+            System.out.println("usage: DeltaLogExpander <input.csv> <output.csv>");
+            return;
+        }
+
+        try (FileReader input = new FileReader(args[0]);
+            BufferedWriter output = new BufferedWriter(new FileWriter(args[1])))
+        {
+            int rows = DeltaLogExpander.expand(input, output);
+            System.out.println(String.format("Expanded %1$d rows", rows));
+        }
+    }
+
+    /**
+     * Expand the contents of a change-only CSV log file, filling each empty field with the most recent value for that column
+     * @param input reader for the change-only CSV
+     * @param output writer for the full CSV
+     * @return the number of rows expanded
+     * @throws IOException
+     */
+    public static int expand(Reader input, Writer output) throws IOException
+    {
+        BufferedReader reader = new BufferedReader(input);
+        List<String> fields = new ArrayList<String>();
+        if (!DeltaLogExpander.readRecord(reader, fields))
+        {
+            return 0;
+        }
+
+        int columnCount = fields.size();
+        int keyframeIndex = fields.indexOf(LoggingKey.LoggerKeyframe.value);
+        int absentIndex = fields.indexOf(LoggingKey.LoggerAbsent.value);
+        List<String> columns = new ArrayList<String>(fields);
+        DeltaLogExpander.writeRecord(output, fields.toArray(new String[columnCount]));
+
+        String[] values = new String[columnCount];
+        int rows = 0;
+        while (DeltaLogExpander.readRecord(reader, fields))
+        {
+            for (int i = 0; i < columnCount; i++)
+            {
+                String field = i < fields.size() ? fields.get(i) : "";
+                if (!field.equals("") || i == keyframeIndex)
+                {
+                    // the keyframe marker only applies to the row it was written in
+                    values[i] = field;
+                }
+            }
+
+            if (absentIndex >= 0 && absentIndex < fields.size() && !fields.get(absentIndex).equals(""))
+            {
+                for (String absentKey : fields.get(absentIndex).split(";"))
+                {
+                    int index = columns.indexOf(absentKey);
+                    if (index >= 0)
+                    {
+                        values[index] = null;
+                    }
+                }
+
+                // the absent list is only for the expander, a full log wouldn't have it
+                values[absentIndex] = null;
+            }
+
+            DeltaLogExpander.writeRecord(output, values);
+            rows++;
+        }
+
+        output.flush();
+        return rows;
+    }
+
+    /**
+     * Read the raw (still quoted) fields of the next record
+     * @param input to read from
+     * @param fields list to fill with the fields
+     * @return true if a record was read, false at the end of the input
+     * @throws IOException
+     */
+    private static boolean readRecord(BufferedReader input, List<String> fields) throws IOException
+    {
+        fields.clear();
+
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        int ch = input.read();
+        if (ch == -1)
+        {
+            return false;
+        }
+
+        while (ch != -1)
+        {
+            if (ch == '"')
+            {
+                // a doubled quote within quotes toggles twice, leaving us within the quotes
+                inQuotes = !inQuotes;
+                field.append((char)ch);
+            }
+            else if (!inQuotes && ch == ',')
+            {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else if (!inQuotes && (ch == '\r' || ch == '\n'))
+            {
+                if (ch == '\r')
+                {
+                    // consume the \n of the \r\n
+                    input.mark(1);
+                    if (input.read() != '\n')
+                    {
+                        input.reset();
+                    }
+                }
+
+                break;
+            }
+            else
+            {
+                field.append((char)ch);
+            }
+
+            ch = input.read();
+        }
+
+        fields.add(field.toString());
+        return true;
+    }
+
+    private static void writeRecord(Writer output, String[] fields) throws IOException
+    {
+        for (int i = 0; i < fields.length; i++)
+        {
+            if (i > 0)
+            {
+                output.append(',');
+            }
+
+            if (fields[i] != null)
+            {
+                output.append(fields[i]);
+            }
+        }
+
+        output.append("\r\n");
+    }
+}
@@ -0,0 +1,331 @@
+package frc.robot.common.robotprovider;
+
+import java.util.Arrays;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Logger that only passes values on to another logger (typically a file logger) when they have changed since they were last written.
+ *
+ * The last value written for each key is tracked in primitive arrays indexed by the LoggingKey's ordinal, so no allocation is needed
+ * to check for changes.  Every keyframeFrequency updates, a keyframe row is written with every value (and with log.keyframe set to true),
+ * so that readers can start from any keyframe.  Use DeltaLogExpander to reconstruct full rows from a change-only CSV file.
+ *
+ * When a file-logged key that was written in the previous row isn't written in the current row, its name is listed in log.absent
+ * (separated by ';') so that readers blank that column instead of carrying the previous value forward.
+ */
+public class DeltaLogger implements ILogger
+{
+    private static final byte TYPE_NONE = 0;
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_BOOLEAN_ARRAY = 2;
+    private static final byte TYPE_NULL_BOOLEAN_ARRAY = 3;
+    private static final byte TYPE_NUMBER = 4;
+    private static final byte TYPE_NULL_NUMBER = 5;
+    private static final byte TYPE_INTEGER = 6;
+    private static final byte TYPE_FORMATTED_INTEGER = 7;
+    private static final byte TYPE_POINT = 8;
+    private static final byte TYPE_NULL_POINT = 9;
+    private static final byte TYPE_STRING = 10;
+
+    private final ILogger logger;
+    private final int keyframeFrequency;
+    private final LoggingKey[] keys;
+
+    private final byte[] lastTypes;
+    private final long[] lastBits;
+    private final double[] lastY;
+    private final String[] lastStrings;
+    private final boolean[][] lastBooleanArrays;
+
+    private boolean[] writtenThisRow;
+    private boolean[] writtenLastRow;
+    private final StringBuilder absentKeys;
+
+    private int updates;
+    private boolean keyframe;
+
+    /**
+     * Initializes a new instance of the DeltaLogger class
+     * @param logger to write changed values to
+     * @param keyframeFrequency the number of updates between keyframes
+     */
+    public DeltaLogger(ILogger logger, int keyframeFrequency)
+    {
+        this.logger = logger;
+        this.keyframeFrequency = keyframeFrequency;
+
+        this.keys = LoggingKey.values();
+
+        int keyCount = this.keys.length;
+        this.lastTypes = new byte[keyCount];
+        this.lastBits = new long[keyCount];
+        this.lastY = new double[keyCount];
+        this.lastStrings = new String[keyCount];
+        this.lastBooleanArrays = new boolean[keyCount][];
+
+        this.writtenThisRow = new boolean[keyCount];
+        this.writtenLastRow = new boolean[keyCount];
+        this.absentKeys = new StringBuilder();
+
+        this.updates = 0;
+        this.keyframe = true;
+    }
+
+    /**
+     * Write a boolean to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBoolean(LoggingKey key, boolean value)
+    {
+        if (this.changed(key, DeltaLogger.TYPE_BOOLEAN, value ? 1L : 0L))
+        {
+            this.logger.logBoolean(key, value);
+        }
+    }
+
+    /**
+     * Write a boolean array to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logBooleanArray(LoggingKey key, boolean[] value)
+    {
+        int index = key.ordinal();
+        this.writtenThisRow[index] = true;
+        if (value == null)
+        {
+            if (this.changed(key, DeltaLogger.TYPE_NULL_BOOLEAN_ARRAY, 0L))
+            {
+                this.logger.logBooleanArray(key, value);
+            }
+
+            return;
+        }
+
+        boolean[] last = this.lastBooleanArrays[index];
+        if (!this.keyframe &&
+            this.lastTypes[index] == DeltaLogger.TYPE_BOOLEAN_ARRAY &&
+            Arrays.equals(last, value))
+        {
+            return;
+        }
+
+        // keep a copy, as the array may be re-used by the caller.  Arrays are only re-allocated if their length changes.
+        if (last == null || last.length != value.length)
+        {
+            last = new boolean[value.length];
+            this.lastBooleanArrays[index] = last;
+        }
+
+        System.arraycopy(value, 0, last, 0, value.length);
+        this.lastTypes[index] = DeltaLogger.TYPE_BOOLEAN_ARRAY;
+        this.logger.logBooleanArray(key, value);
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, double value)
+    {
+        if (this.changed(key, DeltaLogger.TYPE_NUMBER, Double.doubleToLongBits(value)))
+        {
+            this.logger.logNumber(key, value);
+        }
+    }
+
+    /**
+     * Write a number (double) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logNumber(LoggingKey key, Double value)
+    {
+        if (value == null)
+        {
+            if (this.changed(key, DeltaLogger.TYPE_NULL_NUMBER, 0L))
+            {
+                this.logger.logNumber(key, value);
+            }
+        }
+        else
+        {
+            this.logNumber(key, value.doubleValue());
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value)
+    {
+        if (this.changed(key, DeltaLogger.TYPE_INTEGER, value))
+        {
+            this.logger.logInteger(key, value);
+        }
+    }
+
+    /**
+     * Write a number (integer) to the log
+     * @param key to write to
+     * @param value to write
+     * @param formatString to use
+     */
+    @Override
+    public void logInteger(LoggingKey key, int value, String formatString)
+    {
+        int index = key.ordinal();
+        this.writtenThisRow[index] = true;
+        boolean sameFormat = formatString.equals(this.lastStrings[index]);
+        if (this.changed(key, DeltaLogger.TYPE_FORMATTED_INTEGER, value) || !sameFormat)
+        {
+            this.lastStrings[index] = formatString;
+            this.logger.logInteger(key, value, formatString);
+        }
+    }
+
+    /**
+     * Write a point (x,y or N/A) to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logPoint(LoggingKey key, IPoint value)
+    {
+        int index = key.ordinal();
+        this.writtenThisRow[index] = true;
+        if (value == null)
+        {
+            if (this.changed(key, DeltaLogger.TYPE_NULL_POINT, 0L))
+            {
+                this.logger.logPoint(key, value);
+            }
+
+            return;
+        }
+
+        double y = value.getY();
+        boolean sameY = Double.doubleToLongBits(this.lastY[index]) == Double.doubleToLongBits(y);
+        if (this.changed(key, DeltaLogger.TYPE_POINT, Double.doubleToLongBits(value.getX())) || !sameY)
+        {
+            this.lastY[index] = y;
+            this.logger.logPoint(key, value);
+        }
+    }
+
+    /**
+     * Write a string to the log
+     * @param key to write to
+     * @param value to write
+     */
+    @Override
+    public void logString(LoggingKey key, String value)
+    {
+        int index = key.ordinal();
+        this.writtenThisRow[index] = true;
+        if (this.keyframe ||
+            this.lastTypes[index] != DeltaLogger.TYPE_STRING ||
+            (value == null ? this.lastStrings[index] != null : !value.equals(this.lastStrings[index])))
+        {
+            this.lastTypes[index] = DeltaLogger.TYPE_STRING;
+            this.lastStrings[index] = value;
+            this.logger.logString(key, value);
+        }
+    }
+
+    /**
+     * Update the log, if appropriate..
+     */
+    @Override
+    public void update()
+    {
+        if (this.keyframe)
+        {
+            this.logger.logBoolean(LoggingKey.LoggerKeyframe, true);
+        }
+
+        this.logAbsentKeys();
+        this.logger.update();
+
+        this.updates++;
+        this.keyframe = this.updates % this.keyframeFrequency == 0;
+    }
+
+    /**
+     * Flush the output stream, if appropriate..
+     */
+    @Override
+    public void flush()
+    {
+        this.logger.flush();
+    }
+
+    /**
+     * List the file-logged keys that were written in the previous row but not in this one, and forget their last values so that
+     * they are written again as soon as they come back
+     */
+    private void logAbsentKeys()
+    {
+        this.absentKeys.setLength(0);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.writtenLastRow[i] && !this.writtenThisRow[i])
+            {
+                this.lastTypes[i] = DeltaLogger.TYPE_NONE;
+                if (this.keys[i].shouldLog)
+                {
+                    if (this.absentKeys.length() > 0)
+                    {
+                        this.absentKeys.append(';');
+                    }
+
+                    this.absentKeys.append(this.keys[i].value);
+                }
+            }
+        }
+
+        if (this.absentKeys.length() > 0)
+        {
+            this.logger.logString(LoggingKey.LoggerAbsent, this.absentKeys.toString());
+        }
+
+        // swap the arrays rather than allocating new ones
+        boolean[] written = this.writtenLastRow;
+        this.writtenLastRow = this.writtenThisRow;
+        this.writtenThisRow = written;
+        Arrays.fill(this.writtenThisRow, false);
+    }
+
+    /**
+     * Check whether the value for the key has changed since it was last written (or if this is a keyframe), and remember the value if so
+     * @param key to check
+     * @param type of the value
+     * @param bits the value (or its bits, for doubles)
+     * @return true if the value should be written
+     */
+    private boolean changed(LoggingKey key, byte type, long bits)
+    {
+        int index = key.ordinal();
+        this.writtenThisRow[index] = true;
+        if (!this.keyframe &&
+            this.lastTypes[index] == type &&
+            this.lastBits[index] == bits)
+        {
+            return false;
+        }
+
+        this.lastTypes[index] = type;
+        this.lastBits[index] = bits;
+        return true;
+    }
+}
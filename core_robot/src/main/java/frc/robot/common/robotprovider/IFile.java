@@ -1,6 +1,7 @@
 package frc.robot.common.robotprovider;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 
 public interface IFile
 {
@@ -9,4 +10,5 @@ public interface IFile
     public long getFreeSpace();
     public void mkdir();
     public IFileWriter openWriter() throws IOException;
+    public FileChannel openChannel() throws IOException;
 }
\ No newline at end of file
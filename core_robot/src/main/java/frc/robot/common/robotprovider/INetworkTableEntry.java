@@ -1,6 +1,14 @@
 package frc.robot.common.robotprovider;
 
+/**
+ * A handle to a single network table entry, resolved from its key once so that it can be read every loop without looking the key up again.
+ * Each getter returns the default value if the entry doesn't exist or has a different type.
+ */
 public interface INetworkTableEntry
 {
     double getDouble(double defaultValue);
+    boolean getBoolean(boolean defaultValue);
+    String getString(String defaultValue);
+    double[] getDoubleArray(double[] defaultValue);
+    void addListener(INetworkTableListener listener);
 }
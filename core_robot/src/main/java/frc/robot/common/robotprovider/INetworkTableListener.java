@@ -0,0 +1,10 @@
+package frc.robot.common.robotprovider;
+
+public interface INetworkTableListener
+{
+    /**
+     * Called (on the network tables thread, not the robot loop) whenever the value of an entry is added or changed
+     * @param entry whose value changed
+     */
+    void valueChanged(INetworkTableEntry entry);
+}
@@ -5,6 +5,7 @@ public interface INetworkTableProvider
     INetworkTableEntry getNumberSlider(String title, double initialValue);
     <V> ISendableChooser<V> getSendableChooser();
     <V> void addChooser(String name, ISendableChooser<V> chooser);
+    INetworkTableEntry getSmartDashboardEntry(String key);
     double getSmartDashboardNumber(String key);
     boolean getSmartDashboardBoolean(String key);
     String getSmartDashboardString(String key);
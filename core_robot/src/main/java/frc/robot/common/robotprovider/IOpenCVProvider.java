@@ -4,6 +4,36 @@ import java.util.List;
 
 public interface IOpenCVProvider
 {
+    /**
+     * Acquire a Mat from the pool (allocating a new one only if the pool is empty).  The Mat keeps whatever buffer it had the last
+     * time it was used, so operations that write into it of the same size and type don't need to allocate a new native buffer.
+     * @return a Mat that the caller owns until it is passed to releaseMat
+     */
+    IMat acquireMat();
+
+    /**
+     * Return a Mat to the pool once it is no longer used, so that it can be reused by a later acquireMat call
+     * @param mat that was returned by acquireMat or newMat, and that the caller doesn't use afterwards
+     */
+    void releaseMat(IMat mat);
+
+    /**
+     * Start counting the allocations and pool reuses for a new frame
+     */
+    void startFrame();
+
+    /**
+     * Gets the number of wrappers (and native Mats) allocated by the provider since the frame was started
+     * @return the number of allocations
+     */
+    int getFrameAllocationCount();
+
+    /**
+     * Gets the number of Mats acquired from the pool (rather than allocated) since the frame was started
+     * @return the number of reused Mats
+     */
+    int getFrameReuseCount();
+
     IMat newMat();
     IMat newMat(int i, int j, int cvType);
     IPoint newPoint(double d, double e);
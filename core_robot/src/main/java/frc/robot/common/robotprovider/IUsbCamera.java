@@ -39,4 +39,18 @@ public interface IUsbCamera
      * @return
      */
     public <T extends IVisionPipeline> Thread createVisionThread(IVisionListener<T> listener, T pipeline);
+
+    /**
+     * Wait for the next frame from the camera and copy it into the image.
+     * @param image to copy the frame into (re-allocated only if its size or type doesn't match the frame)
+     * @param timeout the longest time to wait for a frame, in seconds
+     * @return the time that the frame was captured (in microseconds, see getCurrentTime), or 0 if there was an error or no frame arrived in time
+     */
+    public long grabFrame(IMat image, double timeout);
+
+    /**
+     * Gets the current time in the same time base as the capture times returned by grabFrame.
+     * @return the current time (in microseconds)
+     */
+    public long getCurrentTime();
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package frc.robot.common.robotprovider;
+
+public interface IVisionTargetReader<P extends IVisionPipeline>
+{
+    /**
+     * Read the targets that the pipeline found in the frame that it just processed.
+     * Called on the vision processing thread right after the pipeline's process, so the pipeline's outputs don't need to be copied or locked.
+     * @param pipeline that processed the frame
+     * @return the x and y of each target, one after the other (x0, y0, x1, y1, ...), in pixel coordinates of the image that the pipeline
+     * was given, as a new array that isn't modified afterwards
+     */
+    double[] readTargets(P pipeline);
+}
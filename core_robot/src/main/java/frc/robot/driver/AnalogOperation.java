@@ -11,5 +11,7 @@ public enum AnalogOperation implements IOperation
     DriveTrainRightPosition,
     DriveTrainLeftVelocity,
     DriveTrainRightVelocity,
+    DriveTrainLeftAcceleration,
+    DriveTrainRightAcceleration,
     DriveTrainHeadingCorrection,
 }
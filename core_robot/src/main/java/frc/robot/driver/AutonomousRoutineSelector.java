@@ -1,5 +1,8 @@
 package frc.robot.driver;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.acmerobotics.roadrunner.geometry.*;
 import com.acmerobotics.roadrunner.path.*;
 import com.acmerobotics.roadrunner.path.heading.*;
@@ -22,6 +25,8 @@ public class AutonomousRoutineSelector
     private final ISendableChooser<StartPosition> positionChooser;
     private final ISendableChooser<AutoRoutine> routineChooser;
 
+    private AutoRoutine preloadedRoutine;
+
     public enum StartPosition
     {
         Center,
@@ -59,7 +64,27 @@ public class AutonomousRoutineSelector
         this.positionChooser.addObject("right", StartPosition.Right);
         networkTableProvider.addChooser("Start Position", this.positionChooser);
 
-        this.generateDynamicPaths();
+        AutonomousRoutineSelector.GenerateDynamicPaths(this.pathManager);
+        this.preloadedRoutine = null;
+    }
+
+    /**
+     * Check whether a different routine has been selected (called periodically while disabled),
+     * and if so start loading the paths that it uses in the background
+     */
+    public void checkSelection()
+    {
+        AutoRoutine routine = this.routineChooser.getSelected();
+        if (routine == null)
+        {
+            routine = AutoRoutine.None;
+        }
+
+        if (routine != this.preloadedRoutine)
+        {
+            this.preloadedRoutine = routine;
+            this.pathManager.preloadPaths(AutonomousRoutineSelector.GetPathNames(routine));
+        }
     }
 
     /**
@@ -95,127 +120,128 @@ public class AutonomousRoutineSelector
     }
 
     /**
-     * Generate any ad-hoc paths and add them to the mapping
+     * Gets the names of the paths that an autonomous routine follows, so that they can be loaded before autonomous mode starts
+     */
+    private static List<String> GetPathNames(AutoRoutine routine)
+    {
+        switch (routine)
+        {
+            case None:
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Register any ad-hoc paths with the path manager (they are only generated when they are needed).
+     * This is also run on the build machine by PathPrecomputer, so it must not depend on anything other than the path manager.
+     * @param pathManager to add the paths to
      */
-    private void generateDynamicPaths()
+    public static void GenerateDynamicPaths(PathManager pathManager)
     {
         TangentInterpolator interpolator = new TangentInterpolator();
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "example",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(120, 0), interpolator)
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(120, 0), interpolator)
+                .build(),
+            false);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "shoot 3 pick 3 forward",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(157.66, 0), interpolator)
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(157.66, 0), interpolator)
+                .build(),
+            false);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "shoot 3 pick 3 back",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(66.058, 0), interpolator) // tune x value for final shooting position
-                    .build(),
-                true));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(66.058, 0), interpolator) // tune x value for final shooting position
+                .build(),
+            true);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "eight power cell close forward",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .splineTo(new Pose2d(80.6, 65.869, 0), interpolator)
-                    .lineTo(new Vector2d(218.413, 65.869))
-                    .build(),
-                false));
-
-        this.pathManager.addPath(
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .splineTo(new Pose2d(80.6, 65.869, 0), interpolator)
+                .lineTo(new Vector2d(218.413, 65.869))
+                .build(),
+            false);
+
+        pathManager.addPath(
             "eight power cell close back",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(218.413, 65.869, 0))
-                    .lineTo(new Vector2d(80.6, 65.869)) // tune x value for final shooting position
-                    .build(),
-                true));
+            new PathBuilder(new Pose2d(218.413, 65.869, 0))
+                .lineTo(new Vector2d(80.6, 65.869)) // tune x value for final shooting position
+                .build(),
+            true);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "3 plus 2 straight forward",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(120, 0))
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(120, 0))
+                .build(),
+            false);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "3 plus 2 straight back",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(36, 0))
-                    .build(),
-                true));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(36, 0))
+                .build(),
+            true);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "poach segment 1",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(132, 0))
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(132, 0))
+                .build(),
+            false);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "poach segment 2",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .splineTo(new Pose2d(128, 200, 0), interpolator) // y value and angle for shooting position (90 might need to be 270)
-                    //.lineTo(new Vector2d(128, 200))
-                    .build(),
-                true));
-
-        this.pathManager.addPath(
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .splineTo(new Pose2d(128, 200, 0), interpolator) // y value and angle for shooting position (90 might need to be 270)
+                //.lineTo(new Vector2d(128, 200))
+                .build(),
+            true);
+
+        pathManager.addPath(
             "poach segment 3",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .splineTo(new Pose2d(112, -50, 157.5))
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .splineTo(new Pose2d(112, -50, 157.5))
+                .build(),
+            false);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "poach segment 4",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .splineTo(new Pose2d(112, 50, 180), interpolator)
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .splineTo(new Pose2d(112, 50, 180), interpolator)
+                .build(),
+            false);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "simple back",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .lineTo(new Vector2d(36, 0))
-                    .build(),
-                true));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .lineTo(new Vector2d(36, 0))
+                .build(),
+            true);
 
-        this.pathManager.addPath(
+        pathManager.addPath(
             "eight power cell far forward",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .splineTo(new Pose2d(80.6, 65.869, 0), interpolator)
-                    .lineTo(new Vector2d(218.413, 65.869))
-                    .build(),
-                false));
-
-        this.pathManager.addPath(
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .splineTo(new Pose2d(80.6, 65.869, 0), interpolator)
+                .lineTo(new Vector2d(218.413, 65.869))
+                .build(),
+            false);
+
+        pathManager.addPath(
             "3 plus 2 spline",
-            RoadRunnerTankTranslator.convert(
-                new PathBuilder(new Pose2d(0, 0, 0))
-                    .splineTo(new Pose2d(80.6, 65.869, 0), interpolator)
-                    .lineTo(new Vector2d(100, 65.869))
-                    .build(),
-                false));
+            new PathBuilder(new Pose2d(0, 0, 0))
+                .splineTo(new Pose2d(80.6, 65.869, 0), interpolator)
+                .lineTo(new Vector2d(100, 65.869))
+                .build(),
+            false);
     }
 }
 
@@ -4,10 +4,27 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -17,11 +34,30 @@ import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRow;
 import de.siegmar.fastcsv.writer.CsvAppender;
 import de.siegmar.fastcsv.writer.CsvWriter;
-import frc.robot.driver.common.PathStep;
+import frc.robot.TuningConstants;
+import frc.robot.driver.common.RoadRunnerTankTranslator;
+import frc.robot.driver.common.TankPath;
 
+/**
+ * Keeps track of the paths that the robot can follow, which are either loaded from CSV files in the resources or generated
+ * from path definitions (see AutonomousRoutineSelector).
+ *
+ * Paths are only registered up-front, and each one is loaded or generated the first time it is needed: either in the background
+ * when preloadPaths is called (e.g. when a different autonomous routine is selected while disabled), or otherwise when getPath is called.
+ * Loaded paths are kept in an LRU that is limited to PATH_MAX_LOADED_STEPS steps in total, so unused paths don't take up heap,
+ * and can be resampled to a coarser time step (PATH_RESAMPLE_TIME_STEP) so that each of them takes up less.
+ *
+ * Parsing the CSV files and generating paths are both slow, so each path is stored along with a key identifying the version of
+ * its source (the content hash of a path definition, or the last-modified time of a CSV file), and is only regenerated if no stored
+ * version has a matching key.  Paths are looked up first in the runtime cache file (memory-mapped, and written whenever a path
+ * had to be loaded or generated), and then in the precomputed paths resource written on the build machine by PathPrecomputer
+ * (gradlew :core_robot:precomputePaths), so normally nothing has to be generated on the robot at all.
+ */
 @Singleton
 public class PathManager
 {
+    public static final String PRECOMPUTED_PATHS_RESOURCE = "/Paths/precomputed.bin";
+
     private static final String[] NAMES =
         new String[]
         {
@@ -38,7 +74,27 @@ public class PathManager
     private static final String RIGHT_ACCELERATION_NAME = "RightAcceleration";
     private static final String HEADING_NAME = "Heading";
 
-    private HashMap<String, List<PathStep>> map;
+    private static final int CACHE_MAGIC = 0x31333138; // "1318"
+    private static final int CACHE_VERSION = 3;
+    private static final int CACHE_HEADER_SIZE = 12; // magic, version, path count
+
+    private final String cacheFilePath;
+    private final String precomputedResourceName;
+    private final int maxLoadedSteps;
+    private final double resampleTimeStep;
+
+    private final HashMap<String, PathSource> sources;
+    private final HashMap<String, TankPath> pinnedPaths;
+    private final LinkedHashMap<String, TankPath> loadedPaths;
+    private final HashMap<String, Future<TankPath>> pendingPaths;
+    private final HashMap<String, StoredPath> unsavedPaths;
+
+    private int loadedSteps;
+    private Map<String, StoredPath> cachedPaths;
+    private int cacheVersion;
+    private Map<String, StoredPath> precomputedPaths;
+    private ExecutorService loader;
+    private ExecutorService generator;
 
     /**
      * Initializes a new PathManager
@@ -46,82 +102,753 @@ public class PathManager
     @Inject
     public PathManager()
     {
-        this.map = new HashMap<String, List<PathStep>>();
+        this(
+            TuningConstants.PATH_CACHE_ENABLED ? TuningConstants.PATH_CACHE_FILE_PATH : null,
+            PathManager.PRECOMPUTED_PATHS_RESOURCE,
+            TuningConstants.PATH_MAX_LOADED_STEPS,
+            TuningConstants.PATH_RESAMPLE_TIME_STEP);
+    }
+
+    /**
+     * Initializes a new PathManager
+     * @param cacheFilePath the path of the binary cache file to use, or null to not use a cache
+     * @param precomputedResourceName the name of the precomputed paths resource to use, or null to not use precomputed paths
+     * @param maxLoadedSteps the total number of steps of loaded paths to keep before evicting the least recently used
+     * @param resampleTimeStep the time step to resample loaded paths to if theirs is finer, in seconds (0.0 to never resample)
+     */
+    PathManager(String cacheFilePath, String precomputedResourceName, int maxLoadedSteps, double resampleTimeStep)
+    {
+        this.cacheFilePath = cacheFilePath;
+        this.precomputedResourceName = precomputedResourceName;
+        this.maxLoadedSteps = maxLoadedSteps;
+        this.resampleTimeStep = resampleTimeStep;
+
+        this.sources = new HashMap<String, PathSource>();
+        this.pinnedPaths = new HashMap<String, TankPath>();
+        this.loadedPaths = new LinkedHashMap<String, TankPath>(16, 0.75f, true);
+        this.pendingPaths = new HashMap<String, Future<TankPath>>();
+        this.unsavedPaths = new HashMap<String, StoredPath>();
+
+        this.loadedSteps = 0;
+        this.cachedPaths = null;
+        this.cacheVersion = 0;
+        this.precomputedPaths = null;
+        this.loader = null;
+        this.generator = null;
     }
 
+    /**
+     * Register all of the paths from the CSV files in the resources, which will be loaded (from the cache if possible) when they are needed
+     */
     public void loadPaths()
     {
         for (String name : PathManager.NAMES)
         {
-            List<PathStep> path = new ArrayList<PathStep>();
+            this.addPath(
+                name,
+                PathManager.getLastModified(PathManager.class.getResource(name)),
+                () -> PathManager.readPathFromResource(name));
+        }
+    }
+
+    /**
+     * Get a path, loading or generating it now if it hasn't already been loaded
+     * (or waiting for it to finish loading if it is being loaded in the background)
+     * @param name of the path
+     * @return the path, or null if there is no such path
+     */
+    public TankPath getPath(String name)
+    {
+        Future<TankPath> pendingPath;
+        synchronized (this)
+        {
+            TankPath path = this.pinnedPaths.get(name);
+            if (path == null)
+            {
+                path = this.loadedPaths.get(name);
+            }
+
+            if (path != null)
+            {
+                return path;
+            }
+
+            pendingPath = this.pendingPaths.get(name);
+        }
 
+        if (pendingPath != null)
+        {
             try
             {
-                InputStream stream = this.getClass().getResourceAsStream(name);
-                InputStreamReader reader = new InputStreamReader(stream, "UTF-8");
-                CsvReader csvReader = new CsvReader();
-                csvReader.setContainsHeader(true);
-                CsvParser csvParser = csvReader.parse(reader);
+                return pendingPath.get();
+            }
+            catch (InterruptedException | ExecutionException ex)
+            {
+                System.out.println("couldn't load path in the background! " + name);
+                System.out.println(ex.toString());
+            }
+        }
+
+        TankPath path = this.loadPath(name);
+
+        // update the cache file in the background rather than delaying whatever needed the path
+        this.saveCacheInBackground();
+        return path;
+    }
 
-                CsvRow row = csvParser.nextRow();
-                if (row == null)
+    /**
+     * Start loading the provided paths in the background (if they aren't already loaded), and then update the cache file
+     * @param names of the paths to load
+     */
+    public void preloadPaths(Iterable<String> names)
+    {
+        ExecutorService loader = this.getLoader();
+        synchronized (this)
+        {
+            for (String name : names)
+            {
+                if (this.pinnedPaths.containsKey(name) ||
+                    this.loadedPaths.containsKey(name) ||
+                    this.pendingPaths.containsKey(name) ||
+                    !this.sources.containsKey(name))
                 {
                     continue;
                 }
 
-                List<String> headers = csvParser.getHeader();
-                int leftPositionIndex = headers.indexOf(PathManager.LEFT_POSITION_NAME);
-                int rightPositionIndex = headers.indexOf(PathManager.RIGHT_POSITION_NAME);
-                int leftVelocityIndex = headers.indexOf(PathManager.LEFT_VELOCITY_NAME);
-                int rightVelocityIndex = headers.indexOf(PathManager.RIGHT_VELOCITY_NAME);
-                int headingIndex = headers.indexOf(PathManager.HEADING_NAME);
+                this.pendingPaths.put(name, loader.submit(() -> this.loadPath(name)));
+            }
+        }
+
+        this.saveCacheInBackground();
+    }
+
+    /**
+     * Generate a path on a background thread, so that the (slow) trajectory generation doesn't block the robot loop.
+     * Generation has its own thread rather than using the loader, so that a path that is about to be followed isn't stuck waiting behind
+     * paths being preloaded or the cache file being written.
+     * The path isn't registered or cached, as it is only meant to be followed once (e.g. a path from the robot's current position).
+     * @param generator to generate the path
+     * @return a future that completes with the generated path
+     */
+    public Future<TankPath> generatePath(Supplier<TankPath> generator)
+    {
+        return this.getGenerator().submit(generator::get);
+    }
+
+    /**
+     * Add a path that was built directly, which will be kept for as long as the robot is running
+     * @param name of the path
+     * @param path to add
+     */
+    public synchronized void addPath(String name, TankPath path)
+    {
+        this.pinnedPaths.put(name, path);
+    }
+
+    /**
+     * Register a path generated from a RoadRunner path definition, using a stored version of it if the definition hasn't changed
+     * @param name of the path
+     * @param path definition to generate the path from
+     * @param isBackwards whether the path will be driven backwards
+     */
+    public void addPath(String name, com.acmerobotics.roadrunner.path.Path path, boolean isBackwards)
+    {
+        this.addPath(
+            name,
+            RoadRunnerTankTranslator.GetContentKey(path, isBackwards),
+            () -> RoadRunnerTankTranslator.convert(path, isBackwards));
+    }
+
+    /**
+     * Register a generated path, which will use a stored version of it (from the cache or the precomputed paths) if there is one with a
+     * matching key instead of generating it again
+     * @param name of the path
+     * @param key identifying the version of the path's source
+     * @param generator to generate the path if there isn't a stored version of it with a matching key
+     */
+    public synchronized void addPath(String name, long key, Supplier<TankPath> generator)
+    {
+        this.sources.put(name, new PathSource(key, generator));
+        this.pinnedPaths.remove(name);
+        this.unload(name);
+    }
+
+    /**
+     * Write any paths that had to be loaded or generated to the cache file, along with all of the still-valid paths that were already in it
+     */
+    public void saveCache()
+    {
+        if (this.cacheFilePath == null)
+        {
+            return;
+        }
+
+        synchronized (this)
+        {
+            if (this.unsavedPaths.isEmpty())
+            {
+                return;
+            }
+        }
+
+        Map<String, StoredPath> cachedPaths = this.getCachedPaths();
+        Map<String, StoredPath> paths = new HashMap<String, StoredPath>();
+        synchronized (this)
+        {
+            if (this.unsavedPaths.isEmpty())
+            {
+                return;
+            }
 
-                do
+            for (Map.Entry<String, StoredPath> entry : cachedPaths.entrySet())
+            {
+                PathSource source = this.sources.get(entry.getKey());
+                if (source != null && source.key == entry.getValue().key)
                 {
-                    String leftPositionString = row.getField(leftPositionIndex);
-                    String rightPositionString = row.getField(rightPositionIndex);
-                    String leftVelocityString = row.getField(leftVelocityIndex);
-                    String rightVelocityString = row.getField(rightVelocityIndex);
-                    String headingString = row.getField(headingIndex);
-
-                    if (leftPositionString != null && !leftPositionString.equals("") &&
-                        rightPositionString != null && !rightPositionString.equals("") &&
-                        leftVelocityString != null && !leftVelocityString.equals("") &&
-                        rightVelocityString != null && !rightVelocityString.equals("") &&
-                        headingString != null && !headingString.equals(""))
-                    {
-                        double leftPosition = Double.parseDouble(leftPositionString);
-                        double rightPosition = Double.parseDouble(rightPositionString);
-                        double leftVelocity = Double.parseDouble(leftVelocityString);
-                        double rightVelocity = Double.parseDouble(rightVelocityString);
-                        double heading = Double.parseDouble(headingString);
-
-                        path.add(new PathStep(leftPosition, rightPosition, leftVelocity, rightVelocity, heading));
-                    }
+                    paths.put(entry.getKey(), entry.getValue());
                 }
-                while ((row = csvParser.nextRow()) != null);
+            }
 
-                this.map.put(name, path);
+            paths.putAll(this.unsavedPaths);
+            this.unsavedPaths.clear();
+
+            // the cache file is about to be replaced, so it will be re-read the next time it is needed
+            this.cachedPaths = null;
+            this.cacheVersion++;
+        }
+
+        try
+        {
+            PathManager.writeCache(this.cacheFilePath, paths);
+        }
+        catch (IOException ex)
+        {
+            System.out.println("couldn't write path cache! " + this.cacheFilePath);
+            System.out.println(ex.toString());
+        }
+    }
+
+    /**
+     * Load or generate every registered path (ignoring the LRU limit), e.g. to precompute them
+     * @return map of path name to the path along with its key
+     */
+    Map<String, StoredPath> loadAllPaths()
+    {
+        List<String> names;
+        synchronized (this)
+        {
+            names = new ArrayList<String>(this.sources.keySet());
+        }
+
+        Map<String, StoredPath> paths = new HashMap<String, StoredPath>();
+        for (String name : names)
+        {
+            PathSource source;
+            synchronized (this)
+            {
+                source = this.sources.get(name);
             }
-            catch (IOException ex)
+
+            TankPath path = this.loadPath(name);
+            if (source != null && path != null)
             {
-                System.out.println("couldn't load/parse CSV! " + name);
-                System.out.println(ex.toString());
+                paths.put(name, new StoredPath(source.key, path));
             }
         }
+
+        return paths;
     }
 
-    public List<PathStep> getPath(String name)
+    /**
+     * Wait for any paths that are being loaded in the background (and any updates to the cache file) to finish
+     */
+    void waitForLoader()
     {
-        return map.getOrDefault(name, null);
+        try
+        {
+            this.getLoader().submit(() -> {}).get();
+        }
+        catch (InterruptedException | ExecutionException ex)
+        {
+            System.out.println("couldn't wait for paths to load!");
+            System.out.println(ex.toString());
+        }
     }
 
-    public void addPath(String name, List<PathStep> path)
+    /**
+     * Gets the total number of steps in the paths that are currently loaded (not counting pinned paths)
+     * @return the number of loaded steps
+     */
+    synchronized int getLoadedSteps()
     {
-        map.put(name, path);
+        return this.loadedSteps;
     }
 
-    public static void writePathToFile(String filePath, List<PathStep> pathSteps)
+    private TankPath loadPath(String name)
+    {
+        PathSource source;
+        synchronized (this)
+        {
+            source = this.sources.get(name);
+        }
+
+        if (source == null)
+        {
+            return null;
+        }
+
+        TankPath path = this.getStoredPath(name, source.key);
+        boolean generated = false;
+        if (path == null)
+        {
+            path = source.generator.get();
+            generated = true;
+        }
+
+        // only the loaded path is resampled (the stored version keeps its original time step, so the resample step can be changed at any time)
+        TankPath loadedPath = path;
+        if (path != null && this.resampleTimeStep > path.getTimeStep())
+        {
+            loadedPath = path.resample(this.resampleTimeStep);
+        }
+
+        synchronized (this)
+        {
+            this.pendingPaths.remove(name);
+            if (path == null || this.sources.get(name) != source)
+            {
+                // the path couldn't be loaded, or it was replaced while it was being loaded
+                return loadedPath;
+            }
+
+            if (generated)
+            {
+                this.unsavedPaths.put(name, new StoredPath(source.key, path));
+            }
+
+            this.unload(name);
+            this.loadedPaths.put(name, loadedPath);
+            this.loadedSteps += loadedPath.size();
+
+            // evict the least recently used paths (but never the one that was just loaded) until we are within the limit
+            Iterator<Map.Entry<String, TankPath>> iterator = this.loadedPaths.entrySet().iterator();
+            while (this.loadedSteps > this.maxLoadedSteps && this.loadedPaths.size() > 1)
+            {
+                this.loadedSteps -= iterator.next().getValue().size();
+                iterator.remove();
+            }
+        }
+
+        return loadedPath;
+    }
+
+    private void unload(String name)
+    {
+        TankPath loadedPath = this.loadedPaths.remove(name);
+        if (loadedPath != null)
+        {
+            this.loadedSteps -= loadedPath.size();
+        }
+    }
+
+    /**
+     * Get the stored version of a path (from the cache or the precomputed paths) if it has a matching key.
+     * The files are read and the path is decoded without holding the lock, so that a slow read doesn't block getPath for paths that are
+     * already loaded; the lock is only taken to publish the results.
+     * @param name of the path
+     * @param key identifying the version of the path's source
+     * @return the stored path, or null if there isn't one with a matching key
+     */
+    private TankPath getStoredPath(String name, long key)
+    {
+        if (this.cacheFilePath != null)
+        {
+            StoredPath cachedPath = this.getCachedPaths().get(name);
+            if (cachedPath != null && cachedPath.key == key)
+            {
+                return cachedPath.getPath();
+            }
+        }
+
+        if (this.precomputedResourceName != null)
+        {
+            StoredPath precomputedPath = this.getPrecomputedPaths().get(name);
+            if (precomputedPath != null && precomputedPath.key == key)
+            {
+                // the path isn't in the runtime cache, so write it there to avoid reading the precomputed paths on the next boot
+                synchronized (this)
+                {
+                    this.unsavedPaths.put(name, precomputedPath);
+                }
+
+                return precomputedPath.getPath();
+            }
+        }
+
+        return null;
+    }
+
+    private Map<String, StoredPath> getCachedPaths()
+    {
+        int version;
+        synchronized (this)
+        {
+            if (this.cachedPaths != null)
+            {
+                return this.cachedPaths;
+            }
+
+            version = this.cacheVersion;
+        }
+
+        Map<String, StoredPath> paths = PathManager.readCache(this.cacheFilePath);
+        synchronized (this)
+        {
+            if (this.cachedPaths != null)
+            {
+                // another thread read the file first
+                return this.cachedPaths;
+            }
+
+            // don't keep what was read if the file was replaced in the meantime
+            if (this.cacheVersion == version)
+            {
+                this.cachedPaths = paths;
+            }
+
+            return paths;
+        }
+    }
+
+    private Map<String, StoredPath> getPrecomputedPaths()
+    {
+        synchronized (this)
+        {
+            if (this.precomputedPaths != null)
+            {
+                return this.precomputedPaths;
+            }
+        }
+
+        Map<String, StoredPath> paths = PathManager.readPrecomputed(this.precomputedResourceName);
+        synchronized (this)
+        {
+            if (this.precomputedPaths == null)
+            {
+                this.precomputedPaths = paths;
+            }
+
+            return this.precomputedPaths;
+        }
+    }
+
+    private void saveCacheInBackground()
+    {
+        if (this.cacheFilePath != null)
+        {
+            this.getLoader().submit(this::saveCache);
+        }
+    }
+
+    private synchronized ExecutorService getLoader()
+    {
+        if (this.loader == null)
+        {
+            this.loader = PathManager.createExecutor("PathLoader");
+        }
+
+        return this.loader;
+    }
+
+    private synchronized ExecutorService getGenerator()
+    {
+        if (this.generator == null)
+        {
+            this.generator = PathManager.createExecutor("PathGenerator");
+        }
+
+        return this.generator;
+    }
+
+    private static ExecutorService createExecutor(String threadName)
+    {
+        // a single low-priority thread, so that loading paths doesn't compete with the robot loop
+        return Executors.newSingleThreadExecutor(
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+    }
+
+    private static TankPath readPathFromResource(String name)
+    {
+        try (InputStream stream = PathManager.class.getResourceAsStream(name))
+        {
+            InputStreamReader reader = new InputStreamReader(stream, "UTF-8");
+            CsvReader csvReader = new CsvReader();
+            csvReader.setContainsHeader(true);
+            CsvParser csvParser = csvReader.parse(reader);
+
+            CsvRow row = csvParser.nextRow();
+            if (row == null)
+            {
+                return null;
+            }
+
+            List<String> headers = csvParser.getHeader();
+            int leftPositionIndex = headers.indexOf(PathManager.LEFT_POSITION_NAME);
+            int rightPositionIndex = headers.indexOf(PathManager.RIGHT_POSITION_NAME);
+            int leftVelocityIndex = headers.indexOf(PathManager.LEFT_VELOCITY_NAME);
+            int rightVelocityIndex = headers.indexOf(PathManager.RIGHT_VELOCITY_NAME);
+            int leftAccelerationIndex = headers.indexOf(PathManager.LEFT_ACCELERATION_NAME);
+            int rightAccelerationIndex = headers.indexOf(PathManager.RIGHT_ACCELERATION_NAME);
+            int headingIndex = headers.indexOf(PathManager.HEADING_NAME);
+
+            List<double[]> steps = new ArrayList<double[]>();
+            do
+            {
+                String leftPositionString = row.getField(leftPositionIndex);
+                String rightPositionString = row.getField(rightPositionIndex);
+                String leftVelocityString = row.getField(leftVelocityIndex);
+                String rightVelocityString = row.getField(rightVelocityIndex);
+                String headingString = row.getField(headingIndex);
+
+                // older CSV files don't have the acceleration columns
+                String leftAccelerationString = leftAccelerationIndex >= 0 ? row.getField(leftAccelerationIndex) : null;
+                String rightAccelerationString = rightAccelerationIndex >= 0 ? row.getField(rightAccelerationIndex) : null;
+
+                if (leftPositionString != null && !leftPositionString.equals("") &&
+                    rightPositionString != null && !rightPositionString.equals("") &&
+                    leftVelocityString != null && !leftVelocityString.equals("") &&
+                    rightVelocityString != null && !rightVelocityString.equals("") &&
+                    headingString != null && !headingString.equals(""))
+                {
+                    steps.add(
+                        new double[]
+                        {
+                            Double.parseDouble(leftPositionString),
+                            Double.parseDouble(rightPositionString),
+                            Double.parseDouble(leftVelocityString),
+                            Double.parseDouble(rightVelocityString),
+                            leftAccelerationString != null && !leftAccelerationString.equals("") ? Double.parseDouble(leftAccelerationString) : 0.0,
+                            rightAccelerationString != null && !rightAccelerationString.equals("") ? Double.parseDouble(rightAccelerationString) : 0.0,
+                            Double.parseDouble(headingString),
+                        });
+                }
+            }
+            while ((row = csvParser.nextRow()) != null);
+
+            // the CSV files were written by RoadRunnerTankTranslator, so they use the RoadRunner time step
+            TankPath path = new TankPath(TuningConstants.ROADRUNNER_TIME_STEP, steps.size());
+            for (int i = 0; i < steps.size(); i++)
+            {
+                double[] step = steps.get(i);
+                path.set(i, step[0], step[1], step[2], step[3], step[4], step[5], step[6]);
+            }
+
+            return path;
+        }
+        catch (IOException ex)
+        {
+            System.out.println("couldn't load/parse CSV! " + name);
+            System.out.println(ex.toString());
+            return null;
+        }
+    }
+
+    private static long getLastModified(URL url)
+    {
+        if (url == null)
+        {
+            return 0L;
+        }
+
+        try
+        {
+            return url.openConnection().getLastModified();
+        }
+        catch (IOException ex)
+        {
+            return 0L;
+        }
+    }
+
+    /**
+     * Read the paths from a cache file by memory-mapping it and copying each column out in bulk
+     * @param filePath of the cache file
+     * @return the paths in the cache, or an empty map if the cache file doesn't exist or isn't valid
+     */
+    static Map<String, StoredPath> readCache(String filePath)
+    {
+        Path file = Paths.get(filePath);
+        if (!Files.exists(file))
+        {
+            return new HashMap<String, StoredPath>();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            return PathManager.readPaths(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            // a truncated or otherwise corrupt cache file is treated the same as a missing one
+            System.out.println("couldn't read path cache! " + filePath);
+            System.out.println(ex.toString());
+            return new HashMap<String, StoredPath>();
+        }
+    }
+
+    /**
+     * Read the precomputed paths from a resource (in the same format as a cache file)
+     * @param resourceName of the precomputed paths
+     * @return the precomputed paths, or an empty map if the resource doesn't exist or isn't valid
+     */
+    static Map<String, StoredPath> readPrecomputed(String resourceName)
+    {
+        try (InputStream stream = PathManager.class.getResourceAsStream(resourceName))
+        {
+            if (stream == null)
+            {
+                return new HashMap<String, StoredPath>();
+            }
+
+            return PathManager.readPaths(ByteBuffer.wrap(stream.readAllBytes()));
+        }
+        catch (IOException | RuntimeException ex)
+        {
+            System.out.println("couldn't read precomputed paths! " + resourceName);
+            System.out.println(ex.toString());
+            return new HashMap<String, StoredPath>();
+        }
+    }
+
+    private static Map<String, StoredPath> readPaths(ByteBuffer buffer) throws IOException
+    {
+        Map<String, StoredPath> paths = new HashMap<String, StoredPath>();
+        if (buffer.remaining() < PathManager.CACHE_HEADER_SIZE ||
+            buffer.getInt() != PathManager.CACHE_MAGIC ||
+            buffer.getInt() != PathManager.CACHE_VERSION)
+        {
+            return paths;
+        }
+
+        int pathCount = buffer.getInt();
+        for (int i = 0; i < pathCount; i++)
+        {
+            int nameLength = buffer.getInt();
+            if (nameLength < 0 || nameLength > buffer.remaining())
+            {
+                throw new IOException("invalid path name length " + nameLength);
+            }
+
+            byte[] nameBytes = new byte[nameLength];
+            buffer.get(nameBytes);
+            PathManager.align(buffer);
+
+            long key = buffer.getLong();
+            double timeStep = buffer.getDouble();
+            int size = buffer.getInt();
+            PathManager.align(buffer);
+            if (!(timeStep > 0.0))
+            {
+                throw new IOException("invalid path time step " + timeStep);
+            }
+
+            if (size < 0 || (long)size * TankPath.COLUMN_COUNT * Double.BYTES > buffer.remaining())
+            {
+                throw new IOException("invalid path size " + size);
+            }
+
+            // the columns are only copied out of the buffer when the path is used
+            paths.put(new String(nameBytes, StandardCharsets.UTF_8), new StoredPath(key, buffer, buffer.position(), timeStep, size));
+            buffer.position(buffer.position() + TankPath.COLUMN_COUNT * size * Double.BYTES);
+        }
+
+        return paths;
+    }
+
+    /**
+     * Write paths to a cache file (via a temporary file, so that a partially-written cache file is never used)
+     * @param filePath of the cache file
+     * @param paths to write, along with the key identifying the version of each
+     */
+    static void writeCache(String filePath, Map<String, StoredPath> paths) throws IOException
+    {
+        int totalSize = PathManager.CACHE_HEADER_SIZE;
+        List<byte[]> names = new ArrayList<byte[]>(paths.size());
+        List<StoredPath> storedPaths = new ArrayList<StoredPath>(paths.size());
+        for (Map.Entry<String, StoredPath> entry : paths.entrySet())
+        {
+            byte[] nameBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            names.add(nameBytes);
+            storedPaths.add(entry.getValue());
+
+            totalSize = PathManager.align(totalSize + Integer.BYTES + nameBytes.length);
+            totalSize = PathManager.align(totalSize + Long.BYTES + Double.BYTES + Integer.BYTES);
+            totalSize += TankPath.COLUMN_COUNT * entry.getValue().size * Double.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+        buffer.putInt(PathManager.CACHE_MAGIC);
+        buffer.putInt(PathManager.CACHE_VERSION);
+        buffer.putInt(paths.size());
+
+        for (int i = 0; i < names.size(); i++)
+        {
+            byte[] nameBytes = names.get(i);
+            buffer.putInt(nameBytes.length);
+            buffer.put(nameBytes);
+            PathManager.align(buffer);
+
+            StoredPath storedPath = storedPaths.get(i);
+            buffer.putLong(storedPath.key);
+            buffer.putDouble(storedPath.timeStep);
+            buffer.putInt(storedPath.size);
+            PathManager.align(buffer);
+
+            DoubleBuffer doubles = buffer.asDoubleBuffer();
+            for (double[] column : storedPath.getPath().getColumns())
+            {
+                doubles.put(column);
+            }
+
+            buffer.position(buffer.position() + TankPath.COLUMN_COUNT * storedPath.size * Double.BYTES);
+        }
+
+        buffer.flip();
+
+        Path file = Paths.get(filePath).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE))
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+        }
+
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Round up to the next multiple of 8 bytes, so that the columns of doubles are aligned within the cache file
+     */
+    private static int align(int position)
+    {
+        return (position + 7) & ~7;
+    }
+
+    private static void align(ByteBuffer buffer)
+    {
+        buffer.position(PathManager.align(buffer.position()));
+    }
+
+    public static void writePathToFile(String filePath, TankPath path)
     {
         File file = new File(filePath);
         if (file.exists())
@@ -141,20 +868,92 @@ public class PathManager
                 PathManager.RIGHT_ACCELERATION_NAME,
                 PathManager.HEADING_NAME);
 
-            for (PathStep step : pathSteps)
+            for (int i = 0; i < path.size(); i++)
             {
                 csvAppender.appendLine(
-                    "" + step.getLeftPosition(),
-                    "" + step.getRightPosition(),
-                    "" + step.getLeftVelocity(),
-                    "" + step.getRightVelocity(),
-                    "" + step.getLeftAcceleration(),
-                    "" + step.getRightAcceleration(),
-                    "" + step.getHeading());
+                    "" + path.getLeftPosition(i),
+                    "" + path.getRightPosition(i),
+                    "" + path.getLeftVelocity(i),
+                    "" + path.getRightVelocity(i),
+                    "" + path.getLeftAcceleration(i),
+                    "" + path.getRightAcceleration(i),
+                    "" + path.getHeading(i));
             }
         }
         catch (IOException e)
         {
         }
     }
+
+    /**
+     * A registered path's key along with how to generate it
+     */
+    private static class PathSource
+    {
+        final long key;
+        final Supplier<TankPath> generator;
+
+        PathSource(long key, Supplier<TankPath> generator)
+        {
+            this.key = key;
+            this.generator = generator;
+        }
+    }
+
+    /**
+     * A stored path along with the key identifying the version of the source it was generated from.
+     * A path read from a cache file is only copied out of the (memory-mapped) file when getPath is called.
+     */
+    static class StoredPath
+    {
+        final long key;
+        final double timeStep;
+        final int size;
+
+        private final TankPath path;
+        private final ByteBuffer buffer;
+        private final int position;
+
+        StoredPath(long key, TankPath path)
+        {
+            this.key = key;
+            this.timeStep = path.getTimeStep();
+            this.size = path.size();
+            this.path = path;
+            this.buffer = null;
+            this.position = 0;
+        }
+
+        StoredPath(long key, ByteBuffer buffer, int position, double timeStep, int size)
+        {
+            this.key = key;
+            this.timeStep = timeStep;
+            this.size = size;
+            this.path = null;
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        TankPath getPath()
+        {
+            if (this.path != null)
+            {
+                return this.path;
+            }
+
+            // use a separate view of the buffer, so that paths can be read on different threads
+            ByteBuffer view = this.buffer.duplicate();
+            view.position(this.position);
+            DoubleBuffer doubles = view.asDoubleBuffer();
+
+            double[][] columns = new double[TankPath.COLUMN_COUNT][];
+            for (int column = 0; column < TankPath.COLUMN_COUNT; column++)
+            {
+                columns[column] = new double[this.size];
+                doubles.get(columns[column]);
+            }
+
+            return new TankPath(this.timeStep, columns[0], columns[1], columns[2], columns[3], columns[4], columns[5], columns[6]);
+        }
+    }
 }
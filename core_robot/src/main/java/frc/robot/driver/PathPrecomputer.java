@@ -0,0 +1,38 @@
+package frc.robot.driver;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Generates all of the paths defined in AutonomousRoutineSelector on the build machine, and writes them (along with the content key of
+ * each path definition) to the precomputed paths resource that PathManager reads on the robot.
+ *
+ * The build runs it (as the precomputePaths task, before processResources) and packages its output into the jar, so the precomputed paths
+ * always match the path definitions that were built.  Any path that still doesn't match (e.g. a stale runtime cache) is generated on the robot.
+ */
+public class PathPrecomputer
+{
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 1 || args[0].isEmpty())
+        {
+            System.out.println("usage: PathPrecomputer <outputFile>");
+            return;
+        }
+
+        long startTime = System.nanoTime();
+
+        PathManager pathManager = new PathManager(null, null, Integer.MAX_VALUE, 0.0);
+        AutonomousRoutineSelector.GenerateDynamicPaths(pathManager);
+
+        Map<String, PathManager.StoredPath> paths = pathManager.loadAllPaths();
+        PathManager.writeCache(args[0], paths);
+
+        System.out.println(
+            String.format(
+                "Precomputed %1$d paths in %2$.3fs, wrote %3$s",
+                paths.size(),
+                (System.nanoTime() - startTime) / 1000000000.0,
+                args[0]));
+    }
+}
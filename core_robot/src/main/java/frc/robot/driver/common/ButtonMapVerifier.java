@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import frc.robot.*;
+import frc.robot.common.SetHelper;
 import frc.robot.driver.*;
 import frc.robot.driver.common.descriptions.*;
 
@@ -162,6 +163,15 @@ public class ButtonMapVerifier
                 }
             }
 
+            // verify that the operations each macro affects (and can be cancelled by) are digital or analog operations, listed only once
+            int digitalOperationCount = DigitalOperation.values().length;
+            long[] operations = SetHelper.CreateBitSet(digitalOperationCount + AnalogOperation.values().length);
+            for (MacroOperationDescription description : buttonMap.getMacroOperationSchema())
+            {
+                this.verifyMacroOperations(description, description.getAffectedOperations(), operations, digitalOperationCount);
+                this.verifyMacroOperations(description, description.getMacroCancelOperations(), operations, digitalOperationCount);
+            }
+
             for (MacroOperationDescription description : buttonMap.getMacroOperationSchema())
             {
                 ButtonCombination button = new ButtonCombination(
@@ -301,6 +311,34 @@ public class ButtonMapVerifier
         }
     }
 
+    private void verifyMacroOperations(MacroOperationDescription description, IOperation[] macroOperations, long[] operations, int digitalOperationCount)
+    {
+        SetHelper.Clear(operations);
+        for (IOperation operation : macroOperations)
+        {
+            int index;
+            if (operation instanceof DigitalOperation)
+            {
+                index = ((DigitalOperation)operation).ordinal();
+            }
+            else if (operation instanceof AnalogOperation)
+            {
+                index = digitalOperationCount + ((AnalogOperation)operation).ordinal();
+            }
+            else
+            {
+                throw new RuntimeException("macro " + description.getOperation().toString() + " uses unexpected operation " + operation.toString());
+            }
+
+            if (SetHelper.Contains(operations, index))
+            {
+                throw new RuntimeException("macro " + description.getOperation().toString() + " lists operation " + operation.toString() + " more than once");
+            }
+
+            SetHelper.Add(operations, index);
+        }
+    }
+
     private boolean isOverlappingRange(OperationDescription one, OperationDescription two)
     {
         return this.isOverlappingRange(one.getUserInputDeviceRangeMin(), one.getUserInputDeviceRangeMax(), two.getUserInputDeviceRangeMin(), two.getUserInputDeviceRangeMax());
@@ -1,9 +1,7 @@
 package frc.robot.driver.common;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import frc.robot.ElectronicsConstants;
 import frc.robot.LoggingKey;
@@ -29,11 +27,37 @@ public class Driver
     protected final Injector injector;
     protected final Map<IOperation, OperationState> operationStateMap;
 
+    // operation states and a snapshot of their values as of the end of the last update, indexed by operation ordinal
+    private final DigitalOperationState[] digitalOperationStates;
+    private final AnalogOperationState[] analogOperationStates;
+    private final boolean[] digitalOperationValues;
+    private final double[] analogOperationValues;
+
     private final IJoystick joystickDriver;
     private final IJoystick joystickOperator;
 
-    private final Map<Shift, ShiftDescription> shiftMap;
-    private final Map<MacroOperation, IMacroOperationState> macroStateMap;
+    private final ShiftDescription[] shiftDescriptions;
+    private final Shift[] activeShiftList;
+    private final boolean[] activeShiftFlags;
+    private Shift activeShifts;
+    private String activeShiftsString;
+
+    // macro states indexed by macro operation ordinal (null for macro operations that aren't in use)
+    private final MacroOperation[] macroOperations;
+    private final IMacroOperationState[] macroStates;
+
+    // state re-used during each update so that arbitrating between macros doesn't allocate.
+    // operations are indexed by their ordinal, with analog operations following the digital operations,
+    // and sets of macro operations are bit sets (see SetHelper) indexed by macro operation ordinal
+    private final long[] modifiedOperations;
+    private final long[][] relevantMacroOperations;
+    private final long[] previouslyActiveMacroOperations;
+    private final long[] activeMacroOperations;
+    private final long[] macroOperationsToCancel;
+    private final long[] newRelevantMacroOperations;
+    private final long[] loggedMacroOperations;
+    private final StringBuilder macroStringBuilder;
+    private String activeMacrosString;
 
     private final AutonomousRoutineSelector routineSelector;
     private IControlTask autonomousTask;
@@ -94,35 +118,66 @@ public class Driver
             }
         }
 
+        this.digitalOperationStates = new DigitalOperationState[digitalOperations.length];
+        for (DigitalOperation operation : digitalOperations)
+        {
+            this.digitalOperationStates[operation.ordinal()] = (DigitalOperationState)this.operationStateMap.get(operation);
+        }
+
+        this.analogOperationStates = new AnalogOperationState[analogOperations.length];
+        for (AnalogOperation operation : analogOperations)
+        {
+            this.analogOperationStates[operation.ordinal()] = (AnalogOperationState)this.operationStateMap.get(operation);
+        }
+
+        this.digitalOperationValues = new boolean[digitalOperations.length];
+        this.analogOperationValues = new double[analogOperations.length];
+        this.updateOperationValues();
+
         this.routineSelector = injector.getInstance(AutonomousRoutineSelector.class);
 
         this.joystickDriver = provider.getJoystick(ElectronicsConstants.JOYSTICK_DRIVER_PORT);
         this.joystickOperator = provider.getJoystick(ElectronicsConstants.JOYSTICK_CO_DRIVER_PORT);
 
-        ShiftDescription[] shiftSchema = buttonMap.getShiftSchema();
-        this.shiftMap = new HashMap<Shift, ShiftDescription>();
-        for (ShiftDescription description : shiftSchema)
-        {
-            this.shiftMap.put(description.getShift(), description);
-        }
+        this.shiftDescriptions = buttonMap.getShiftSchema();
+        this.activeShiftList = new Shift[this.shiftDescriptions.length];
+        this.activeShiftFlags = new boolean[this.shiftDescriptions.length];
+        this.activeShifts = Shift.Union(this.activeShiftList);
+        this.activeShiftsString = this.activeShifts.toString();
 
-        this.macroStateMap = new HashMap<MacroOperation, IMacroOperationState>();
+        this.macroOperations = MacroOperation.values();
+        this.macroStates = new IMacroOperationState[this.macroOperations.length];
         MacroOperationDescription[] macroSchema = buttonMap.getMacroOperationSchema();
         for (MacroOperationDescription description : macroSchema)
         {
-            this.macroStateMap.put(
-                (MacroOperation)description.getOperation(),
+            this.macroStates[((MacroOperation)description.getOperation()).ordinal()] =
                 new MacroOperationState(
                     description,
                     this.operationStateMap,
-                    this.injector));
+                    this.injector);
+        }
+
+        int operationCount = digitalOperations.length + analogOperations.length;
+        this.modifiedOperations = SetHelper.CreateBitSet(operationCount);
+        this.relevantMacroOperations = new long[operationCount][];
+        for (int i = 0; i < operationCount; i++)
+        {
+            this.relevantMacroOperations[i] = SetHelper.CreateBitSet(MacroOperation.class);
         }
 
+        this.previouslyActiveMacroOperations = SetHelper.CreateBitSet(MacroOperation.class);
+        this.activeMacroOperations = SetHelper.CreateBitSet(MacroOperation.class);
+        this.macroOperationsToCancel = SetHelper.CreateBitSet(MacroOperation.class);
+        this.newRelevantMacroOperations = SetHelper.CreateBitSet(MacroOperation.class);
+        this.loggedMacroOperations = SetHelper.CreateBitSet(MacroOperation.class);
+        this.macroStringBuilder = new StringBuilder();
+        this.activeMacrosString = "";
+
         ButtonMapVerifier.Verify(buttonMap);
 
         this.isAutonomous = false;
 
-        // initialize the path manager and load all of the paths
+        // register the paths from the resources with the path manager (they are loaded when they are needed)
         PathManager manager = injector.getInstance(PathManager.class);
         manager.loadPaths();
     }
@@ -143,75 +198,81 @@ public class Driver
         this.logger.logBoolean(LoggingKey.DriverIsAuto, this.isAutonomous);
 
         // keep track of macros that were running before we checked user input...
-        Set<MacroOperation> previouslyActiveMacroOperations = new HashSet<MacroOperation>();
-        for (MacroOperation macroOperation : this.macroStateMap.keySet())
+        SetHelper.Clear(this.previouslyActiveMacroOperations);
+        for (MacroOperation macroOperation : this.macroOperations)
         {
-            IMacroOperationState macroState = this.macroStateMap.get(macroOperation);
-            if (macroState.getIsActive())
+            IMacroOperationState macroState = this.macroStates[macroOperation.ordinal()];
+            if (macroState != null && macroState.getIsActive())
             {
-                previouslyActiveMacroOperations.add(macroOperation);
+                SetHelper.Add(this.previouslyActiveMacroOperations, macroOperation);
             }
         }
 
-        // check inputs and update shifts based on it...
-        int shiftIndex = 0;
-        Shift[] activeShiftList = new Shift[this.shiftMap.size()];
-        for (Shift shift : this.shiftMap.keySet())
+        // check inputs and update shifts based on it (only creating a new Shift when the active shifts change)...
+        boolean shiftsChanged = false;
+        for (int i = 0; i < this.shiftDescriptions.length; i++)
         {
-            ShiftDescription shiftDescription = this.shiftMap.get(shift);
-            if (!this.isAutonomous && shiftDescription.checkInput(this.joystickDriver, this.joystickOperator))
+            boolean shiftActive = !this.isAutonomous && this.shiftDescriptions[i].checkInput(this.joystickDriver, this.joystickOperator);
+            if (shiftActive != this.activeShiftFlags[i])
             {
-                activeShiftList[shiftIndex++] = shift;
+                this.activeShiftFlags[i] = shiftActive;
+                this.activeShiftList[i] = shiftActive ? this.shiftDescriptions[i].getShift() : null;
+                shiftsChanged = true;
             }
         }
 
-        Shift activeShifts = Shift.Union(activeShiftList);
+        if (shiftsChanged)
+        {
+            this.activeShifts = Shift.Union(this.activeShiftList);
+            this.activeShiftsString = this.activeShifts.toString();
+        }
 
-        // check user inputs for various operations (non-macro) and keep track of:
-        // operations that were interrupted already, and operations that were modified by user input in this update
-        Set<IOperation> modifiedOperations = new HashSet<IOperation>();
-        Set<IOperation> interruptedOperations = new HashSet<IOperation>();
-        for (IOperation operation : this.operationStateMap.keySet())
+        // check user inputs for various operations (non-macro) and keep track of operations that were modified by user input in this update
+        SetHelper.Clear(this.modifiedOperations);
+        for (int i = 0; i < this.digitalOperationStates.length; i++)
         {
-            OperationState opState = this.operationStateMap.get(operation);
-            boolean receivedInput = !this.isAutonomous && opState.checkInput(this.joystickDriver, this.joystickOperator, activeShifts);
-            if (receivedInput)
+            if (!this.isAutonomous && this.digitalOperationStates[i].checkInput(this.joystickDriver, this.joystickOperator, this.activeShifts))
             {
-                modifiedOperations.add(operation);
+                SetHelper.Add(this.modifiedOperations, i);
             }
+        }
 
-            if (this.operationStateMap.get(operation).getIsInterrupted())
+        for (int i = 0; i < this.analogOperationStates.length; i++)
+        {
+            if (!this.isAutonomous && this.analogOperationStates[i].checkInput(this.joystickDriver, this.joystickOperator, this.activeShifts))
             {
-                interruptedOperations.add(operation);
+                SetHelper.Add(this.modifiedOperations, this.digitalOperationStates.length + i);
             }
         }
 
         // check user inputs for various macro operations
         // also keep track of modified and active macro operations, and how macro operations and operations link together
-        Set<MacroOperation> activeMacroOperations = new HashSet<MacroOperation>();
-        Map<IOperation, Set<MacroOperation>> activeMacroOperationMap = new HashMap<IOperation, Set<MacroOperation>>();
-        for (MacroOperation macroOperation : this.macroStateMap.keySet())
+        for (long[] relevantMacroOperations : this.relevantMacroOperations)
         {
-            IMacroOperationState macroState = this.macroStateMap.get(macroOperation);
+            SetHelper.Clear(relevantMacroOperations);
+        }
+
+        SetHelper.Clear(this.activeMacroOperations);
+        for (MacroOperation macroOperation : this.macroOperations)
+        {
+            IMacroOperationState macroState = this.macroStates[macroOperation.ordinal()];
+            if (macroState == null)
+            {
+                continue;
+            }
+
             if (!this.isAutonomous)
             {
-                macroState.checkInput(this.joystickDriver, this.joystickOperator, activeShifts);
+                macroState.checkInput(this.joystickDriver, this.joystickOperator, this.activeShifts);
             }
 
             if (macroState.getIsActive())
             {
-                activeMacroOperations.add(macroOperation);
+                SetHelper.Add(this.activeMacroOperations, macroOperation);
 
                 for (IOperation affectedOperation : macroState.getMacroCancelOperations())
                 {
-                    Set<MacroOperation> relevantMacroOperations = activeMacroOperationMap.get(affectedOperation);
-                    if (relevantMacroOperations == null)
-                    {
-                        relevantMacroOperations = new HashSet<MacroOperation>();
-                        activeMacroOperationMap.put(affectedOperation, relevantMacroOperations);
-                    }
-
-                    relevantMacroOperations.add(macroOperation);
+                    SetHelper.Add(this.relevantMacroOperations[this.getOperationIndex(affectedOperation)], macroOperation);
                 }
             }
         }
@@ -220,59 +281,94 @@ public class Driver
         // 1. have not been usurped by a user action
         // 2. have not been usurped by a new macro (i.e. that was started in this round)
         // 3. are new macros that do not overlap with other new macros
-        Set<MacroOperation> macroOperationsToCancel = new HashSet<MacroOperation>();
-        for (IOperation operation : activeMacroOperationMap.keySet())
+        SetHelper.Clear(this.macroOperationsToCancel);
+        for (int i = 0; i < this.relevantMacroOperations.length; i++)
         {
-            Set<MacroOperation> relevantMacroOperations = activeMacroOperationMap.get(operation);
-            if (modifiedOperations.contains(operation))
+            long[] relevantMacroOperations = this.relevantMacroOperations[i];
+            if (SetHelper.IsEmpty(relevantMacroOperations))
+            {
+                continue;
+            }
+
+            if (SetHelper.Contains(this.modifiedOperations, i))
             {
                 // disobeys rule #1:
                 // (macro usurped by user action)
-                macroOperationsToCancel.addAll(relevantMacroOperations);
+                SetHelper.UnionWith(this.macroOperationsToCancel, relevantMacroOperations);
             }
-            else if (relevantMacroOperations.size() > 1)
+            else if (SetHelper.Count(relevantMacroOperations) > 1)
             {
-                Set<MacroOperation> newRelevantMacroOperations = SetHelper.<MacroOperation>RelativeComplement(previouslyActiveMacroOperations, relevantMacroOperations);
-                if (newRelevantMacroOperations.size() > 1)
+                SetHelper.RelativeComplement(this.previouslyActiveMacroOperations, relevantMacroOperations, this.newRelevantMacroOperations);
+                if (SetHelper.Count(this.newRelevantMacroOperations) > 1)
                 {
                     // disobeys rule #3:
                     // (there are 2 or more active macros that weren't previously active)
-                    macroOperationsToCancel.addAll(relevantMacroOperations);
+                    SetHelper.UnionWith(this.macroOperationsToCancel, relevantMacroOperations);
                 }
                 else
                 {
                     // some disobey rule #2 (remove only those that were previously active, and not the 1 that is newly active...)
-                    macroOperationsToCancel.addAll(SetHelper.<MacroOperation>RelativeComplement(newRelevantMacroOperations, relevantMacroOperations));
+                    SetHelper.ExceptWith(relevantMacroOperations, this.newRelevantMacroOperations);
+                    SetHelper.UnionWith(this.macroOperationsToCancel, relevantMacroOperations);
                 }
             }
         }
 
         // cancel macros that didn't follow the rules list above
-        for (MacroOperation macroOperationToCancel : macroOperationsToCancel)
+        for (int i = SetHelper.NextSetBit(this.macroOperationsToCancel, 0); i >= 0; i = SetHelper.NextSetBit(this.macroOperationsToCancel, i + 1))
         {
-            this.macroStateMap.get(macroOperationToCancel).setIsInterrupted(true);
-            activeMacroOperations.remove(macroOperationToCancel);
+            this.macroStates[i].setIsInterrupted(true);
         }
 
+        SetHelper.ExceptWith(this.activeMacroOperations, this.macroOperationsToCancel);
+
         // first, run all of the inactive macros (to clear any old interrupts)...
-        Set<MacroOperation> inactiveMacroOperations = SetHelper.<MacroOperation>RelativeComplement(activeMacroOperations, this.macroStateMap.keySet());
-        for (MacroOperation macroOperation : inactiveMacroOperations)
+        for (int i = 0; i < this.macroStates.length; i++)
         {
-            this.macroStateMap.get(macroOperation).run();
+            IMacroOperationState macroState = this.macroStates[i];
+            if (macroState != null && !SetHelper.Contains(this.activeMacroOperations, i))
+            {
+                macroState.run();
+            }
         }
 
         // second, run all of the active macros (which could add interrupts that were cleared in the previous phase)...
-        // while we're doing that, grab the names of the macros for logging
-        int i = 0;
-        String[] macroStrings = new String[activeMacroOperations.size()];
-        for (MacroOperation macroOperation : activeMacroOperations)
+        for (int i = SetHelper.NextSetBit(this.activeMacroOperations, 0); i >= 0; i = SetHelper.NextSetBit(this.activeMacroOperations, i + 1))
         {
-            macroStrings[i++] = macroOperation.toString();
-            this.macroStateMap.get(macroOperation).run();
+            this.macroStates[i].run();
         }
 
-        this.logger.logString(LoggingKey.DriverActiveMacros, String.join(", ", macroStrings));
-        this.logger.logString(LoggingKey.DriverActiveShifts, activeShifts.toString());
+        // only rebuild the names of the active macros for logging when they change
+        if (!SetHelper.SetEquals(this.loggedMacroOperations, this.activeMacroOperations))
+        {
+            SetHelper.Copy(this.activeMacroOperations, this.loggedMacroOperations);
+
+            this.macroStringBuilder.setLength(0);
+            for (int i = SetHelper.NextSetBit(this.activeMacroOperations, 0); i >= 0; i = SetHelper.NextSetBit(this.activeMacroOperations, i + 1))
+            {
+                if (this.macroStringBuilder.length() > 0)
+                {
+                    this.macroStringBuilder.append(", ");
+                }
+
+                this.macroStringBuilder.append(this.macroOperations[i].toString());
+            }
+
+            this.activeMacrosString = this.macroStringBuilder.toString();
+        }
+
+        this.logger.logString(LoggingKey.DriverActiveMacros, this.activeMacrosString);
+        this.logger.logString(LoggingKey.DriverActiveShifts, this.activeShiftsString);
+
+        this.updateOperationValues();
+    }
+
+    /**
+     * Tell the driver that some time has passed while the robot is disabled
+     */
+    public void updateDisabled()
+    {
+        this.routineSelector.checkSelection();
     }
 
     /**
@@ -282,10 +378,9 @@ public class Driver
     {
         this.isAutonomous = false;
 
-        if (TuningConstants.CANCEL_AUTONOMOUS_ROUTINE_ON_DISABLE &&
-            this.macroStateMap.containsKey(MacroOperation.AutonomousRoutine))
+        if (TuningConstants.CANCEL_AUTONOMOUS_ROUTINE_ON_DISABLE)
         {
-            this.macroStateMap.remove(MacroOperation.AutonomousRoutine);
+            this.macroStates[MacroOperation.AutonomousRoutine.ordinal()] = null;
         }
 
         // cancel all interruption of buttons:
@@ -295,10 +390,15 @@ public class Driver
         }
 
         // cancel all ongoing macros:
-        for (IMacroOperationState macroOperationState : this.macroStateMap.values())
+        for (IMacroOperationState macroOperationState : this.macroStates)
         {
-            macroOperationState.cancel();
+            if (macroOperationState != null)
+            {
+                macroOperationState.cancel();
+            }
         }
+
+        this.updateOperationValues();
     }
 
     public void startAutonomous()
@@ -306,15 +406,8 @@ public class Driver
         this.isAutonomous = true;
         this.autonomousTask = this.routineSelector.selectRoutine();
         this.autonomousTask.initialize(this.operationStateMap, injector);
-        if (!TuningConstants.CANCEL_AUTONOMOUS_ROUTINE_ON_DISABLE &&
-            this.macroStateMap.containsKey(MacroOperation.AutonomousRoutine))
-        {
-            this.macroStateMap.remove(MacroOperation.AutonomousRoutine);
-        }
-
-        this.macroStateMap.put(
-            MacroOperation.AutonomousRoutine,
-            new AutonomousOperationState(this.autonomousTask, this.operationStateMap));
+        this.macroStates[MacroOperation.AutonomousRoutine.ordinal()] =
+            new AutonomousOperationState(this.autonomousTask, this.operationStateMap);
     }
 
     /**
@@ -324,19 +417,7 @@ public class Driver
      */
     public boolean getDigital(DigitalOperation digitalOperation)
     {
-        OperationState state = this.operationStateMap.get(digitalOperation);
-        if (!(state instanceof DigitalOperationState))
-        {
-            if (TuningConstants.THROW_EXCEPTIONS)
-            {
-                throw new RuntimeException("not a digital operation!");
-            }
-
-            return false;
-        }
-
-        DigitalOperationState digitalState = (DigitalOperationState)state;
-        return digitalState.getState();
+        return this.digitalOperationValues[digitalOperation.ordinal()];
     }
 
     /**
@@ -346,18 +427,38 @@ public class Driver
      */
     public double getAnalog(AnalogOperation analogOperation)
     {
-        OperationState state = this.operationStateMap.get(analogOperation);
-        if (!(state instanceof AnalogOperationState))
+        return this.analogOperationValues[analogOperation.ordinal()];
+    }
+
+    /**
+     * Get the index of the operation within the arrays of per-operation state used during update (digital operations followed by analog operations)
+     * @param operation to get the index of
+     * @return the index of the operation
+     */
+    private int getOperationIndex(IOperation operation)
+    {
+        if (operation instanceof DigitalOperation)
         {
-            if (TuningConstants.THROW_EXCEPTIONS)
-            {
-                throw new RuntimeException("not an analog operation!");
-            }
+            return ((DigitalOperation)operation).ordinal();
+        }
+
+        return this.digitalOperationStates.length + ((AnalogOperation)operation).ordinal();
+    }
 
-            return 0.0;
+    /**
+     * Take a snapshot of the current values of each of the operations, so that mechanisms can read them without any lookups.
+     * The values only change during update() (based on user input and macros) and stop() (which cancels interrupts).
+     */
+    private void updateOperationValues()
+    {
+        for (int i = 0; i < this.digitalOperationStates.length; i++)
+        {
+            this.digitalOperationValues[i] = this.digitalOperationStates[i].getState();
         }
 
-        AnalogOperationState analogState = (AnalogOperationState)state;
-        return analogState.getState();
+        for (int i = 0; i < this.analogOperationStates.length; i++)
+        {
+            this.analogOperationValues[i] = this.analogOperationStates[i].getState();
+        }
     }
 }
@@ -1,9 +1,7 @@
 package frc.robot.driver.common;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import java.io.File;
+import java.util.List;
 
 import com.acmerobotics.roadrunner.geometry.Pose2d;
 import com.acmerobotics.roadrunner.kinematics.Kinematics;
@@ -24,6 +22,13 @@ public class RoadRunnerTankTranslator
 {
     public static final String filePath = System.getProperty("user.home") + File.separator + "path.csv";
 
+    // bump this whenever convert changes in a way that changes its output, so that stale precomputed/cached paths aren't used
+    private static final long CONVERSION_VERSION = 1L;
+    private static final int CONTENT_KEY_SAMPLES = 32;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     public static void main(String[] args)
     {
         // Initialize path and interpolator (check to see if interpolator is needed)
@@ -38,7 +43,7 @@ public class RoadRunnerTankTranslator
             RoadRunnerTankTranslator.convert(path, isBackwards));
     }
 
-    public static List<PathStep> convert(Path path, boolean isBackwards)
+    public static TankPath convert(Path path, boolean isBackwards)
     {
         // initialize roadrunner constraints
         DriveConstraints constraints = new DriveConstraints(
@@ -52,24 +57,84 @@ public class RoadRunnerTankTranslator
         TankConstraints constraintsTank = new TankConstraints(constraints, HardwareConstants.DRIVETRAIN_WHEEL_SEPARATION_DISTANCE);
         Trajectory traj = TrajectoryGenerator.INSTANCE.generateTrajectory(path, constraintsTank);
 
+        // count the steps first (sampling the same times as below), so that the path's columns can be allocated up-front
         double duration = traj.duration();
-        List<PathStep> steps = new ArrayList<PathStep>((int)(duration / TuningConstants.ROADRUNNER_TIME_STEP));
+        int stepCount = 0;
+        for (double i = 0; i < duration; i += TuningConstants.ROADRUNNER_TIME_STEP)
+        {
+            stepCount++;
+        }
+
+        TankPath tankPath = new TankPath(TuningConstants.ROADRUNNER_TIME_STEP, stepCount);
 
         double leftWheelPos = 0.0;
         double rightWheelPos = 0.0;
 
+        int step = 0;
         for (double i = 0; i < duration; i += TuningConstants.ROADRUNNER_TIME_STEP)
         {
-            PathStep step = RoadRunnerTankTranslator.buildPathStep(i, traj, leftWheelPos, rightWheelPos, isBackwards);
-            leftWheelPos = step.getLeftPosition();
-            rightWheelPos = step.getRightPosition();
-            steps.add(step);
+            RoadRunnerTankTranslator.setPathStep(tankPath, step, i, traj, leftWheelPos, rightWheelPos, isBackwards);
+            leftWheelPos = tankPath.getLeftPosition(step);
+            rightWheelPos = tankPath.getRightPosition(step);
+            step++;
+        }
+
+        return tankPath;
+    }
+
+    /**
+     * Gets a hash of everything that the output of convert depends on: the geometry of the path (sampled along its length),
+     * whether it is driven backwards, and the constraints used to generate the trajectory.
+     * Two definitions that have the same content key will produce the same TankPath, so the key can be used to tell
+     * whether a precomputed or cached version of a path is still up-to-date.
+     * @param path the path to hash
+     * @param isBackwards whether the path will be driven backwards
+     * @return a 64-bit FNV-1a hash of the path definition
+     */
+    public static long GetContentKey(Path path, boolean isBackwards)
+    {
+        long hash = RoadRunnerTankTranslator.FNV_OFFSET_BASIS;
+        hash = RoadRunnerTankTranslator.hash(hash, RoadRunnerTankTranslator.CONVERSION_VERSION);
+        hash = RoadRunnerTankTranslator.hash(hash, isBackwards ? 1L : 0L);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_TIME_STEP);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_MAX_VELOCITY);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_MAX_ACCELERATION);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_MAX_JERK);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_MAX_ANGULAR_VELOCITY);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_MAX_ANGULAR_ACCELERATION);
+        hash = RoadRunnerTankTranslator.hash(hash, TuningConstants.ROADRUNNER_MAX_ANGULAR_JERK);
+        hash = RoadRunnerTankTranslator.hash(hash, HardwareConstants.DRIVETRAIN_WHEEL_SEPARATION_DISTANCE);
+
+        double length = path.length();
+        hash = RoadRunnerTankTranslator.hash(hash, length);
+        for (int i = 0; i <= RoadRunnerTankTranslator.CONTENT_KEY_SAMPLES; i++)
+        {
+            Pose2d pose = path.get(length * i / RoadRunnerTankTranslator.CONTENT_KEY_SAMPLES);
+            hash = RoadRunnerTankTranslator.hash(hash, pose.getX());
+            hash = RoadRunnerTankTranslator.hash(hash, pose.getY());
+            hash = RoadRunnerTankTranslator.hash(hash, pose.getHeading());
+        }
+
+        return hash;
+    }
+
+    private static long hash(long hash, double value)
+    {
+        return RoadRunnerTankTranslator.hash(hash, Double.doubleToLongBits(value));
+    }
+
+    private static long hash(long hash, long value)
+    {
+        for (int i = 0; i < Long.BYTES; i++)
+        {
+            hash ^= (value >>> (8 * i)) & 0xFF;
+            hash *= RoadRunnerTankTranslator.FNV_PRIME;
         }
 
-        return steps;
+        return hash;
     }
 
-    public static PathStep buildPathStep(double time, Trajectory traj, double leftWheelPos, double rightWheelPos, boolean isBackwards)
+    public static void setPathStep(TankPath tankPath, int step, double time, Trajectory traj, double leftWheelPos, double rightWheelPos, boolean isBackwards)
     {
         Pose2d pose = traj.get(time);
         Pose2d poseVel = traj.velocity(time);
@@ -101,7 +166,8 @@ public class RoadRunnerTankTranslator
         rightWheelPos += rightWheelVel * TuningConstants.ROADRUNNER_TIME_STEP;
         double heading = pose.getHeading() * Helpers.RADIANS_TO_DEGREES;
 
-        return new PathStep(
+        tankPath.set(
+            step,
             leftWheelPos,
             rightWheelPos,
             leftWheelVel,
@@ -0,0 +1,267 @@
+package frc.robot.driver.common;
+
+/**
+ * A path for a tank drivetrain, sampled at a fixed time step.
+ * The path can be sampled at any time (see sample), interpolating between the steps on either side.
+ *
+ * The path is stored as parallel columns (one primitive array per value, indexed by step) instead of as a list of step objects,
+ * so that a path is only a handful of allocations and each column can be read from or written to a file in bulk.
+ * The arrays returned by the column getters are the path's own storage and must not be modified.
+ */
+public class TankPath
+{
+    public static final int COLUMN_COUNT = 7;
+
+    private final double timeStep;
+    private final double[] leftPositions;
+    private final double[] rightPositions;
+    private final double[] leftVelocities;
+    private final double[] rightVelocities;
+    private final double[] leftAccelerations;
+    private final double[] rightAccelerations;
+    private final double[] headings;
+
+    /**
+     * Initializes a new TankPath with every value of every step set to 0.0
+     * @param timeStep the amount of time between steps, in seconds
+     * @param size the number of steps in the path
+     */
+    public TankPath(double timeStep, int size)
+    {
+        this(timeStep, new double[size], new double[size], new double[size], new double[size], new double[size], new double[size], new double[size]);
+    }
+
+    /**
+     * Initializes a new TankPath from its columns, which must all have the same length
+     * @param timeStep the amount of time between steps, in seconds
+     */
+    public TankPath(
+        double timeStep,
+        double[] leftPositions,
+        double[] rightPositions,
+        double[] leftVelocities,
+        double[] rightVelocities,
+        double[] leftAccelerations,
+        double[] rightAccelerations,
+        double[] headings)
+    {
+        int size = leftPositions.length;
+        if (rightPositions.length != size ||
+            leftVelocities.length != size ||
+            rightVelocities.length != size ||
+            leftAccelerations.length != size ||
+            rightAccelerations.length != size ||
+            headings.length != size)
+        {
+            throw new IllegalArgumentException("expected all of the columns of a path to have the same length");
+        }
+
+        if (!(timeStep > 0.0))
+        {
+            throw new IllegalArgumentException("expected a path's time step to be positive, but found " + timeStep);
+        }
+
+        this.timeStep = timeStep;
+        this.leftPositions = leftPositions;
+        this.rightPositions = rightPositions;
+        this.leftVelocities = leftVelocities;
+        this.rightVelocities = rightVelocities;
+        this.leftAccelerations = leftAccelerations;
+        this.rightAccelerations = rightAccelerations;
+        this.headings = headings;
+    }
+
+    /**
+     * Set the values of one step of the path
+     * @param step the index of the step
+     */
+    public void set(int step, double leftPosition, double rightPosition, double leftVelocity, double rightVelocity, double leftAcceleration, double rightAcceleration, double heading)
+    {
+        this.leftPositions[step] = leftPosition;
+        this.rightPositions[step] = rightPosition;
+        this.leftVelocities[step] = leftVelocity;
+        this.rightVelocities[step] = rightVelocity;
+        this.leftAccelerations[step] = leftAcceleration;
+        this.rightAccelerations[step] = rightAcceleration;
+        this.headings[step] = heading;
+    }
+
+    public int size()
+    {
+        return this.leftPositions.length;
+    }
+
+    /**
+     * Gets the amount of time between steps
+     * @return the time step, in seconds
+     */
+    public double getTimeStep()
+    {
+        return this.timeStep;
+    }
+
+    /**
+     * Gets the amount of time from the first step of the path to the last step
+     * @return the duration, in seconds
+     */
+    public double getDuration()
+    {
+        return Math.max(0, this.size() - 1) * this.timeStep;
+    }
+
+    /**
+     * Sample the path at a time, interpolating between the steps on either side of it.
+     * Positions use cubic Hermite interpolation (with the velocities as the tangents), so that they stay accurate even when the
+     * steps are far apart; velocities, accelerations and headings are interpolated linearly.
+     * Times before the start or after the end of the path give the first or last step.
+     * @param time since the start of the path, in seconds
+     * @param sample to fill in with the values at that time (so that following a path doesn't allocate)
+     */
+    public void sample(double time, TankPathSample sample)
+    {
+        int size = this.size();
+        if (size == 0)
+        {
+            sample.set(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+            return;
+        }
+
+        double position = time / this.timeStep;
+        if (!(position > 0.0))
+        {
+            this.sampleStep(0, sample);
+            return;
+        }
+
+        if (position >= size - 1)
+        {
+            this.sampleStep(size - 1, sample);
+            return;
+        }
+
+        int step = (int)position;
+        int next = step + 1;
+        double t = position - step;
+
+        // cubic Hermite basis functions
+        double t2 = t * t;
+        double t3 = t2 * t;
+        double h00 = 2.0 * t3 - 3.0 * t2 + 1.0;
+        double h10 = t3 - 2.0 * t2 + t;
+        double h01 = -2.0 * t3 + 3.0 * t2;
+        double h11 = t3 - t2;
+
+        // headings are in degrees, so interpolate in the shorter direction when crossing 0/360
+        double headingDelta = this.headings[next] - this.headings[step];
+        headingDelta -= 360.0 * Math.round(headingDelta / 360.0);
+
+        sample.set(
+            h00 * this.leftPositions[step] + h10 * this.timeStep * this.leftVelocities[step] + h01 * this.leftPositions[next] + h11 * this.timeStep * this.leftVelocities[next],
+            h00 * this.rightPositions[step] + h10 * this.timeStep * this.rightVelocities[step] + h01 * this.rightPositions[next] + h11 * this.timeStep * this.rightVelocities[next],
+            this.leftVelocities[step] + t * (this.leftVelocities[next] - this.leftVelocities[step]),
+            this.rightVelocities[step] + t * (this.rightVelocities[next] - this.rightVelocities[step]),
+            this.leftAccelerations[step] + t * (this.leftAccelerations[next] - this.leftAccelerations[step]),
+            this.rightAccelerations[step] + t * (this.rightAccelerations[next] - this.rightAccelerations[step]),
+            this.headings[step] + t * headingDelta);
+    }
+
+    /**
+     * Create a copy of the path with a different time step (e.g. a coarser one, to use less memory), by sampling this path
+     * @param timeStep the (maximum) amount of time between steps in the new path, in seconds.  It is reduced slightly if needed so that
+     * the last step of the new path lands exactly on the last step of this one.
+     * @return the resampled path
+     */
+    public TankPath resample(double timeStep)
+    {
+        double duration = this.getDuration();
+        int intervals = (int)Math.ceil(duration / timeStep - 1e-9);
+        if (intervals > 0)
+        {
+            timeStep = duration / intervals;
+        }
+
+        int size = this.size() == 0 ? 0 : intervals + 1;
+        TankPath path = new TankPath(timeStep, size);
+        TankPathSample sample = new TankPathSample();
+        for (int i = 0; i < size; i++)
+        {
+            this.sample(i * timeStep, sample);
+            path.set(
+                i,
+                sample.getLeftPosition(),
+                sample.getRightPosition(),
+                sample.getLeftVelocity(),
+                sample.getRightVelocity(),
+                sample.getLeftAcceleration(),
+                sample.getRightAcceleration(),
+                sample.getHeading());
+        }
+
+        return path;
+    }
+
+    private void sampleStep(int step, TankPathSample sample)
+    {
+        sample.set(
+            this.leftPositions[step],
+            this.rightPositions[step],
+            this.leftVelocities[step],
+            this.rightVelocities[step],
+            this.leftAccelerations[step],
+            this.rightAccelerations[step],
+            this.headings[step]);
+    }
+
+    public double getLeftPosition(int step)
+    {
+        return this.leftPositions[step];
+    }
+
+    public double getRightPosition(int step)
+    {
+        return this.rightPositions[step];
+    }
+
+    public double getLeftVelocity(int step)
+    {
+        return this.leftVelocities[step];
+    }
+
+    public double getRightVelocity(int step)
+    {
+        return this.rightVelocities[step];
+    }
+
+    public double getLeftAcceleration(int step)
+    {
+        return this.leftAccelerations[step];
+    }
+
+    public double getRightAcceleration(int step)
+    {
+        return this.rightAccelerations[step];
+    }
+
+    public double getHeading(int step)
+    {
+        return this.headings[step];
+    }
+
+    /**
+     * Gets the columns of the path, in the order that they are stored in a path cache file
+     * @return the columns (left position, right position, left velocity, right velocity, left acceleration, right acceleration, heading)
+     */
+    public double[][] getColumns()
+    {
+        return new double[][]
+        {
+            this.leftPositions,
+            this.rightPositions,
+            this.leftVelocities,
+            this.rightVelocities,
+            this.leftAccelerations,
+            this.rightAccelerations,
+            this.headings,
+        };
+    }
+}
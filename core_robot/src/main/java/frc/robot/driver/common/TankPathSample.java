@@ -1,6 +1,10 @@
 package frc.robot.driver.common;
 
-public class PathStep
+/**
+ * The values of a tank path at a particular time, as interpolated by TankPath.sample.
+ * A single instance is meant to be re-used for each sample, so that following a path doesn't allocate.
+ */
+public class TankPathSample
 {
     private double leftPosition;
     private double rightPosition;
@@ -10,7 +14,7 @@ public class PathStep
     private double rightAcceleration;
     private double heading;
 
-    public PathStep(double leftPosition, double rightPosition, double leftVelocity, double rightVelocity, double leftAcceleration, double rightAcceleration, double heading)
+    void set(double leftPosition, double rightPosition, double leftVelocity, double rightVelocity, double leftAcceleration, double rightAcceleration, double heading)
     {
         this.leftPosition = leftPosition;
         this.rightPosition = rightPosition;
@@ -21,11 +25,6 @@ public class PathStep
         this.heading = heading;
     }
 
-    public PathStep(double leftPosition, double rightPosition, double leftVelocity, double rightVelocity, double heading)
-    {
-        this(leftPosition, rightPosition, leftVelocity, rightVelocity, 0.0, 0.0, heading);
-    }
-
     public double getLeftPosition()
     {
         return this.leftPosition;
@@ -73,8 +73,7 @@ public class AnalogOperationState extends OperationState
         Shift requiredShifts = description.getRequiredShifts();
         if (relevantShifts != null && requiredShifts != null)
         {
-            Shift relevantActiveShifts = Shift.Intersect(relevantShifts, activeShifts);
-            if (!relevantActiveShifts.equals(requiredShifts))
+            if (!relevantShifts.intersectEquals(activeShifts, requiredShifts))
             {
                 this.currentValue = description.getDefaultValue();
                 return false;
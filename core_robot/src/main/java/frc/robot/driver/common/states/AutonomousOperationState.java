@@ -15,6 +15,7 @@ import frc.robot.driver.common.IControlTask;
 public class AutonomousOperationState extends OperationState implements IMacroOperationState
 {
     private final Map<IOperation, OperationState> operationStateMap;
+    private final IOperation[] affectedOperations;
 
     private IControlTask task;
 
@@ -32,6 +33,10 @@ public class AutonomousOperationState extends OperationState implements IMacroOp
         this.operationStateMap = operationStateMap;
         this.task = task;
 
+        // the set of operations doesn't change after the driver is created, so we only need to gather them once
+        Set<IOperation> keys = operationStateMap.keySet();
+        this.affectedOperations = keys.toArray(new IOperation[keys.size()]);
+
         this.hasBegun = false;
         this.shouldEnd = false;
         this.hasEnded = false;
@@ -78,9 +83,7 @@ public class AutonomousOperationState extends OperationState implements IMacroOp
 
     public IOperation[] getAffectedOperations()
     {
-        Set<IOperation> keys = this.operationStateMap.keySet();
-        IOperation[] keyArray = new IOperation[keys.size()];
-        return (IOperation[])keys.toArray(keyArray);
+        return this.affectedOperations;
     }
 
     public boolean getIsActive()
@@ -98,8 +98,7 @@ public class DigitalOperationState extends OperationState
         Shift requiredShifts = description.getRequiredShifts();
         if (relevantShifts != null && requiredShifts != null)
         {
-            Shift relevantActiveShifts = Shift.Intersect(relevantShifts, activeShifts);
-            if (!relevantActiveShifts.equals(requiredShifts))
+            if (!relevantShifts.intersectEquals(activeShifts, requiredShifts))
             {
                 this.button.updateState(false);
                 return false;
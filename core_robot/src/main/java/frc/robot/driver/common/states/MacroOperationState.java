@@ -112,8 +112,7 @@ public class MacroOperationState extends OperationState implements IMacroOperati
         Shift requiredShifts = description.getRequiredShifts();
         if (relevantShifts != null && requiredShifts != null)
         {
-            Shift relevantActiveShifts = Shift.Intersect(relevantShifts, activeShifts);
-            if (!relevantActiveShifts.equals(requiredShifts))
+            if (!relevantShifts.intersectEquals(activeShifts, requiredShifts))
             {
                 this.button.updateState(false);
                 return false;
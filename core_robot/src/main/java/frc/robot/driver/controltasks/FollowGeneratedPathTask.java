@@ -0,0 +1,204 @@
+package frc.robot.driver.controltasks;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.acmerobotics.roadrunner.geometry.Pose2d;
+import com.acmerobotics.roadrunner.path.PathBuilder;
+
+import frc.robot.TuningConstants;
+import frc.robot.common.Helpers;
+import frc.robot.common.robotprovider.ITimer;
+import frc.robot.driver.AnalogOperation;
+import frc.robot.driver.PathManager;
+import frc.robot.driver.common.RoadRunnerTankTranslator;
+import frc.robot.driver.common.TankPath;
+import frc.robot.mechanisms.PositionManager;
+
+/**
+ * Task that generates a path from the robot's current position to a target pose, and then follows it.
+ *
+ * The path is generated on a background thread by PathManager, so the robot loop keeps running (with the drivetrain stopped) while the
+ * trajectory is being generated.  Once the path is ready, it is followed the same way as FollowPathTask.
+ */
+public class FollowGeneratedPathTask extends ControlTaskBase
+{
+    private static final double CENTIMETERS_PER_INCH = 2.54;
+
+    private final double targetX;
+    private final double targetY;
+    private final double targetHeading;
+    private final boolean isBackwards;
+
+    private ITimer timer;
+    private double startTime;
+    private Future<TankPath> generatedPath;
+    private FollowPathTask followPathTask;
+    private boolean failed;
+
+    /**
+     * Initializes a new FollowGeneratedPathTask
+     * @param targetX the x position to drive to (relative to where the robot started), in inches
+     * @param targetY the y position to drive to (relative to where the robot started), in inches
+     * @param targetHeading the heading to finish at (counter-clockwise, relative to where the robot started), in degrees
+     * @param isBackwards whether to drive the path backwards
+     */
+    public FollowGeneratedPathTask(double targetX, double targetY, double targetHeading, boolean isBackwards)
+    {
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.targetHeading = targetHeading;
+        this.isBackwards = isBackwards;
+
+        this.generatedPath = null;
+        this.followPathTask = null;
+        this.failed = false;
+    }
+
+    /**
+     * Begin the current task
+     */
+    @Override
+    public void begin()
+    {
+        this.timer = this.getInjector().getInstance(ITimer.class);
+        this.startTime = this.timer.get();
+
+        PositionManager positionManager = this.getInjector().getInstance(PositionManager.class);
+        double x = positionManager.getNavxX() / FollowGeneratedPathTask.CENTIMETERS_PER_INCH;
+        double y = positionManager.getNavxY() / FollowGeneratedPathTask.CENTIMETERS_PER_INCH;
+        double heading = positionManager.getNavxAngle();
+
+        // FollowPathTask follows a path relative to the robot's position and heading when it begins,
+        // so generate the path in the robot's frame of reference (starting at the origin, facing 0)
+        double deltaX = this.targetX - x;
+        double deltaY = this.targetY - y;
+        double relativeX = deltaX * Helpers.cosd(heading) + deltaY * Helpers.sind(heading);
+        double relativeY = -deltaX * Helpers.sind(heading) + deltaY * Helpers.cosd(heading);
+        double relativeHeading = (this.targetHeading - heading) * Helpers.DEGREES_TO_RADIANS;
+        boolean isBackwards = this.isBackwards;
+
+        PathManager pathManager = this.getInjector().getInstance(PathManager.class);
+        this.generatedPath = pathManager.generatePath(
+            () -> RoadRunnerTankTranslator.convert(
+                new PathBuilder(new Pose2d(0, 0, 0))
+                    .splineTo(new Pose2d(relativeX, relativeY, relativeHeading))
+                    .build(),
+                isBackwards));
+
+        this.stopDriveTrain();
+    }
+
+    /**
+     * Run an iteration of the current task and apply any control changes
+     */
+    @Override
+    public void update()
+    {
+        if (this.followPathTask == null)
+        {
+            if (!this.generatedPath.isDone())
+            {
+                // keep the robot still until the path is ready
+                this.stopDriveTrain();
+                return;
+            }
+
+            TankPath path = this.getGeneratedPath();
+            if (path == null)
+            {
+                this.failed = true;
+                return;
+            }
+
+            this.followPathTask = new FollowPathTask(path);
+            this.followPathTask.initialize(this.getOperationStateMap(), this.getInjector());
+            this.followPathTask.begin();
+        }
+
+        this.followPathTask.update();
+    }
+
+    /**
+     * Cancel the current task and clear control changes
+     */
+    @Override
+    public void stop()
+    {
+        if (this.followPathTask != null)
+        {
+            this.followPathTask.stop();
+        }
+        else
+        {
+            this.cancelGeneration();
+            this.stopDriveTrain();
+        }
+    }
+
+    /**
+     * End the current task and reset control changes appropriately
+     */
+    @Override
+    public void end()
+    {
+        if (this.followPathTask != null)
+        {
+            this.followPathTask.end();
+        }
+        else
+        {
+            this.cancelGeneration();
+            this.stopDriveTrain();
+        }
+    }
+
+    /**
+     * Checks whether this task should be stopped, or whether it should continue being processed.
+     * @return true if the path couldn't be generated (in time), otherwise false
+     */
+    @Override
+    public boolean shouldCancel()
+    {
+        return this.failed ||
+            (this.followPathTask == null && this.timer.get() - this.startTime > TuningConstants.PATH_GENERATION_TIMEOUT);
+    }
+
+    @Override
+    public boolean hasCompleted()
+    {
+        return this.followPathTask != null && this.followPathTask.hasCompleted();
+    }
+
+    private TankPath getGeneratedPath()
+    {
+        try
+        {
+            return this.generatedPath.get();
+        }
+        catch (InterruptedException | ExecutionException ex)
+        {
+            if (TuningConstants.THROW_EXCEPTIONS)
+            {
+                throw new RuntimeException("couldn't generate path", ex);
+            }
+
+            return null;
+        }
+    }
+
+    private void cancelGeneration()
+    {
+        if (this.generatedPath != null)
+        {
+            // trajectory generation can't be interrupted part-way, but this keeps it from starting if it hasn't already
+            this.generatedPath.cancel(false);
+        }
+    }
+
+    private void stopDriveTrain()
+    {
+        this.setAnalogOperationState(AnalogOperation.DriveTrainMoveForward, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainTurn, 0.0);
+    }
+}
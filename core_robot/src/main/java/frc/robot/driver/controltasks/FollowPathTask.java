@@ -1,18 +1,17 @@
 package frc.robot.driver.controltasks;
 
-import java.util.List;
-
 import frc.robot.HardwareConstants;
 import frc.robot.common.robotprovider.*;
 import frc.robot.driver.*;
-import frc.robot.driver.common.PathStep;
+import frc.robot.driver.common.TankPath;
+import frc.robot.driver.common.TankPathSample;
 import frc.robot.mechanisms.DriveTrainMechanism;
 import frc.robot.mechanisms.PositionManager;
 
 public class FollowPathTask extends ControlTaskBase
 {
-    private static final double Timestep = 0.01;
     private final String pathName;
+    private final TankPathSample sample;
 
     protected ITimer timer;
 
@@ -22,15 +21,29 @@ public class FollowPathTask extends ControlTaskBase
     private double startHeading;
 
     private PositionManager positionManager;
-    private List<PathStep> path;
+    private TankPath path;
     private double duration;
 
     /**
      * Initializes a new FollowPathTask
+     * @param pathName the name of the path to follow (see PathManager)
      */
     public FollowPathTask(String pathName)
     {
         this.pathName = pathName;
+        this.sample = new TankPathSample();
+        this.path = null;
+    }
+
+    /**
+     * Initializes a new FollowPathTask
+     * @param path to follow (relative to the robot's position and heading when the task begins)
+     */
+    public FollowPathTask(TankPath path)
+    {
+        this.pathName = null;
+        this.sample = new TankPathSample();
+        this.path = path;
     }
 
     /**
@@ -49,15 +62,21 @@ public class FollowPathTask extends ControlTaskBase
         this.positionManager = this.getInjector().getInstance(PositionManager.class);
         this.startHeading = this.positionManager.getNavxAngle();
 
-        PathManager pathManager = this.getInjector().getInstance(PathManager.class);
-        this.path = pathManager.getPath(this.pathName);
-        this.duration = this.path.size() * FollowPathTask.Timestep;
+        if (this.pathName != null)
+        {
+            PathManager pathManager = this.getInjector().getInstance(PathManager.class);
+            this.path = pathManager.getPath(this.pathName);
+        }
+
+        this.duration = this.path.getDuration();
 
         this.setDigitalOperationState(DigitalOperation.DriveTrainUsePathMode, true);
         this.setAnalogOperationState(AnalogOperation.DriveTrainLeftPosition, this.startLeftPosition);
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightPosition, this.startRightPosition);
         this.setAnalogOperationState(AnalogOperation.DriveTrainLeftVelocity, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightVelocity, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainLeftAcceleration, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainRightAcceleration, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainHeadingCorrection, 0.0);
     }
 
@@ -67,28 +86,21 @@ public class FollowPathTask extends ControlTaskBase
     @Override
     public void update()
     {
+        // sample the path at exactly the current time (interpolating between steps), so the setpoints don't depend on the loop period
         double elapsedTime = this.timer.get() - this.startTime;
-        if (elapsedTime > this.duration)
-        {
-            elapsedTime = this.duration;
-        }
-
-        double currentIndex = Math.floor(elapsedTime / FollowPathTask.Timestep);
-        if (currentIndex >= this.path.size())
-        {
-            currentIndex = this.path.size() - 1;
-        }
+        this.path.sample(elapsedTime, this.sample);
 
         double currentHeading = this.positionManager.getNavxAngle();
 
-        PathStep step = this.path.get((int)currentIndex);
-        double leftGoalPosition = step.getLeftPosition() * HardwareConstants.DRIVETRAIN_LEFT_TICKS_PER_INCH;
-        double rightGoalPosition = step.getRightPosition() * HardwareConstants.DRIVETRAIN_RIGHT_TICKS_PER_INCH;
+        double leftGoalPosition = this.sample.getLeftPosition() * HardwareConstants.DRIVETRAIN_LEFT_TICKS_PER_INCH;
+        double rightGoalPosition = this.sample.getRightPosition() * HardwareConstants.DRIVETRAIN_RIGHT_TICKS_PER_INCH;
         this.setAnalogOperationState(AnalogOperation.DriveTrainLeftPosition, this.startLeftPosition + leftGoalPosition);
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightPosition, this.startRightPosition + rightGoalPosition);
-        this.setAnalogOperationState(AnalogOperation.DriveTrainLeftVelocity, step.getLeftVelocity());
-        this.setAnalogOperationState(AnalogOperation.DriveTrainRightVelocity, step.getRightVelocity());
-        this.setAnalogOperationState(AnalogOperation.DriveTrainHeadingCorrection, (this.startHeading + step.getHeading()) - currentHeading);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainLeftVelocity, this.sample.getLeftVelocity());
+        this.setAnalogOperationState(AnalogOperation.DriveTrainRightVelocity, this.sample.getRightVelocity());
+        this.setAnalogOperationState(AnalogOperation.DriveTrainLeftAcceleration, this.sample.getLeftAcceleration());
+        this.setAnalogOperationState(AnalogOperation.DriveTrainRightAcceleration, this.sample.getRightAcceleration());
+        this.setAnalogOperationState(AnalogOperation.DriveTrainHeadingCorrection, (this.startHeading + this.sample.getHeading()) - currentHeading);
     }
 
     /**
@@ -104,6 +116,8 @@ public class FollowPathTask extends ControlTaskBase
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightPosition, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainLeftVelocity, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightVelocity, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainLeftAcceleration, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainRightAcceleration, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainHeadingCorrection, 0.0);
     }
 
@@ -118,6 +132,8 @@ public class FollowPathTask extends ControlTaskBase
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightPosition, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainLeftVelocity, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainRightVelocity, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainLeftAcceleration, 0.0);
+        this.setAnalogOperationState(AnalogOperation.DriveTrainRightAcceleration, 0.0);
         this.setAnalogOperationState(AnalogOperation.DriveTrainHeadingCorrection, 0.0);
     }
 
@@ -6,9 +6,14 @@ import frc.robot.common.robotprovider.ITimer;
 import frc.robot.driver.AnalogOperation;
 import frc.robot.driver.DigitalOperation;
 import frc.robot.mechanisms.OffboardVisionManager;
+import frc.robot.mechanisms.PositionManager;
 
 /**
  * Task that turns the robot a certain amount clockwise or counterclockwise in-place based on vision center
+ *
+ * Vision results describe where the target was when the frame was captured, which can be several loops ago.  So (when
+ * VISION_USE_LATENCY_COMPENSATION is enabled) each new result is turned into a heading goal using the robot's heading at the capture
+ * time, and the angle to the target is then calculated from the current heading every loop until the next result arrives.
  */
 public class VisionCenteringTask extends ControlTaskBase
 {
@@ -17,10 +22,12 @@ public class VisionCenteringTask extends ControlTaskBase
     private final boolean useTime;
 
     protected OffboardVisionManager visionManager;
+    private PositionManager positionManager;
     private ITimer timer;
     private PIDHandler turnPidHandler;
 
     private Double centeredTime;
+    private Double targetHeading;
 
     private int noCenterCount;
 
@@ -42,6 +49,7 @@ public class VisionCenteringTask extends ControlTaskBase
 
         this.turnPidHandler = null;
         this.centeredTime = null;
+        this.targetHeading = null;
 
         this.noCenterCount = 0;
     }
@@ -53,6 +61,7 @@ public class VisionCenteringTask extends ControlTaskBase
     public void begin()
     {
         this.visionManager = this.getInjector().getInstance(OffboardVisionManager.class);
+        this.positionManager = this.getInjector().getInstance(PositionManager.class);
         this.turnPidHandler = this.createTurnHandler();
 
         if (this.useTime)
@@ -71,7 +80,7 @@ public class VisionCenteringTask extends ControlTaskBase
     {
         this.setDigitalOperationState(DigitalOperation.DriveTrainUsePositionalMode, false);
 
-        Double currentMeasuredAngle = this.visionManager.getHorizontalAngle();
+        Double currentMeasuredAngle = this.getHorizontalAngle();
         if (currentMeasuredAngle != null)
         {
             this.setAnalogOperationState(
@@ -99,7 +108,7 @@ public class VisionCenteringTask extends ControlTaskBase
     @Override
     public boolean hasCompleted()
     {
-        Double currentMeasuredAngle = this.visionManager.getHorizontalAngle();
+        Double currentMeasuredAngle = this.getHorizontalAngle();
         if (currentMeasuredAngle == null)
         {
             return false;
@@ -151,6 +160,30 @@ public class VisionCenteringTask extends ControlTaskBase
         return this.noCenterCount >= VisionCenteringTask.NO_CENTER_THRESHOLD;
     }
 
+    /**
+     * Gets the current angle from the robot to the vision target, compensating for how long ago the vision frame was captured (when known)
+     * @return the angle in degrees (positive when the target is clockwise from the robot's heading), or null if there is no target
+     */
+    protected Double getHorizontalAngle()
+    {
+        Double horizontalAngle = this.visionManager.getHorizontalAngle();
+        Double captureTime = this.visionManager.getCaptureTime();
+        if (horizontalAngle == null || captureTime == null || !TuningConstants.VISION_USE_LATENCY_COMPENSATION)
+        {
+            this.targetHeading = null;
+            return horizontalAngle;
+        }
+
+        if (this.targetHeading == null || this.visionManager.isNewResult())
+        {
+            // the target was horizontalAngle clockwise from where the robot was facing when the frame was captured
+            double captureHeading = this.positionManager.getNavxAngleAt(captureTime);
+            this.targetHeading = captureHeading - horizontalAngle;
+        }
+
+        return this.positionManager.getNavxAngle() - this.targetHeading;
+    }
+
     protected PIDHandler createTurnHandler()
     {
         return new PIDHandler(
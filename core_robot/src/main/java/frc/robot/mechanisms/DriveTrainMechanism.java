@@ -17,11 +17,13 @@ import com.google.inject.Inject;
  * 
  */
 @Singleton
-public class DriveTrainMechanism implements IMechanism
+public class DriveTrainMechanism implements IMechanism, IControlLoop
 {
     private static final int pidSlotId = 0;
     private static final int FRAME_PERIOD_MS = 5;
 
+    private static final boolean USE_CONTROL_THREAD = TuningConstants.CONTROL_THREAD_ENABLED && TuningConstants.DRIVETRAIN_USE_CONTROL_THREAD;
+
     private static final double POWERLEVEL_MIN = -1.0;
     private static final double POWERLEVEL_MAX = 1.0;
 
@@ -33,14 +35,24 @@ public class DriveTrainMechanism implements IMechanism
 
     private Driver driver;
 
-    private PIDHandler leftPID;
-    private PIDHandler rightPID;
+    private final PIDCalculator leftPID;
+    private final PIDCalculator rightPID;
 
     private boolean usePID;
     private boolean usePathMode;
     private boolean usePositionalMode;
     private boolean useBrakeMode;
 
+    // the mode that the PID handlers and motors are currently set up for (only used by whichever thread runs the control loop)
+    private boolean controlUsePID;
+    private boolean controlUsePathMode;
+    private boolean controlUsePositionalMode;
+    private boolean controlUseBrakeMode;
+
+    // the latest command from the robot loop, and the latest state from the control thread
+    private volatile Command command;
+    private volatile ControlState controlState;
+
     private double leftVelocity;
     private double leftError;
     private int leftPosition;
@@ -135,14 +147,20 @@ public class DriveTrainMechanism implements IMechanism
             TuningConstants.DRIVETRAIN_SUPPLY_TRIGGER_CURRENT,
             TuningConstants.DRIVETRAIN_SUPPLY_TRIGGER_DURATION);
 
-        this.leftPID = null;
-        this.rightPID = null;
+        // the PID calculators are re-configured in place whenever the control mode changes
+        this.leftPID = new PIDCalculator(0.0, 0.0, 0.0, 0.0, 1.0);
+        this.leftPID.setAntiWindup(TuningConstants.DRIVETRAIN_PID_ANTI_WINDUP, TuningConstants.DRIVETRAIN_PID_ANTI_WINDUP_KB);
+        this.rightPID = new PIDCalculator(0.0, 0.0, 0.0, 0.0, 1.0);
+        this.rightPID.setAntiWindup(TuningConstants.DRIVETRAIN_PID_ANTI_WINDUP, TuningConstants.DRIVETRAIN_PID_ANTI_WINDUP_KB);
 
         this.usePID = TuningConstants.DRIVETRAIN_USE_PID;
         this.usePathMode = false;
         this.usePositionalMode = false;
         this.useBrakeMode = false;
 
+        this.command = null;
+        this.controlState = null;
+
         this.leftVelocity = 0.0;
         this.leftError = 0.0;
         this.leftPosition = 0;
@@ -223,7 +241,7 @@ public class DriveTrainMechanism implements IMechanism
             this.useBrakeMode = false;
         }
 
-        this.setControlMode();
+        this.setControlMode(this.usePID, this.usePathMode, this.usePositionalMode, this.useBrakeMode);
     }
 
     /**
@@ -232,14 +250,33 @@ public class DriveTrainMechanism implements IMechanism
     @Override
     public void readSensors()
     {
-        this.leftVelocity = this.leftMotor.getVelocity();
-        this.rightVelocity = this.rightMotor.getVelocity();
+        if (DriveTrainMechanism.USE_CONTROL_THREAD)
+        {
+            // the control thread reads the motors, so use the latest values that it has published
+            ControlState controlState = this.controlState;
+            if (controlState != null)
+            {
+                this.leftVelocity = controlState.leftVelocity;
+                this.rightVelocity = controlState.rightVelocity;
+
+                this.leftPosition = controlState.leftPosition;
+                this.rightPosition = controlState.rightPosition;
 
-        this.leftPosition = this.leftMotor.getPosition();
-        this.rightPosition = this.rightMotor.getPosition();
+                this.leftError = controlState.leftError;
+                this.rightError = controlState.rightError;
+            }
+        }
+        else
+        {
+            this.leftVelocity = this.leftMotor.getVelocity();
+            this.rightVelocity = this.rightMotor.getVelocity();
 
-        this.leftError = this.leftMotor.getError();
-        this.rightError = this.rightMotor.getError();
+            this.leftPosition = this.leftMotor.getPosition();
+            this.rightPosition = this.rightMotor.getPosition();
+
+            this.leftError = this.leftMotor.getError();
+            this.rightError = this.rightMotor.getError();
+        }
 
         this.logger.logNumber(LoggingKey.DriveTrainLeftVelocity, this.leftVelocity);
         this.logger.logNumber(LoggingKey.DriveTrainLeftError, this.leftError);
@@ -258,54 +295,102 @@ public class DriveTrainMechanism implements IMechanism
         if (this.driver.getDigital(DigitalOperation.DriveTrainEnablePID))
         {
             this.usePID = true;
-            this.setControlMode();
         }
         else if (this.driver.getDigital(DigitalOperation.DriveTrainDisablePID))
         {
             this.usePID = false;
-            this.setControlMode();
         }
 
         // check our desired PID mode (needed for positional mode or break mode)
-        boolean newUsePathMode = this.driver.getDigital(DigitalOperation.DriveTrainUsePathMode);
-        boolean newUsePositionalMode = this.driver.getDigital(DigitalOperation.DriveTrainUsePositionalMode);
-        boolean newUseBrakeMode = this.driver.getDigital(DigitalOperation.DriveTrainUseBrakeMode);
-        if (newUsePathMode != this.usePathMode ||
-            newUsePositionalMode != this.usePositionalMode ||
-            newUseBrakeMode != this.useBrakeMode)
-        {
-            this.usePathMode = newUsePathMode;
-            this.usePositionalMode = newUsePositionalMode;
-            this.useBrakeMode = newUseBrakeMode;
+        this.usePathMode = this.driver.getDigital(DigitalOperation.DriveTrainUsePathMode);
+        this.usePositionalMode = this.driver.getDigital(DigitalOperation.DriveTrainUsePositionalMode);
+        this.useBrakeMode = this.driver.getDigital(DigitalOperation.DriveTrainUseBrakeMode);
 
-            // re-create PID handler
-            this.setControlMode();
-        }
-
-        // calculate desired setting for the current mode
-        Setpoint setpoint;
+        // take a snapshot of everything the control loop needs from the driver
+        Command command;
         if (this.usePathMode)
         {
-            setpoint = this.calculatePathModeSetpoint();
+            command = this.createPathModeCommand();
         }
         else if (this.usePositionalMode)
         {
-            setpoint = this.calculatePositionModeSetpoint();
+            command = this.createPositionModeCommand();
         }
         else
         {
-            setpoint = this.calculateVelocityModeSetpoint();
+            command = this.createVelocityModeCommand();
         }
 
-        double leftSetpoint = setpoint.getLeft();
-        double rightSetpoint = setpoint.getRight();
+        this.command = command;
+
+        double leftSetpoint;
+        double rightSetpoint;
+        if (DriveTrainMechanism.USE_CONTROL_THREAD)
+        {
+            // the control thread will apply the command, so log the setpoints it most recently applied
+            ControlState controlState = this.controlState;
+            leftSetpoint = controlState != null ? controlState.leftSetpoint : 0.0;
+            rightSetpoint = controlState != null ? controlState.rightSetpoint : 0.0;
+        }
+        else
+        {
+            Setpoint setpoint = this.calculateSetpoint(command, this.leftPosition, this.rightPosition, this.timer.get());
+            leftSetpoint = setpoint.getLeft();
+            rightSetpoint = setpoint.getRight();
+
+            // apply the setpoints to the motors
+            this.leftMotor.set(leftSetpoint);
+            this.rightMotor.set(rightSetpoint);
+        }
 
         this.logger.logNumber(LoggingKey.DriveTrainLeftVelocityGoal, leftSetpoint);
         this.logger.logNumber(LoggingKey.DriveTrainRightVelocityGoal, rightSetpoint);
+    }
 
-        // apply the setpoints to the motors
-        this.leftMotor.set(leftSetpoint);
-        this.rightMotor.set(rightSetpoint);
+    /**
+     * Run one iteration of the drivetrain's inner control loop on the control thread: read the encoders, calculate the setpoints for
+     * the latest command from the robot loop, apply them to the motors, and publish the results back to the robot loop
+     */
+    @Override
+    public void runControlLoop()
+    {
+        Command command = this.command;
+        if (command == null)
+        {
+            // nothing to do until the robot loop has run
+            return;
+        }
+
+        double leftVelocity = this.leftMotor.getVelocity();
+        double rightVelocity = this.rightMotor.getVelocity();
+        int leftPosition = this.leftMotor.getPosition();
+        int rightPosition = this.rightMotor.getPosition();
+        double leftError = this.leftMotor.getError();
+        double rightError = this.rightMotor.getError();
+
+        Setpoint setpoint = this.calculateSetpoint(command, leftPosition, rightPosition, this.timer.get());
+        this.leftMotor.set(setpoint.getLeft());
+        this.rightMotor.set(setpoint.getRight());
+
+        this.controlState = new ControlState(
+            leftVelocity,
+            leftError,
+            leftPosition,
+            rightVelocity,
+            rightError,
+            rightPosition,
+            setpoint.getLeft(),
+            setpoint.getRight());
+    }
+
+    /**
+     * Gets whether the drivetrain's inner control loop should be run on the control thread
+     * @return true if the control thread should call runControlLoop, false if update applies the setpoints
+     */
+    @Override
+    public boolean useControlThread()
+    {
+        return DriveTrainMechanism.USE_CONTROL_THREAD;
     }
 
     /**
@@ -320,15 +405,11 @@ public class DriveTrainMechanism implements IMechanism
         this.leftMotor.reset();
         this.rightMotor.reset();
 
-        if (this.leftPID != null)
-        {
-            this.leftPID.reset();
-        }
+        this.leftPID.reset();
+        this.rightPID.reset();
 
-        if (this.rightPID != null)
-        {
-            this.rightPID.reset();
-        }
+        this.command = null;
+        this.controlState = null;
 
         this.leftVelocity = 0.0;
         this.leftError = 0.0;
@@ -339,99 +420,133 @@ public class DriveTrainMechanism implements IMechanism
     }
 
     /**
-     * create a PIDHandler based on our current settings
+     * Calculate the setpoints for a command, first switching the PID handlers and motors to the command's mode if it has changed
+     * @param command to calculate the setpoints for
+     * @param leftPosition the current left encoder position, in ticks
+     * @param rightPosition the current right encoder position, in ticks
+     * @param time the current time, in seconds
+     * @return settings for left and right motor
+     */
+    private Setpoint calculateSetpoint(Command command, int leftPosition, int rightPosition, double time)
+    {
+        if (command.usePID != this.controlUsePID ||
+            command.usePathMode != this.controlUsePathMode ||
+            command.usePositionalMode != this.controlUsePositionalMode ||
+            command.useBrakeMode != this.controlUseBrakeMode)
+        {
+            // re-configure the PID calculators
+            this.setControlMode(command.usePID, command.usePathMode, command.usePositionalMode, command.useBrakeMode);
+        }
+
+        if (command.usePathMode)
+        {
+            return this.calculatePathModeSetpoint(command, leftPosition, rightPosition, time);
+        }
+
+        if (command.usePositionalMode)
+        {
+            return this.calculatePositionModeSetpoint(command, leftPosition, rightPosition, time);
+        }
+
+        return new Setpoint(command.left, command.right);
+    }
+
+    /**
+     * configure the PID calculators and motors based on the provided settings
      */
-    private void setControlMode()
+    private void setControlMode(boolean usePID, boolean usePathMode, boolean usePositionalMode, boolean useBrakeMode)
     {
+        this.controlUsePID = usePID;
+        this.controlUsePathMode = usePathMode;
+        this.controlUsePositionalMode = usePositionalMode;
+        this.controlUseBrakeMode = useBrakeMode;
+
         TalonSRXControlMode mode = TalonSRXControlMode.PercentOutput;
-        if (this.usePID)
+        if (usePID)
         {
-            if (this.usePathMode)
+            if (usePathMode)
             {
-                this.leftPID = new PIDHandler(
+                this.leftPID.configure(
                     TuningConstants.DRIVETRAIN_PATH_PID_LEFT_KP,
                     TuningConstants.DRIVETRAIN_PATH_PID_LEFT_KI,
                     TuningConstants.DRIVETRAIN_PATH_PID_LEFT_KD,
                     TuningConstants.DRIVETRAIN_PATH_PID_LEFT_KF,
                     1.0,
                     -TuningConstants.DRIVETRAIN_PATH_MAX_POWER_LEVEL,
-                    TuningConstants.DRIVETRAIN_PATH_MAX_POWER_LEVEL,
-                    this.timer);
-                this.rightPID = new PIDHandler(
+                    TuningConstants.DRIVETRAIN_PATH_MAX_POWER_LEVEL);
+                this.rightPID.configure(
                     TuningConstants.DRIVETRAIN_PATH_PID_RIGHT_KP,
                     TuningConstants.DRIVETRAIN_PATH_PID_RIGHT_KI,
                     TuningConstants.DRIVETRAIN_PATH_PID_RIGHT_KD,
                     TuningConstants.DRIVETRAIN_PATH_PID_RIGHT_KF,
                     1.0,
                     -TuningConstants.DRIVETRAIN_PATH_MAX_POWER_LEVEL,
-                    TuningConstants.DRIVETRAIN_PATH_MAX_POWER_LEVEL,
-                    this.timer);
+                    TuningConstants.DRIVETRAIN_PATH_MAX_POWER_LEVEL);
             }
-            else if (this.usePositionalMode)
+            else if (usePositionalMode)
             {
-                if (this.useBrakeMode)
+                if (useBrakeMode)
                 {
-                    this.leftPID = new PIDHandler(
+                    this.leftPID.configure(
                         TuningConstants.DRIVETRAIN_BRAKE_PID_LEFT_KP,
                         TuningConstants.DRIVETRAIN_BRAKE_PID_LEFT_KI,
                         TuningConstants.DRIVETRAIN_BRAKE_PID_LEFT_KD,
                         TuningConstants.DRIVETRAIN_BRAKE_PID_LEFT_KF,
                         1.0,
                         -TuningConstants.DRIVETRAIN_BRAKE_MAX_POWER_LEVEL,
-                        TuningConstants.DRIVETRAIN_BRAKE_MAX_POWER_LEVEL,
-                        this.timer);
-                    this.rightPID = new PIDHandler(
+                        TuningConstants.DRIVETRAIN_BRAKE_MAX_POWER_LEVEL);
+                    this.rightPID.configure(
                         TuningConstants.DRIVETRAIN_BRAKE_PID_RIGHT_KP,
                         TuningConstants.DRIVETRAIN_BRAKE_PID_RIGHT_KI,
                         TuningConstants.DRIVETRAIN_BRAKE_PID_RIGHT_KD,
                         TuningConstants.DRIVETRAIN_BRAKE_PID_RIGHT_KF,
                         1.0,
                         -TuningConstants.DRIVETRAIN_BRAKE_MAX_POWER_LEVEL,
-                        TuningConstants.DRIVETRAIN_BRAKE_MAX_POWER_LEVEL,
-                        this.timer);
+                        TuningConstants.DRIVETRAIN_BRAKE_MAX_POWER_LEVEL);
                 }
                 else
                 {
-                    this.leftPID = new PIDHandler(
+                    this.leftPID.configure(
                         TuningConstants.DRIVETRAIN_POSITION_PID_LEFT_KP,
                         TuningConstants.DRIVETRAIN_POSITION_PID_LEFT_KI,
                         TuningConstants.DRIVETRAIN_POSITION_PID_LEFT_KD,
                         TuningConstants.DRIVETRAIN_POSITION_PID_LEFT_KF,
                         1.0,
                         -TuningConstants.DRIVETRAIN_POSITIONAL_MAX_POWER_LEVEL,
-                        TuningConstants.DRIVETRAIN_POSITIONAL_MAX_POWER_LEVEL,
-                        this.timer);
-                    this.rightPID = new PIDHandler(
+                        TuningConstants.DRIVETRAIN_POSITIONAL_MAX_POWER_LEVEL);
+                    this.rightPID.configure(
                         TuningConstants.DRIVETRAIN_POSITION_PID_RIGHT_KP,
                         TuningConstants.DRIVETRAIN_POSITION_PID_RIGHT_KI,
                         TuningConstants.DRIVETRAIN_POSITION_PID_RIGHT_KD,
                         TuningConstants.DRIVETRAIN_POSITION_PID_RIGHT_KF,
                         1.0,
                         -TuningConstants.DRIVETRAIN_POSITIONAL_MAX_POWER_LEVEL,
-                        TuningConstants.DRIVETRAIN_POSITIONAL_MAX_POWER_LEVEL,
-                        this.timer);
+                        TuningConstants.DRIVETRAIN_POSITIONAL_MAX_POWER_LEVEL);
                 }
             }
-            else
+
+            // feed-forward path mode controls the power directly, so it doesn't use the motors' velocity PID
+            if (!usePathMode || !TuningConstants.DRIVETRAIN_PATH_USE_FEED_FORWARD)
             {
-                this.leftPID = null;
-                this.rightPID = null;
+                mode = TalonSRXControlMode.Velocity;
+                this.leftMotor.setSelectedSlot(DriveTrainMechanism.pidSlotId);
+                this.rightMotor.setSelectedSlot(DriveTrainMechanism.pidSlotId);
             }
-
-            mode = TalonSRXControlMode.Velocity;
-            this.leftMotor.setSelectedSlot(DriveTrainMechanism.pidSlotId);
-            this.rightMotor.setSelectedSlot(DriveTrainMechanism.pidSlotId);
         }
 
         this.leftMotor.setControlMode(mode);
         this.rightMotor.setControlMode(mode);
+
+        // start the PID calculators over for the new mode's goals
+        this.leftPID.reset();
+        this.rightPID.reset();
     }
 
     /**
      * Calculate the setting to use based on the inputs when in velocity mode
-     * @return settings for left and right motor
+     * @return command with the settings for left and right motor
      */
-    private Setpoint calculateVelocityModeSetpoint()
+    private Command createVelocityModeCommand()
     {
         // velocity goals represent the desired percentage of the max velocity
         double leftVelocityGoal = 0.0;
@@ -514,38 +629,88 @@ public class DriveTrainMechanism implements IMechanism
             right *= TuningConstants.DRIVETRAIN_VELOCITY_PID_RIGHT_KS;
         }
 
-        return new Setpoint(left, right);
+        return new Command(this.usePID, false, false, this.useBrakeMode, left, right, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
     }
 
     /**
-     * Calculate the setting to use based on the inputs when in path mode
-     * @return settings for left and right motor
+     * Take a snapshot of the driver's goals when in path mode
+     * @return command with the goals for the left and right sides
      */
-    private Setpoint calculatePathModeSetpoint()
+    private Command createPathModeCommand()
     {
         // get the desired left and right values from the driver.
-        // note that position goals are in inches and velocity goals are in inches/second
+        // note that position goals are in inches, velocity goals are in inches/second, and acceleration goals are in inches/second^2
         double leftPositionGoal = this.driver.getAnalog(AnalogOperation.DriveTrainLeftPosition);
         double rightPositionGoal = this.driver.getAnalog(AnalogOperation.DriveTrainRightPosition);
         double leftVelocityGoal = this.driver.getAnalog(AnalogOperation.DriveTrainLeftVelocity);
         double rightVelocityGoal = this.driver.getAnalog(AnalogOperation.DriveTrainRightVelocity);
+        double leftAccelerationGoal = this.driver.getAnalog(AnalogOperation.DriveTrainLeftAcceleration);
+        double rightAccelerationGoal = this.driver.getAnalog(AnalogOperation.DriveTrainRightAcceleration);
         double headingCorrection = this.driver.getAnalog(AnalogOperation.DriveTrainHeadingCorrection);
 
-        leftVelocityGoal /= TuningConstants.DRIVETRAIN_PATH_LEFT_MAX_VELOCITY_INCHES_PER_SECOND;
-        rightVelocityGoal /= TuningConstants.DRIVETRAIN_PATH_RIGHT_MAX_VELOCITY_INCHES_PER_SECOND;
-
         this.logger.logNumber(LoggingKey.DriveTrainLeftPositionGoal, leftPositionGoal);
         this.logger.logNumber(LoggingKey.DriveTrainRightPositionGoal, rightPositionGoal);
-        this.logger.logNumber(LoggingKey.DriveTrainLeftVelocityGoal, leftVelocityGoal);
-        this.logger.logNumber(LoggingKey.DriveTrainRightVelocityGoal, rightVelocityGoal);
+        this.logger.logNumber(LoggingKey.DriveTrainLeftAccelerationGoal, leftAccelerationGoal);
+        this.logger.logNumber(LoggingKey.DriveTrainRightAccelerationGoal, rightAccelerationGoal);
+
+        return new Command(
+            this.usePID,
+            true,
+            this.usePositionalMode,
+            this.useBrakeMode,
+            0.0,
+            0.0,
+            leftPositionGoal,
+            rightPositionGoal,
+            leftVelocityGoal,
+            rightVelocityGoal,
+            leftAccelerationGoal,
+            rightAccelerationGoal,
+            headingCorrection);
+    }
+
+    /**
+     * Calculate the setting to use based on the goals when in path mode
+     * @param command with the goals for the left and right sides
+     * @param leftPosition the current left encoder position, in ticks
+     * @param rightPosition the current right encoder position, in ticks
+     * @param time the current time, in seconds
+     * @return settings for left and right motor
+     */
+    private Setpoint calculatePathModeSetpoint(Command command, int leftPosition, int rightPosition, double time)
+    {
+        double leftVelocityGoal = command.leftVelocityGoal;
+        double rightVelocityGoal = command.rightVelocityGoal;
 
         // use positional PID to get the relevant value
-        double leftGoal = this.leftPID.calculatePosition(leftPositionGoal, this.leftPosition);
-        double rightGoal = this.rightPID.calculatePosition(rightPositionGoal, this.rightPosition);
+        double leftGoal = this.leftPID.calculatePosition(command.leftPositionGoal, leftPosition, time);
+        double rightGoal = this.rightPID.calculatePosition(command.rightPositionGoal, rightPosition, time);
+
+        if (TuningConstants.DRIVETRAIN_PATH_USE_FEED_FORWARD)
+        {
+            // calculate the power needed to follow the path from its velocity and acceleration, so the PID only corrects for error
+            leftGoal += DriveTrainMechanism.CalculateFeedForward(
+                leftVelocityGoal,
+                command.leftAccelerationGoal,
+                TuningConstants.DRIVETRAIN_PATH_FF_LEFT_KS,
+                TuningConstants.DRIVETRAIN_PATH_FF_LEFT_KV,
+                TuningConstants.DRIVETRAIN_PATH_FF_LEFT_KA);
+            rightGoal += DriveTrainMechanism.CalculateFeedForward(
+                rightVelocityGoal,
+                command.rightAccelerationGoal,
+                TuningConstants.DRIVETRAIN_PATH_FF_RIGHT_KS,
+                TuningConstants.DRIVETRAIN_PATH_FF_RIGHT_KV,
+                TuningConstants.DRIVETRAIN_PATH_FF_RIGHT_KA);
+        }
+        else
+        {
+            leftVelocityGoal /= TuningConstants.DRIVETRAIN_PATH_LEFT_MAX_VELOCITY_INCHES_PER_SECOND;
+            rightVelocityGoal /= TuningConstants.DRIVETRAIN_PATH_RIGHT_MAX_VELOCITY_INCHES_PER_SECOND;
 
-        // add in velocity as a type of feed-forward
-        leftGoal += leftVelocityGoal * TuningConstants.DRIVETRAIN_PATH_PID_LEFT_KV;
-        rightGoal += rightVelocityGoal * TuningConstants.DRIVETRAIN_PATH_PID_RIGHT_KV;
+            // add in velocity as a type of feed-forward
+            leftGoal += leftVelocityGoal * TuningConstants.DRIVETRAIN_PATH_PID_LEFT_KV;
+            rightGoal += rightVelocityGoal * TuningConstants.DRIVETRAIN_PATH_PID_RIGHT_KV;
+        }
 
         // apply cross-coupling changes
         double leftPositionError = this.leftPID.getError();
@@ -563,10 +728,10 @@ public class DriveTrainMechanism implements IMechanism
 
         // apply heading correction
         if (TuningConstants.DRIVETRAIN_USE_HEADING_CORRECTION
-            && headingCorrection != 0.0)
+            && command.headingCorrection != 0.0)
         {
-            leftGoal += TuningConstants.DRIVETRAIN_PATH_LEFT_HEADING_CORRECTION * headingCorrection;
-            rightGoal -= TuningConstants.DRIVETRAIN_PATH_RIGHT_HEADING_CORRECTION * headingCorrection;
+            leftGoal += TuningConstants.DRIVETRAIN_PATH_LEFT_HEADING_CORRECTION * command.headingCorrection;
+            rightGoal -= TuningConstants.DRIVETRAIN_PATH_RIGHT_HEADING_CORRECTION * command.headingCorrection;
         }
 
         // velocity plus position correction could put us over our max or under our min power levels
@@ -576,7 +741,7 @@ public class DriveTrainMechanism implements IMechanism
         this.assertPowerLevelRange(leftGoal, "left velocity (goal)");
         this.assertPowerLevelRange(rightGoal, "right velocity (goal)");
 
-        if (this.usePID)
+        if (command.usePID && !TuningConstants.DRIVETRAIN_PATH_USE_FEED_FORWARD)
         {
             leftGoal *= TuningConstants.DRIVETRAIN_VELOCITY_PID_LEFT_KS;
             rightGoal *= TuningConstants.DRIVETRAIN_VELOCITY_PID_RIGHT_KS;
@@ -586,10 +751,24 @@ public class DriveTrainMechanism implements IMechanism
     }
 
     /**
-     * Calculate the setting to use based on the inputs when in position mode
-     * @return settings for left and right motor
+     * Calculate the feed-forward power for following a path with a simple motor model (static friction, velocity and acceleration)
+     * @param velocity goal, in inches/second
+     * @param acceleration goal, in inches/second^2
+     * @param kS the power needed to overcome static friction
+     * @param kV the power needed per inch/second of velocity
+     * @param kA the power needed per inch/second^2 of acceleration
+     * @return the feed-forward power
      */
-    private Setpoint calculatePositionModeSetpoint()
+    static double CalculateFeedForward(double velocity, double acceleration, double kS, double kV, double kA)
+    {
+        return kS * Math.signum(velocity) + kV * velocity + kA * acceleration;
+    }
+
+    /**
+     * Take a snapshot of the driver's goals when in position mode
+     * @return command with the goals for the left and right sides
+     */
+    private Command createPositionModeCommand()
     {
         // get the desired left and right values from the driver.
         double leftPositionGoal = this.driver.getAnalog(AnalogOperation.DriveTrainLeftPosition);
@@ -598,13 +777,29 @@ public class DriveTrainMechanism implements IMechanism
         this.logger.logNumber(LoggingKey.DriveTrainLeftPositionGoal, leftPositionGoal);
         this.logger.logNumber(LoggingKey.DriveTrainRightPositionGoal, rightPositionGoal);
 
+        return new Command(this.usePID, false, true, this.useBrakeMode, 0.0, 0.0, leftPositionGoal, rightPositionGoal, 0.0, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Calculate the setting to use based on the goals when in position mode
+     * @param command with the goals for the left and right sides
+     * @param leftPosition the current left encoder position, in ticks
+     * @param rightPosition the current right encoder position, in ticks
+     * @param time the current time, in seconds
+     * @return settings for left and right motor
+     */
+    private Setpoint calculatePositionModeSetpoint(Command command, int leftPosition, int rightPosition, double time)
+    {
+        double leftPositionGoal = command.leftPositionGoal;
+        double rightPositionGoal = command.rightPositionGoal;
+
         double leftPower;
         double rightPower;
-        if (this.usePID)
+        if (command.usePID)
         {
             // use positional PID to get the relevant value
-            leftPower = this.leftPID.calculatePosition(leftPositionGoal, this.leftPosition);
-            rightPower = this.rightPID.calculatePosition(rightPositionGoal, this.rightPosition);
+            leftPower = this.leftPID.calculatePosition(leftPositionGoal, leftPosition, time);
+            rightPower = this.rightPID.calculatePosition(rightPositionGoal, rightPosition, time);
 
             // apply cross-coupling changes
             double leftPositionError = this.leftPID.getError();
@@ -627,8 +822,8 @@ public class DriveTrainMechanism implements IMechanism
         else
         {
             // calculate a desired power level
-            leftPower = leftPositionGoal - this.leftPosition;
-            rightPower = rightPositionGoal - this.rightPosition;
+            leftPower = leftPositionGoal - leftPosition;
+            rightPower = rightPositionGoal - rightPosition;
             if (Math.abs(leftPower) < 0.1)
             {
                 leftPower = 0.0;
@@ -650,7 +845,7 @@ public class DriveTrainMechanism implements IMechanism
         this.assertPowerLevelRange(leftPower, "left velocity (goal)");
         this.assertPowerLevelRange(rightPower, "right velocity (goal)");
 
-        if (this.usePID)
+        if (command.usePID)
         {
             leftPower *= TuningConstants.DRIVETRAIN_VELOCITY_PID_LEFT_KS;
             rightPower *= TuningConstants.DRIVETRAIN_VELOCITY_PID_RIGHT_KS;
@@ -734,4 +929,93 @@ public class DriveTrainMechanism implements IMechanism
             return this.right;
         }
     }
+
+    /**
+     * Snapshot of the driver's requests for the drivetrain, handed from the robot loop to the control loop
+     */
+    private static class Command
+    {
+        private final boolean usePID;
+        private final boolean usePathMode;
+        private final boolean usePositionalMode;
+        private final boolean useBrakeMode;
+
+        // setpoints when in velocity mode
+        private final double left;
+        private final double right;
+
+        // goals when in path or position mode
+        private final double leftPositionGoal;
+        private final double rightPositionGoal;
+        private final double leftVelocityGoal;
+        private final double rightVelocityGoal;
+        private final double leftAccelerationGoal;
+        private final double rightAccelerationGoal;
+        private final double headingCorrection;
+
+        private Command(
+            boolean usePID,
+            boolean usePathMode,
+            boolean usePositionalMode,
+            boolean useBrakeMode,
+            double left,
+            double right,
+            double leftPositionGoal,
+            double rightPositionGoal,
+            double leftVelocityGoal,
+            double rightVelocityGoal,
+            double leftAccelerationGoal,
+            double rightAccelerationGoal,
+            double headingCorrection)
+        {
+            this.usePID = usePID;
+            this.usePathMode = usePathMode;
+            this.usePositionalMode = usePositionalMode;
+            this.useBrakeMode = useBrakeMode;
+            this.left = left;
+            this.right = right;
+            this.leftPositionGoal = leftPositionGoal;
+            this.rightPositionGoal = rightPositionGoal;
+            this.leftVelocityGoal = leftVelocityGoal;
+            this.rightVelocityGoal = rightVelocityGoal;
+            this.leftAccelerationGoal = leftAccelerationGoal;
+            this.rightAccelerationGoal = rightAccelerationGoal;
+            this.headingCorrection = headingCorrection;
+        }
+    }
+
+    /**
+     * Snapshot of the sensor readings and applied setpoints from one iteration of the control thread, handed back to the robot loop
+     */
+    private static class ControlState
+    {
+        private final double leftVelocity;
+        private final double leftError;
+        private final int leftPosition;
+        private final double rightVelocity;
+        private final double rightError;
+        private final int rightPosition;
+        private final double leftSetpoint;
+        private final double rightSetpoint;
+
+        private ControlState(
+            double leftVelocity,
+            double leftError,
+            int leftPosition,
+            double rightVelocity,
+            double rightError,
+            int rightPosition,
+            double leftSetpoint,
+            double rightSetpoint)
+        {
+            this.leftVelocity = leftVelocity;
+            this.leftError = leftError;
+            this.leftPosition = leftPosition;
+            this.rightVelocity = rightVelocity;
+            this.rightError = rightError;
+            this.rightPosition = rightPosition;
+            this.leftSetpoint = leftSetpoint;
+            this.rightSetpoint = rightSetpoint;
+        }
+    }
 }
@@ -11,6 +11,11 @@ import com.google.inject.Singleton;
 
 /**
  * Offboard Vision manager.
+ *
+ * The offboard vision processor publishes one value per frame (see VisionResult.Read).  A network tables listener receives each value
+ * as it arrives, and stores it as the latest result, which the robot loop picks up the next time it reads the sensors.
+ * Until the first of those values arrives, the separate "v.x"/"v.y" values published by older vision processors are read instead.
+ * They don't carry a frame id or latency, so their capture time is unknown (and every loop's values are treated as a new result).
  * 
  * @author Will
  *
@@ -18,13 +23,21 @@ import com.google.inject.Singleton;
 @Singleton
 public class OffboardVisionManager implements IMechanism
 {
-    private final INetworkTableProvider networkTable;
     private final ILogger logger;
+    private final ITimer timer;
 
+    private final INetworkTableEntry centerXEntry;
+    private final INetworkTableEntry centerYEntry;
     private final IDigitalOutput ringLight;
 
     private Driver driver;
 
+    // the latest result, written by the network tables listener
+    private volatile VisionResult latestResult;
+
+    private VisionResult result;
+    private boolean isNewResult;
+
     private double centerX;
     private double centerY;
 
@@ -35,17 +48,35 @@ public class OffboardVisionManager implements IMechanism
      * Initializes a new OffboardVisionManager
      * @param logger for logging to smart dashboard
      * @param provider for obtaining electronics objects
+     * @param timer to use
      */
     @Inject
-    public OffboardVisionManager(LoggingManager logger, IRobotProvider provider)
+    public OffboardVisionManager(LoggingManager logger, IRobotProvider provider, ITimer timer)
     {
         this.logger = logger;
+        this.timer = timer;
 
-        this.networkTable = provider.getNetworkTableProvider();
+        INetworkTableProvider networkTable = provider.getNetworkTableProvider();
+        this.centerXEntry = networkTable.getSmartDashboardEntry("v.x");
+        this.centerYEntry = networkTable.getSmartDashboardEntry("v.y");
         this.ringLight = provider.getDigitalOutput(ElectronicsConstants.VISION_RING_LIGHT_DIO);
 
-        this.centerX = 0.0;
-        this.centerY = 0.0;
+        this.latestResult = null;
+        this.result = null;
+        this.isNewResult = false;
+        this.centerX = -1.0;
+        this.centerY = -1.0;
+
+        INetworkTableEntry resultEntry = networkTable.getSmartDashboardEntry("v.result");
+        resultEntry.addListener(
+            (entry) ->
+            {
+                VisionResult result = VisionResult.Read(entry.getDoubleArray(null), this.timer.get());
+                if (result != null)
+                {
+                    this.latestResult = result;
+                }
+            });
     }
 
     /**
@@ -54,21 +85,53 @@ public class OffboardVisionManager implements IMechanism
     @Override
     public void readSensors()
     {
-        this.centerX = this.networkTable.getSmartDashboardNumber("v.x");
-        this.centerY = this.networkTable.getSmartDashboardNumber("v.y");
+        VisionResult result = this.latestResult;
+        this.isNewResult = result != this.result;
+        this.result = result;
 
-        this.logger.logNumber(LoggingKey.OffboardVisionX, this.centerX);
-        this.logger.logNumber(LoggingKey.OffboardVisionY, this.centerY);
+        boolean hasTarget;
+        if (result == null)
+        {
+            // nothing has arrived on "v.result" yet, so fall back to the values published by older vision processors
+            this.isNewResult = true;
+            this.centerX = this.centerXEntry.getDouble(-1.0);
+            this.centerY = this.centerYEntry.getDouble(-1.0);
+            hasTarget = this.centerX >= 0.0 && this.centerY >= 0.0;
+        }
+        else
+        {
+            // ignore the result if it is too old to be useful, or if we couldn't find a vision target
+            // (a negative age means that the timer was reset after the result was received, so the result is from before that)
+            double age = this.timer.get() - result.getCaptureTime();
+            hasTarget =
+                age >= 0.0 &&
+                age <= TuningConstants.VISION_MAX_RESULT_AGE &&
+                result.getTargetCount() > 0;
+
+            if (hasTarget)
+            {
+                this.centerX = result.getTargetX(0);
+                this.centerY = result.getTargetY(0);
+                this.logger.logInteger(LoggingKey.OffboardVisionFrameId, result.getFrameId());
+                this.logger.logNumber(LoggingKey.OffboardVisionLatency, result.getLatency());
+            }
+        }
 
-        // return if we couldn't find a vision target
-        if (this.centerX < 0.0 || this.centerY < 0)
+        if (!hasTarget)
         {
+            this.centerX = -1.0;
+            this.centerY = -1.0;
             this.distance = null;
             this.horizontalAngle = null;
 
+            this.logger.logNumber(LoggingKey.OffboardVisionX, this.centerX);
+            this.logger.logNumber(LoggingKey.OffboardVisionY, this.centerY);
             return;
         }
 
+        this.logger.logNumber(LoggingKey.OffboardVisionX, this.centerX);
+        this.logger.logNumber(LoggingKey.OffboardVisionY, this.centerY);
+
         double yOffset = VisionConstants.LIFECAM_CAMERA_CENTER_WIDTH - this.centerY;
         double verticalAngle = Helpers.atand(yOffset / VisionConstants.LIFECAM_CAMERA_FOCAL_LENGTH_Y);
 
@@ -102,12 +165,16 @@ public class OffboardVisionManager implements IMechanism
         this.logger.logBoolean(LoggingKey.OffboardVisionEnableVision, false);
         this.logger.logBoolean(LoggingKey.OffboardVisionEnableStream, false);
         this.logger.logBoolean(LoggingKey.OffboardVisionEnableProcessing, false);
+
+        this.clearResults();
     }
 
     @Override
     public void setDriver(Driver driver)
     {
         this.driver = driver;
+
+        this.clearResults();
     }
 
     public Double getHorizontalAngle()
@@ -119,4 +186,40 @@ public class OffboardVisionManager implements IMechanism
     {
         return this.distance;
     }
+
+    /**
+     * Gets when the frame that the current distance and horizontal angle were found in was captured
+     * @return the capture time, according to the robot's timer, in seconds, or null if there is no (recent) vision target or the
+     * vision processor only publishes the older values without a latency
+     */
+    public Double getCaptureTime()
+    {
+        if (this.horizontalAngle == null || this.result == null)
+        {
+            return null;
+        }
+
+        return this.result.getCaptureTime();
+    }
+
+    /**
+     * Forget any results received before now, as their capture times are relative to a timer that may be about to be reset
+     */
+    private void clearResults()
+    {
+        this.latestResult = null;
+        this.result = null;
+        this.isNewResult = false;
+        this.distance = null;
+        this.horizontalAngle = null;
+    }
+
+    /**
+     * Gets whether a new result was received from the vision processor since the previous loop
+     * @return true if the result is from a new frame, otherwise false
+     */
+    public boolean isNewResult()
+    {
+        return this.isNewResult;
+    }
 }
@@ -21,6 +21,7 @@ import com.google.inject.Singleton;
 public class PositionManager implements IMechanism
 {
     private final ILogger logger;
+    private final ITimer timer;
     private final INavx navx;
 
     private Driver driver;
@@ -37,17 +38,23 @@ public class PositionManager implements IMechanism
     private double startAngle;
     private double resetAngle;
 
+    // recent positions and orientations, for looking up where the robot was when something happened (e.g. when a vision frame was captured)
+    private final PoseHistory history;
+
     /**
      * Initializes a new PositionManager
      * @param logger to use
      * @param provider for obtaining electronics objects
+     * @param timer to use
      */
     @Inject
     public PositionManager(
         LoggingManager logger,
-        IRobotProvider provider)
+        IRobotProvider provider,
+        ITimer timer)
     {
         this.logger = logger;
+        this.timer = timer;
         this.navx = provider.getNavx();
         this.driver = null;
 
@@ -60,6 +67,8 @@ public class PositionManager implements IMechanism
         this.navxAngle = 0.0;
         this.startAngle = 0.0;
         this.resetAngle = 0.0;
+
+        this.history = new PoseHistory(TuningConstants.POSITION_HISTORY_SIZE);
     }
 
     /**
@@ -90,6 +99,8 @@ public class PositionManager implements IMechanism
         this.navxY = this.navx.getDisplacementY() * 100.0;
         this.navxZ = this.navx.getDisplacementZ() * 100.0;
 
+        this.history.record(this.timer.get(), this.navxX, this.navxY, this.getNavxAngle());
+
         // log the current position and orientation
         this.logger.logBoolean(LoggingKey.PositionNavxConnected, this.navxIsConnected);
         this.logger.logNumber(LoggingKey.PositionNavxAngle, this.navxAngle);
@@ -107,14 +118,17 @@ public class PositionManager implements IMechanism
     public void update()
     {
         double angle = this.driver.getAnalog(AnalogOperation.PositionStartingAngle);
-        if (angle != 0.0)
+        if (angle != 0.0 && angle != this.startAngle)
         {
+            // the recorded angles are relative to the previous starting angle
             this.startAngle = angle;
+            this.history.reset();
         }
 
         if (this.driver.getDigital(DigitalOperation.PositionResetFieldOrientation))
         {
             this.resetAngle = this.navxAngle;
+            this.history.reset();
         }
     }
 
@@ -172,6 +186,52 @@ public class PositionManager implements IMechanism
         return this.navxZ;
     }
 
+    /**
+     * Retrieve the angle (counter-clockwise) in degrees at a recent time, interpolating between the loops on either side of it
+     * @param time to look up (according to the timer), in seconds.  Times older than the history give the oldest angle, and times
+     * in the future give the current angle.
+     * @return the angle in degrees at that time
+     */
+    public double getNavxAngleAt(double time)
+    {
+        if (this.history.getCount() == 0)
+        {
+            return this.getNavxAngle();
+        }
+
+        return this.history.getAngle(time);
+    }
+
+    /**
+     * Retrieve the x position at a recent time, interpolating between the loops on either side of it
+     * @param time to look up (according to the timer), in seconds
+     * @return the x position at that time
+     */
+    public double getNavxXAt(double time)
+    {
+        if (this.history.getCount() == 0)
+        {
+            return this.navxX;
+        }
+
+        return this.history.getX(time);
+    }
+
+    /**
+     * Retrieve the y position at a recent time, interpolating between the loops on either side of it
+     * @param time to look up (according to the timer), in seconds
+     * @return the y position at that time
+     */
+    public double getNavxYAt(double time)
+    {
+        if (this.history.getCount() == 0)
+        {
+            return this.navxY;
+        }
+
+        return this.history.getY(time);
+    }
+
     /**
      * reset the position manager so it considers the current location to be "0"
      */
@@ -185,6 +245,8 @@ public class PositionManager implements IMechanism
         this.startAngle = 0.0;
         this.resetAngle = 0.0;
 
+        this.history.reset();
+
         this.navx.reset();
         this.navx.resetDisplacement();
     }
@@ -0,0 +1,138 @@
+package frc.robot.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.driver.common.Driver;
+
+public class ControlThreadTests
+{
+    @Test
+    public void testStartStop() throws InterruptedException
+    {
+        TestControlLoop threadLoop = new TestControlLoop(true);
+        TestControlLoop robotLoop = new TestControlLoop(false);
+        ControlThread controlThread = new ControlThread(
+            mock(LoggingManager.class),
+            new MechanismManager(Arrays.asList(threadLoop, robotLoop)));
+
+        controlThread.start();
+        controlThread.start();
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (controlThread.getLoopCount() < 5 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(5L);
+        }
+
+        controlThread.stop();
+        int loopCount = controlThread.getLoopCount();
+        assertTrue(loopCount >= 5);
+        assertEquals(loopCount, threadLoop.runCount);
+
+        // mechanisms that don't use the control thread are never run on it
+        assertEquals(0, robotLoop.runCount);
+
+        // once stopped, nothing else is run
+        Thread.sleep(50L);
+        assertEquals(loopCount, controlThread.getLoopCount());
+        assertEquals(loopCount, threadLoop.runCount);
+    }
+
+    @Test
+    public void testThrowingLoopStopped() throws InterruptedException
+    {
+        TestControlLoop throwingLoop = new TestControlLoop(true);
+        throwingLoop.shouldThrow = true;
+        TestControlLoop otherLoop = new TestControlLoop(true);
+        ControlThread controlThread = new ControlThread(
+            mock(LoggingManager.class),
+            new MechanismManager(Arrays.asList(throwingLoop, otherLoop)));
+
+        controlThread.start();
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (controlThread.getLoopCount() < 5 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(5L);
+        }
+
+        controlThread.stop();
+
+        // the throwing mechanism is stopped and not run again, while the other one keeps running
+        assertEquals(1, throwingLoop.runCount);
+        assertEquals(1, throwingLoop.stopCount);
+        assertEquals(1, controlThread.getErrorCount());
+        assertEquals(controlThread.getLoopCount(), otherLoop.runCount);
+        assertEquals(0, otherLoop.stopCount);
+
+        // restarting the control thread gives it another chance
+        throwingLoop.shouldThrow = false;
+        controlThread.start();
+        deadline = System.currentTimeMillis() + 5000L;
+        while (throwingLoop.runCount < 3 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(5L);
+        }
+
+        controlThread.stop();
+        assertTrue(throwingLoop.runCount >= 3);
+        assertEquals(1, controlThread.getErrorCount());
+    }
+
+    private static class TestControlLoop implements IMechanism, IControlLoop
+    {
+        private final boolean useControlThread;
+        private volatile int runCount;
+        private volatile int stopCount;
+        private volatile boolean shouldThrow;
+
+        TestControlLoop(boolean useControlThread)
+        {
+            this.useControlThread = useControlThread;
+            this.runCount = 0;
+            this.stopCount = 0;
+            this.shouldThrow = false;
+        }
+
+        @Override
+        public void runControlLoop()
+        {
+            this.runCount++;
+            if (this.shouldThrow)
+            {
+                throw new RuntimeException("test");
+            }
+        }
+
+        @Override
+        public boolean useControlThread()
+        {
+            return this.useControlThread;
+        }
+
+        @Override
+        public void readSensors()
+        {
+        }
+
+        @Override
+        public void update()
+        {
+        }
+
+        @Override
+        public void stop()
+        {
+            this.stopCount++;
+        }
+
+        @Override
+        public void setDriver(Driver driver)
+        {
+        }
+    }
+}
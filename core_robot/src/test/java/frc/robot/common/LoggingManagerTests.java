@@ -0,0 +1,35 @@
+package frc.robot.common;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.LoggingKey;
+import frc.robot.common.robotprovider.ILogger;
+
+public class LoggingManagerTests
+{
+    @Test
+    public void testRefreshFlushesPreviousLogger()
+    {
+        ILogger firstLogger = mock(ILogger.class);
+        ILogger secondLogger = mock(ILogger.class);
+        ILogger[] loggers = new ILogger[] { firstLogger, secondLogger };
+        int[] created = new int[1];
+
+        LoggingManager logger = new LoggingManager(injector -> loggers[created[0]++]);
+        logger.refresh(null);
+        logger.logInteger(LoggingKey.ControlThreadLoops, 1);
+        verify(firstLogger).logInteger(LoggingKey.ControlThreadLoops, 1);
+        verify(firstLogger, never()).flush();
+
+        // e.g. going from autonomous to teleop without disabling in between
+        logger.refresh(null);
+        verify(firstLogger).flush();
+        logger.logInteger(LoggingKey.ControlThreadLoops, 2);
+        verify(secondLogger).logInteger(LoggingKey.ControlThreadLoops, 2);
+        verify(secondLogger, never()).flush();
+    }
+}
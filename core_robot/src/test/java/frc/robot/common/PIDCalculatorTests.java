@@ -0,0 +1,112 @@
+package frc.robot.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.common.robotprovider.ITimer;
+
+public class PIDCalculatorTests
+{
+    private static final double TIME_STEP = 0.02;
+
+    @Test
+    public void testMatchesPIDHandler()
+    {
+        ITimer timer = mock(ITimer.class);
+        when(timer.get()).thenReturn(0.0);
+        PIDHandler velocityHandler = new PIDHandler(0.3, 0.5, 0.01, 0.2, 1.5, 0.25, 0.75, 0.5, 0.5, -1.0, 1.0, timer);
+        PIDHandler positionHandler = new PIDHandler(0.01, 0.0001, 0.05, 0.0, 1.0, null, null, timer);
+
+        PIDCalculator velocityCalculator = new PIDCalculator(0.3, 0.5, 0.01, 0.2, 1.5);
+        velocityCalculator.configure(0.3, 0.5, 0.01, 0.2, 1.5, -1.0, 1.0);
+        velocityCalculator.setFilters(0.25, 0.75, 0.5, 0.5);
+        PIDCalculator positionCalculator = new PIDCalculator(0.01, 0.0001, 0.05, 0.0, 1.0);
+
+        // the first calculation only records the time (as PIDHandler's constructor does)
+        assertEquals(0.0, velocityCalculator.calculateVelocity(0.5, 0.0, 0.0));
+        assertEquals(0.0, positionCalculator.calculatePosition(100.0, 0.0, 0.0));
+
+        for (int i = 1; i <= 100; i++)
+        {
+            double time = i * PIDCalculatorTests.TIME_STEP;
+            when(timer.get()).thenReturn(time);
+
+            double velocitySetpoint = i < 50 ? 0.5 : -0.25;
+            double measuredVelocity = Math.sin(i * 0.1);
+            assertEquals(
+                velocityHandler.calculateVelocity(velocitySetpoint, measuredVelocity),
+                velocityCalculator.calculateVelocity(velocitySetpoint, measuredVelocity, time),
+                1e-12);
+
+            double measuredPosition = i * 0.8;
+            assertEquals(
+                positionHandler.calculatePosition(100.0, measuredPosition),
+                positionCalculator.calculatePosition(100.0, measuredPosition, time),
+                1e-12);
+            assertEquals(positionHandler.getError(), positionCalculator.getError(), 1e-12);
+        }
+    }
+
+    @Test
+    public void testMinTimeStepAndReset()
+    {
+        PIDCalculator calculator = new PIDCalculator(0.1, 0.0, 0.0, 0.0, 1.0);
+        calculator.calculatePosition(10.0, 0.0, 1.0);
+        assertEquals(1.0, calculator.calculatePosition(10.0, 0.0, 1.02), 1e-12);
+
+        // calculating again within the same millisecond keeps the previous output
+        assertEquals(1.0, calculator.calculatePosition(10.0, 5.0, 1.0205), 1e-12);
+
+        // changing the gains in place takes effect on the next calculation
+        calculator.configure(0.2, 0.0, 0.0, 0.0, 1.0, -1.5, 1.5);
+        assertEquals(1.5, calculator.calculatePosition(10.0, 0.0, 1.04), 1e-12);
+
+        // after a reset, the next calculation starts over
+        calculator.reset();
+        assertEquals(0.0, calculator.getCurrentOutput());
+        assertEquals(0.0, calculator.calculatePosition(10.0, 0.0, 1.06));
+        assertEquals(1.5, calculator.calculatePosition(10.0, 0.0, 1.08), 1e-12);
+    }
+
+    @Test
+    public void testAntiWindup()
+    {
+        PIDCalculator unlimited = PIDCalculatorTests.createSaturatingCalculator(PIDAntiWindup.None);
+        PIDCalculator clamped = PIDCalculatorTests.createSaturatingCalculator(PIDAntiWindup.Clamp);
+        PIDCalculator backCalculated = PIDCalculatorTests.createSaturatingCalculator(PIDAntiWindup.BackCalculation);
+
+        // a large error for a while keeps the output saturated
+        double time = 0.0;
+        for (int i = 0; i < 50; i++)
+        {
+            time += PIDCalculatorTests.TIME_STEP;
+            assertEquals(i == 0 ? 0.0 : 1.0, unlimited.calculateVelocity(100.0, 0.0, time));
+            assertEquals(i == 0 ? 0.0 : 1.0, clamped.calculateVelocity(100.0, 0.0, time));
+            assertEquals(i == 0 ? 0.0 : 1.0, backCalculated.calculateVelocity(100.0, 0.0, time));
+        }
+
+        // without anti-windup, the integral keeps growing; clamping limits the integral term to the output range,
+        // and back-calculation removes whatever would have gone past the output range
+        assertEquals(98.0, unlimited.getIntegral(), 1e-9);
+        assertEquals(10.0, clamped.getIntegral(), 1e-9);
+        assertEquals(1.0, 0.1 * 100.0 + 0.1 * backCalculated.getIntegral(), 1e-9);
+
+        // once we overshoot, the wound-up integral keeps the output saturated in the wrong direction
+        time += PIDCalculatorTests.TIME_STEP;
+        assertEquals(1.0, unlimited.calculateVelocity(0.0, 1.0, time));
+        assertTrue(clamped.calculateVelocity(0.0, 1.0, time) < 1.0);
+        assertEquals(-1.0, backCalculated.calculateVelocity(0.0, 1.0, time), 1e-9);
+    }
+
+    private static PIDCalculator createSaturatingCalculator(PIDAntiWindup antiWindup)
+    {
+        PIDCalculator calculator = new PIDCalculator(0.0, 0.0, 0.0, 0.0, 1.0);
+        calculator.configure(0.1, 0.1, 0.0, 0.0, 1.0, -1.0, 1.0);
+        calculator.setAntiWindup(antiWindup, 1.0);
+        return calculator;
+    }
+}
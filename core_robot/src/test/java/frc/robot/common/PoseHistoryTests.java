@@ -0,0 +1,92 @@
+package frc.robot.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PoseHistoryTests
+{
+    @Test
+    public void testEmpty()
+    {
+        PoseHistory history = new PoseHistory(4);
+        assertEquals(0, history.getCount());
+        assertTrue(Double.isNaN(history.getAngle(1.0)));
+        assertTrue(Double.isNaN(history.getX(1.0)));
+        assertTrue(Double.isNaN(history.getY(1.0)));
+    }
+
+    @Test
+    public void testInterpolate()
+    {
+        PoseHistory history = new PoseHistory(8);
+        history.record(1.00, 0.0, 10.0, 90.0);
+        history.record(1.02, 2.0, 10.0, 80.0);
+        history.record(1.04, 6.0, 12.0, 60.0);
+
+        assertEquals(3, history.getCount());
+        assertEquals(80.0, history.getAngle(1.02), 1e-9);
+        assertEquals(85.0, history.getAngle(1.01), 1e-9);
+        assertEquals(65.0, history.getAngle(1.035), 1e-9);
+        assertEquals(4.0, history.getX(1.03), 1e-9);
+        assertEquals(11.0, history.getY(1.03), 1e-9);
+
+        // times outside of the history give the oldest or newest pose
+        assertEquals(90.0, history.getAngle(0.5), 1e-9);
+        assertEquals(60.0, history.getAngle(2.0), 1e-9);
+    }
+
+    @Test
+    public void testWrapped()
+    {
+        PoseHistory history = new PoseHistory(4);
+        for (int i = 0; i < 10; i++)
+        {
+            history.record(i * 0.02, i, -i, 3.0 * i);
+        }
+
+        // only the newest 4 poses (6 through 9) are kept
+        assertEquals(4, history.getCount());
+        assertEquals(18.0, history.getAngle(0.0), 1e-9);
+        assertEquals(19.5, history.getAngle(0.13), 1e-9);
+        assertEquals(7.5, history.getX(0.15), 1e-9);
+        assertEquals(-8.5, history.getY(0.17), 1e-9);
+        assertEquals(27.0, history.getAngle(1.0), 1e-9);
+
+        history.reset();
+        assertEquals(0, history.getCount());
+    }
+
+    @Test
+    public void testSameTimeReplaced()
+    {
+        PoseHistory history = new PoseHistory(4);
+        history.record(1.0, 0.0, 0.0, 10.0);
+        history.record(1.1, 0.0, 0.0, 20.0);
+        history.record(1.1, 0.0, 0.0, 30.0);
+
+        assertEquals(2, history.getCount());
+        assertEquals(20.0, history.getAngle(1.05), 1e-9);
+        assertEquals(30.0, history.getAngle(1.1), 1e-9);
+    }
+
+    @Test
+    public void testTimerReset()
+    {
+        PoseHistory history = new PoseHistory(4);
+        for (int i = 0; i < 10; i++)
+        {
+            history.record(10.0 + i * 0.02, 0.0, 0.0, 90.0);
+        }
+
+        // the timer is reset (e.g. between autonomous and teleop), so the earlier poses are dropped
+        history.record(0.0, 0.0, 0.0, 10.0);
+        history.record(0.02, 0.0, 0.0, 20.0);
+
+        assertEquals(2, history.getCount());
+        assertEquals(15.0, history.getAngle(0.01), 1e-9);
+        assertEquals(10.0, history.getAngle(-1.0), 1e-9);
+        assertEquals(20.0, history.getAngle(10.1), 1e-9);
+    }
+}
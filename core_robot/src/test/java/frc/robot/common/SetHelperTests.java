@@ -0,0 +1,116 @@
+package frc.robot.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.driver.MacroOperation;
+
+public class SetHelperTests
+{
+    @Test
+    public void testAddRemoveContains()
+    {
+        long[] set = SetHelper.CreateBitSet(MacroOperation.class);
+        assertTrue(SetHelper.IsEmpty(set));
+
+        SetHelper.Add(set, MacroOperation.PIDBrake);
+        SetHelper.Add(set, MacroOperation.FollowSomePath);
+        assertFalse(SetHelper.IsEmpty(set));
+        assertEquals(2, SetHelper.Count(set));
+        assertTrue(SetHelper.Contains(set, MacroOperation.PIDBrake));
+        assertTrue(SetHelper.Contains(set, MacroOperation.FollowSomePath));
+        assertFalse(SetHelper.Contains(set, MacroOperation.AutonomousRoutine));
+
+        SetHelper.Remove(set, MacroOperation.PIDBrake);
+        assertEquals(1, SetHelper.Count(set));
+        assertFalse(SetHelper.Contains(set, MacroOperation.PIDBrake));
+
+        SetHelper.Clear(set);
+        assertTrue(SetHelper.IsEmpty(set));
+    }
+
+    @Test
+    public void testMultipleWords()
+    {
+        long[] set = SetHelper.CreateBitSet(150);
+        assertEquals(3, set.length);
+
+        SetHelper.Add(set, 0);
+        SetHelper.Add(set, 63);
+        SetHelper.Add(set, 64);
+        SetHelper.Add(set, 149);
+        assertEquals(4, SetHelper.Count(set));
+        assertTrue(SetHelper.Contains(set, 64));
+        assertFalse(SetHelper.Contains(set, 65));
+
+        assertArrayEquals(new int[] { 0, 63, 64, 149 }, SetHelperTests.toArray(set));
+    }
+
+    @Test
+    public void testIterateEmpty()
+    {
+        assertArrayEquals(new int[0], SetHelperTests.toArray(SetHelper.CreateBitSet(100)));
+    }
+
+    @Test
+    public void testSetAlgebra()
+    {
+        long[] left = SetHelperTests.create(130, 1, 5, 70, 129);
+        long[] right = SetHelperTests.create(130, 5, 6, 129);
+        long[] result = SetHelper.CreateBitSet(130);
+
+        SetHelper.Intersection(left, right, result);
+        assertArrayEquals(new int[] { 5, 129 }, SetHelperTests.toArray(result));
+
+        SetHelper.Union(left, right, result);
+        assertArrayEquals(new int[] { 1, 5, 6, 70, 129 }, SetHelperTests.toArray(result));
+
+        SetHelper.RelativeComplement(right, left, result);
+        assertArrayEquals(new int[] { 1, 70 }, SetHelperTests.toArray(result));
+
+        SetHelper.Copy(left, result);
+        assertTrue(SetHelper.SetEquals(left, result));
+        SetHelper.IntersectWith(result, right);
+        assertArrayEquals(new int[] { 5, 129 }, SetHelperTests.toArray(result));
+        assertFalse(SetHelper.SetEquals(left, result));
+
+        SetHelper.Copy(left, result);
+        SetHelper.UnionWith(result, right);
+        assertArrayEquals(new int[] { 1, 5, 6, 70, 129 }, SetHelperTests.toArray(result));
+
+        SetHelper.Copy(left, result);
+        SetHelper.ExceptWith(result, right);
+        assertArrayEquals(new int[] { 1, 70 }, SetHelperTests.toArray(result));
+
+        // the result can also be one of the inputs
+        SetHelper.RelativeComplement(right, left, left);
+        assertArrayEquals(new int[] { 1, 70 }, SetHelperTests.toArray(left));
+    }
+
+    private static long[] create(int universeSize, int... indexes)
+    {
+        long[] set = SetHelper.CreateBitSet(universeSize);
+        for (int index : indexes)
+        {
+            SetHelper.Add(set, index);
+        }
+
+        return set;
+    }
+
+    private static int[] toArray(long[] set)
+    {
+        int[] result = new int[SetHelper.Count(set)];
+        int i = 0;
+        for (int index = SetHelper.NextSetBit(set, 0); index >= 0; index = SetHelper.NextSetBit(set, index + 1))
+        {
+            result[i++] = index;
+        }
+
+        return result;
+    }
+}
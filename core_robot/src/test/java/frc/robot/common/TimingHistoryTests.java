@@ -0,0 +1,80 @@
+package frc.robot.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingHistoryTests
+{
+    @Test
+    public void testCalculate_Empty()
+    {
+        TimingHistory history = new TimingHistory(8, 100L);
+        history.calculate();
+        assertEquals(0, history.getCount());
+        assertEquals(0L, history.getMin());
+        assertEquals(0L, history.getMean());
+        assertEquals(0L, history.getP99());
+        assertEquals(0L, history.getMax());
+    }
+
+    @Test
+    public void testCalculate_PartiallyFull()
+    {
+        TimingHistory history = new TimingHistory(8, 100L);
+        history.record(30L);
+        history.record(10L);
+        history.record(20L);
+        history.calculate();
+        assertEquals(3, history.getCount());
+        assertEquals(10L, history.getMin());
+        assertEquals(20L, history.getMean());
+        assertEquals(30L, history.getP99());
+        assertEquals(30L, history.getMax());
+    }
+
+    @Test
+    public void testCalculate_Wrapped()
+    {
+        TimingHistory history = new TimingHistory(4, 100L);
+        for (long i = 1; i <= 10; i++)
+        {
+            history.record(i);
+        }
+
+        // only the most recent 4 samples (7, 8, 9, 10) should remain
+        history.calculate();
+        assertEquals(4, history.getCount());
+        assertEquals(7L, history.getMin());
+        assertEquals(8L, history.getMean());
+        assertEquals(10L, history.getMax());
+    }
+
+    @Test
+    public void testCalculate_P99()
+    {
+        TimingHistory history = new TimingHistory(200, Long.MAX_VALUE);
+        for (long i = 1; i <= 200; i++)
+        {
+            history.record(i);
+        }
+
+        history.calculate();
+        assertEquals(198L, history.getP99());
+    }
+
+    @Test
+    public void testOverrunCount()
+    {
+        TimingHistory history = new TimingHistory(4, 100L);
+        history.record(50L);
+        history.record(100L);
+        history.record(101L);
+        history.record(5000L);
+        assertEquals(2, history.getOverrunCount());
+
+        history.reset();
+        assertEquals(0, history.getOverrunCount());
+        assertEquals(0, history.getCount());
+    }
+}
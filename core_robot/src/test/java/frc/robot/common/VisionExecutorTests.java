@@ -0,0 +1,187 @@
+package frc.robot.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.common.robotprovider.*;
+
+public class VisionExecutorTests
+{
+    @Test
+    public void testProcessesNewestFrame()
+    {
+        IMat[] images = new IMat[] { this.createImage(), this.createImage(), this.createImage() };
+        IOpenCVProvider openCVProvider = mock(IOpenCVProvider.class);
+        when(openCVProvider.acquireMat()).thenReturn(images[0], images[1], images[2]);
+        IUsbCamera camera = mock(IUsbCamera.class);
+        when(camera.grabFrame(any(IMat.class), anyDouble())).thenReturn(0L, 1000000L, 1030000L);
+        when(camera.getCurrentTime()).thenReturn(1010000L, 1040000L);
+        ITimer timer = mock(ITimer.class);
+        TestPipeline pipeline = new TestPipeline();
+
+        VisionExecutor<TestPipeline> executor = new VisionExecutor<TestPipeline>(mock(LoggingManager.class), camera, openCVProvider, timer, pipeline, p -> new double[] { 10.0, 20.0 });
+
+        // nothing to process yet, and the first grab times out
+        assertFalse(executor.processFrame());
+        doReturn(0.5).when(timer).get();
+        assertFalse(executor.captureFrame());
+        assertEquals(0, executor.getFrameCount());
+
+        // two frames arrive before the first one is processed, so the first one is dropped
+        // (the second frame was stamped by the camera 10ms before it was grabbed)
+        when(timer.get()).thenReturn(1.0, 1.01, 1.02, 1.05, 1.1, 1.13);
+        assertTrue(executor.captureFrame());
+        assertTrue(executor.captureFrame());
+        assertEquals(2, executor.getFrameCount());
+        assertEquals(1, executor.getDroppedFrameCount());
+
+        assertTrue(executor.processFrame());
+        assertSame(images[1], pipeline.lastImage);
+        VisionResult result = executor.getLatestResult();
+        assertEquals(2, result.getFrameId());
+        assertEquals(1.04, result.getCaptureTime(), 1e-9);
+        assertEquals(0.09, result.getLatency(), 1e-9);
+        assertEquals(1, result.getTargetCount());
+        assertEquals(10.0, result.getTargetX(0), 1e-9);
+        assertEquals(20.0, result.getTargetY(0), 1e-9);
+
+        // the frame has already been processed
+        assertFalse(executor.processFrame());
+        assertEquals(1, pipeline.processCount);
+    }
+
+    @Test
+    public void testRegionOfInterest()
+    {
+        IMat[] images = new IMat[] { this.createImage(), this.createImage(), this.createImage() };
+        IMat region = mock(IMat.class);
+        doReturn(region).when(images[0]).submat(100, 150, 600, 640);
+        IOpenCVProvider openCVProvider = mock(IOpenCVProvider.class);
+        when(openCVProvider.acquireMat()).thenReturn(images[0], images[1], images[2]);
+        IUsbCamera camera = mock(IUsbCamera.class);
+        doReturn(1L).when(camera).grabFrame(any(IMat.class), anyDouble());
+        doReturn(1L).when(camera).getCurrentTime();
+        ITimer timer = mock(ITimer.class);
+        doReturn(2.0).when(timer).get();
+        TestPipeline pipeline = new TestPipeline();
+
+        VisionExecutor<TestPipeline> executor = new VisionExecutor<TestPipeline>(mock(LoggingManager.class), camera, openCVProvider, timer, pipeline, p -> new double[] { 5.0, 6.0, 7.0, 8.0 });
+        assertNull(executor.getLatestResult());
+
+        // the region is limited to the right edge of the frame, and the targets are moved back into the frame's coordinates
+        executor.setRegionOfInterest(600, 100, 100, 50);
+        assertTrue(executor.captureFrame());
+        assertTrue(executor.processFrame());
+        assertSame(region, pipeline.lastImage);
+        verify(region).release();
+
+        VisionResult result = executor.getLatestResult();
+        assertEquals(2, result.getTargetCount());
+        assertEquals(605.0, result.getTargetX(0), 1e-9);
+        assertEquals(106.0, result.getTargetY(0), 1e-9);
+        assertEquals(607.0, result.getTargetX(1), 1e-9);
+        assertEquals(108.0, result.getTargetY(1), 1e-9);
+
+        // back to the whole frame
+        executor.clearRegionOfInterest();
+        assertTrue(executor.captureFrame());
+        assertTrue(executor.processFrame());
+        assertEquals(5.0, executor.getLatestResult().getTargetX(0), 1e-9);
+    }
+
+    @Test
+    public void testStopAfterGrabErrors() throws InterruptedException
+    {
+        IMat[] images = new IMat[] { this.createImage(), this.createImage(), this.createImage() };
+        IOpenCVProvider openCVProvider = mock(IOpenCVProvider.class);
+        when(openCVProvider.acquireMat()).thenReturn(images[0], images[1], images[2]);
+
+        // the camera fails straight away on every grab (as if it was unplugged)
+        IUsbCamera camera = mock(IUsbCamera.class);
+        doReturn(0L).when(camera).grabFrame(any(IMat.class), anyDouble());
+
+        VisionExecutor<TestPipeline> executor = new VisionExecutor<TestPipeline>(mock(LoggingManager.class), camera, openCVProvider, mock(ITimer.class), new TestPipeline(), p -> new double[0]);
+        executor.start();
+        Thread.sleep(100);
+
+        // the capture thread backs off after each failure instead of spinning
+        assertTrue(executor.getGrabErrorCount() >= 1);
+        assertTrue(executor.getGrabErrorCount() <= 2);
+
+        assertTrue(executor.stop());
+        assertNull(executor.getLatestResult());
+        for (IMat image : images)
+        {
+            verify(openCVProvider).releaseMat(image);
+        }
+
+        // restarting acquires new frames from the pool
+        executor.start();
+        assertTrue(executor.stop());
+        verify(openCVProvider, times(6)).acquireMat();
+    }
+
+    @Test
+    public void testProcessingContinuesAfterErrors() throws InterruptedException
+    {
+        IMat[] images = new IMat[] { this.createImage(), this.createImage(), this.createImage() };
+        IOpenCVProvider openCVProvider = mock(IOpenCVProvider.class);
+        when(openCVProvider.acquireMat()).thenReturn(images[0], images[1], images[2]);
+
+        // a new frame every 10ms
+        IUsbCamera camera = mock(IUsbCamera.class);
+        when(camera.grabFrame(any(IMat.class), anyDouble())).thenAnswer(
+            invocation ->
+            {
+                Thread.sleep(10);
+                return 1L;
+            });
+
+        IVisionPipeline pipeline = image ->
+        {
+            throw new IllegalStateException("bad frame");
+        };
+
+        VisionExecutor<IVisionPipeline> executor = new VisionExecutor<IVisionPipeline>(mock(LoggingManager.class), camera, openCVProvider, mock(ITimer.class), pipeline, p -> new double[0]);
+        executor.start();
+        Thread.sleep(100);
+        assertTrue(executor.stop());
+
+        // every frame fails, but the processing thread keeps going (and counts the failures)
+        assertTrue(executor.getProcessErrorCount() >= 2);
+        assertNull(executor.getLatestResult());
+    }
+
+    private IMat createImage()
+    {
+        IMat image = mock(IMat.class);
+        doReturn(640).when(image).cols();
+        doReturn(480).when(image).rows();
+        return image;
+    }
+
+    private static class TestPipeline implements IVisionPipeline
+    {
+        private IMat lastImage;
+        private int processCount;
+
+        @Override
+        public void process(IMat image)
+        {
+            this.lastImage = image;
+            this.processCount++;
+        }
+    }
+}
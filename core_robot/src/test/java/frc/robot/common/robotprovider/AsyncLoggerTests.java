@@ -0,0 +1,118 @@
+package frc.robot.common.robotprovider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.LoggingKey;
+
+public class AsyncLoggerTests
+{
+    @Test
+    public void testFlushDrainsAllRows()
+    {
+        RecordingLogger recorder = new RecordingLogger(null);
+        AsyncLogger logger = new AsyncLogger(recorder, 256);
+        for (int i = 0; i < 100; i++)
+        {
+            logger.logNumber(LoggingKey.RobotTime, i * 0.02);
+            logger.logInteger(LoggingKey.DriveTrainLeftTicks, i);
+            logger.logBooleanArray(LoggingKey.DriverActiveMacros, new boolean[] { i % 2 == 0 });
+            logger.update();
+        }
+
+        logger.flush();
+
+        assertEquals(0, logger.getDroppedRows());
+        assertTrue(recorder.flushes >= 1);
+        assertEquals(100, recorder.updates);
+
+        // each row is replayed in the order the values were logged, followed by the dropped row count
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+        {
+            expected.append(String.format("r.time=%s;dt.leftTicks=%d;driver.activeMacros=%s;log.droppedRows=0;|", i * 0.02, i, i % 2 == 0));
+        }
+
+        assertEquals(expected.toString(), recorder.output.toString());
+    }
+
+    @Test
+    public void testDropsRowsWhenFull() throws InterruptedException
+    {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingLogger recorder = new RecordingLogger(release);
+        AsyncLogger logger = new AsyncLogger(recorder, 4);
+        for (int i = 0; i < 20; i++)
+        {
+            logger.logInteger(LoggingKey.DriveTrainLeftTicks, i);
+            logger.update();
+        }
+
+        // the writer thread is blocked on the first row, so only the rows that fit in the ring were kept
+        int dropped = logger.getDroppedRows();
+        assertTrue(dropped >= 20 - 5);
+
+        release.countDown();
+        logger.flush();
+
+        assertEquals(20 - dropped, recorder.updates);
+        assertEquals(1, recorder.flushes);
+
+        // logging continues after the final drain
+        logger.logInteger(LoggingKey.DriveTrainLeftTicks, 20);
+        logger.update();
+        logger.flush();
+
+        assertEquals(20 - dropped + 1, recorder.updates);
+        assertEquals(2, recorder.flushes);
+        assertTrue(recorder.output.toString().endsWith(String.format("dt.leftTicks=20;log.droppedRows=%d;|", dropped)));
+    }
+
+    private static class RecordingLogger extends StringLogger
+    {
+        private final CountDownLatch release;
+        private final StringBuilder output;
+        private int updates;
+        private int flushes;
+
+        RecordingLogger(CountDownLatch release)
+        {
+            this.release = release;
+            this.output = new StringBuilder();
+        }
+
+        @Override
+        public void logString(LoggingKey key, String value)
+        {
+            this.output.append(key.value).append('=').append(value).append(';');
+        }
+
+        @Override
+        public void update()
+        {
+            if (this.release != null)
+            {
+                try
+                {
+                    this.release.await();
+                }
+                catch (InterruptedException ex)
+                {
+                }
+            }
+
+            this.output.append('|');
+            this.updates++;
+        }
+
+        @Override
+        public void flush()
+        {
+            this.flushes++;
+        }
+    }
+}
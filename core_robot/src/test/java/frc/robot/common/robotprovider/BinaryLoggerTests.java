@@ -0,0 +1,109 @@
+package frc.robot.common.robotprovider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import frc.robot.LoggingKey;
+
+public class BinaryLoggerTests
+{
+    @TempDir
+    public Path tempDirectory;
+
+    @Test
+    public void testConvertMatchesCSVLogger() throws IOException
+    {
+        StringFileWriter expected = new StringFileWriter();
+        CSVLogger csvLogger = new CSVLogger(expected);
+        BinaryLoggerTests.writeRows(csvLogger);
+
+        // use a tiny buffer so that rows are written to the channel in several chunks
+        Path path = this.tempDirectory.resolve("log.bin");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+        {
+            BinaryLogger binaryLogger = new BinaryLogger(channel, 8 * 1024);
+            BinaryLoggerTests.writeRows(binaryLogger);
+            binaryLogger.flush();
+        }
+
+        StringFileWriter actual = new StringFileWriter();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            assertEquals(100, BinaryLogConverter.convert(channel, actual));
+        }
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testConvertIgnoresPartialRow() throws IOException
+    {
+        Path path = this.tempDirectory.resolve("log.bin");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+        {
+            BinaryLogger binaryLogger = new BinaryLogger(channel, 8 * 1024);
+            BinaryLoggerTests.writeRows(binaryLogger);
+            binaryLogger.flush();
+
+            // simulate losing power part-way through writing the last row
+            channel.truncate(channel.size() - 3);
+        }
+
+        StringFileWriter actual = new StringFileWriter();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            assertEquals(99, BinaryLogConverter.convert(channel, actual));
+        }
+    }
+
+    private static void writeRows(ILogger logger)
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            logger.logString(LoggingKey.RobotState, i % 2 == 0 ? "teleop" : "say \"hi\"");
+            logger.logNumber(LoggingKey.RobotTime, i * 0.02);
+            logger.logBoolean(LoggingKey.PositionNavxConnected, i % 3 == 0);
+            logger.logInteger(LoggingKey.DriveTrainLeftTicks, i * 7);
+            logger.logInteger(LoggingKey.DriveTrainRightTicks, i * 11, "%05d");
+            logger.logBooleanArray(LoggingKey.DriverActiveMacros, new boolean[] { true, i % 2 == 0 });
+            if (i % 5 != 0)
+            {
+                logger.logNumber(LoggingKey.DriveTrainLeftVelocity, (Double)(i * 1.5));
+                logger.logNumber(LoggingKey.DriveTrainRightVelocity, (Double)null);
+            }
+
+            // keys that aren't in the default schema are skipped
+            logger.logString(LoggingKey.RobotMatch, "Q03");
+            logger.update();
+        }
+    }
+
+    private static class StringFileWriter implements IFileWriter
+    {
+        private final StringBuilder builder = new StringBuilder();
+
+        @Override
+        public void append(String string)
+        {
+            this.builder.append(string);
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.builder.toString();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package frc.robot.common.robotprovider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.LoggingKey;
+
+public class DeltaLoggerTests
+{
+    private static final int KEYFRAME_FREQUENCY = 10;
+
+    // the keys written by writeRow, so that the size comparison doesn't depend on how many other keys are logged to file
+    private static final String[] SCHEMA =
+        new String[]
+        {
+            LoggingKey.RobotState.value,
+            LoggingKey.RobotTime.value,
+            LoggingKey.LoggerKeyframe.value,
+            LoggingKey.LoggerAbsent.value,
+            LoggingKey.DriverActiveMacros.value,
+            LoggingKey.DriveTrainLeftVelocity.value,
+            LoggingKey.DriveTrainLeftTicks.value,
+            LoggingKey.DriveTrainRightTicks.value,
+            LoggingKey.OffboardVisionX.value,
+            LoggingKey.OffboardVisionY.value,
+            LoggingKey.OffboardVisionDistance.value,
+            LoggingKey.OffboardVisionHorizontalAngle.value,
+            LoggingKey.OffboardVisionEnableVision.value,
+            LoggingKey.OffboardVisionEnableStream.value,
+            LoggingKey.OffboardVisionEnableProcessing.value,
+            LoggingKey.PositionNavxConnected.value,
+            LoggingKey.PositionNavxAngle.value,
+        };
+
+    @Test
+    public void testExpandMatchesFullLog() throws IOException
+    {
+        StringFileWriter full = new StringFileWriter();
+        CSVLogger fullLogger = new CSVLogger(full, DeltaLoggerTests.SCHEMA);
+
+        StringFileWriter delta = new StringFileWriter();
+        DeltaLogger deltaLogger = new DeltaLogger(new CSVLogger(delta, DeltaLoggerTests.SCHEMA), DeltaLoggerTests.KEYFRAME_FREQUENCY);
+
+        for (int i = 0; i < 100; i++)
+        {
+            DeltaLoggerTests.writeRow(fullLogger, i);
+            if (i % DeltaLoggerTests.KEYFRAME_FREQUENCY == 0)
+            {
+                fullLogger.logBoolean(LoggingKey.LoggerKeyframe, true);
+            }
+
+            fullLogger.update();
+
+            DeltaLoggerTests.writeRow(deltaLogger, i);
+            deltaLogger.update();
+        }
+
+        // most of the values don't change, so the change-only log should be much smaller
+        assertTrue(delta.toString().length() * 2 < full.toString().length());
+
+        StringWriter expanded = new StringWriter();
+        assertEquals(100, DeltaLogExpander.expand(new StringReader(delta.toString()), expanded));
+        assertEquals(full.toString(), expanded.toString());
+    }
+
+    @Test
+    public void testExpandBlanksAbsentValues() throws IOException
+    {
+        StringFileWriter full = new StringFileWriter();
+        CSVLogger fullLogger = new CSVLogger(full);
+
+        StringFileWriter delta = new StringFileWriter();
+        DeltaLogger deltaLogger = new DeltaLogger(new CSVLogger(delta), DeltaLoggerTests.KEYFRAME_FREQUENCY);
+
+        for (int i = 0; i < 30; i++)
+        {
+            // some values are only written while a target is visible, and some only in the first row
+            for (ILogger logger : new ILogger[] { fullLogger, deltaLogger })
+            {
+                logger.logNumber(LoggingKey.RobotTime, i * 0.02);
+                if (i % 7 < 3)
+                {
+                    logger.logNumber(LoggingKey.OffboardVisionDistance, 12.0);
+                    logger.logString(LoggingKey.DriverActiveMacros, "VisionCenter");
+                }
+
+                if (i == 0)
+                {
+                    logger.logInteger(LoggingKey.DriveTrainRightTicks, 5, "%05d");
+                }
+            }
+
+            if (i % DeltaLoggerTests.KEYFRAME_FREQUENCY == 0)
+            {
+                fullLogger.logBoolean(LoggingKey.LoggerKeyframe, true);
+            }
+
+            fullLogger.update();
+            deltaLogger.update();
+        }
+
+        StringWriter expanded = new StringWriter();
+        assertEquals(30, DeltaLogExpander.expand(new StringReader(delta.toString()), expanded));
+        assertEquals(full.toString(), expanded.toString());
+    }
+
+    @Test
+    public void testOnlyChangedValuesWritten() throws IOException
+    {
+        StringFileWriter delta = new StringFileWriter();
+        DeltaLogger deltaLogger =
+            new DeltaLogger(
+                new CSVLogger(delta, LoggingKey.RobotTime.value, LoggingKey.RobotState.value, LoggingKey.LoggerKeyframe.value),
+                DeltaLoggerTests.KEYFRAME_FREQUENCY);
+
+        for (int i = 0; i < 3; i++)
+        {
+            deltaLogger.logNumber(LoggingKey.RobotTime, i < 2 ? 1.0 : 2.0);
+            deltaLogger.logString(LoggingKey.RobotState, "Teleop");
+            deltaLogger.update();
+        }
+
+        assertEquals(
+            "r.time,r.state,log.keyframe\r\n" +
+            "1.0,Teleop,true\r\n" +
+            ",,\r\n" +
+            "2.0,,\r\n",
+            delta.toString());
+    }
+
+    private static void writeRow(ILogger logger, int i)
+    {
+        logger.logString(LoggingKey.RobotState, i < 50 ? "Autonomous" : "Teleop");
+        logger.logNumber(LoggingKey.RobotTime, i * 0.02);
+        logger.logString(LoggingKey.DriverActiveMacros, i % 20 < 5 ? "VisionCenter, Climb" : "");
+        logger.logBoolean(LoggingKey.PositionNavxConnected, true);
+        logger.logNumber(LoggingKey.PositionNavxAngle, i < 30 ? 0.0 : 90.0);
+        logger.logInteger(LoggingKey.DriveTrainLeftTicks, i / 10);
+        logger.logInteger(LoggingKey.DriveTrainRightTicks, i / 10, "%05d");
+        logger.logNumber(LoggingKey.DriveTrainLeftVelocity, (Double)null);
+        logger.logBoolean(LoggingKey.OffboardVisionEnableVision, false);
+        logger.logBoolean(LoggingKey.OffboardVisionEnableStream, false);
+        logger.logBoolean(LoggingKey.OffboardVisionEnableProcessing, false);
+        logger.logNumber(LoggingKey.OffboardVisionX, 0.0);
+        logger.logNumber(LoggingKey.OffboardVisionY, 0.0);
+        logger.logNumber(LoggingKey.OffboardVisionDistance, 0.0);
+        logger.logNumber(LoggingKey.OffboardVisionHorizontalAngle, 0.0);
+    }
+
+    private static class StringFileWriter implements IFileWriter
+    {
+        private final StringBuilder builder = new StringBuilder();
+
+        @Override
+        public void append(String string)
+        {
+            this.builder.append(string);
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.builder.toString();
+        }
+    }
+}
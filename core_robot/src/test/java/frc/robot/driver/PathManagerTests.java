@@ -0,0 +1,296 @@
+package frc.robot.driver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import frc.robot.driver.common.TankPath;
+
+public class PathManagerTests
+{
+    @TempDir
+    public Path tempDirectory;
+
+    @Test
+    public void testCacheRoundTrip() throws IOException
+    {
+        String cacheFilePath = this.tempDirectory.resolve("paths.bin").toString();
+
+        Map<String, PathManager.StoredPath> paths = new HashMap<String, PathManager.StoredPath>();
+        paths.put("a", new PathManager.StoredPath(1318L, PathManagerTests.createPath(3, 1.0)));
+        paths.put("longer name", new PathManager.StoredPath(-1L, PathManagerTests.createPath(10, 2.0).resample(0.02)));
+        paths.put("empty", new PathManager.StoredPath(0L, new TankPath(0.01, 0)));
+        PathManager.writeCache(cacheFilePath, paths);
+
+        Map<String, PathManager.StoredPath> cachedPaths = PathManager.readCache(cacheFilePath);
+        assertEquals(paths.keySet(), cachedPaths.keySet());
+        for (String name : paths.keySet())
+        {
+            assertEquals(paths.get(name).key, cachedPaths.get(name).key);
+            PathManagerTests.assertPathEquals(paths.get(name).getPath(), cachedPaths.get(name).getPath());
+        }
+    }
+
+    @Test
+    public void testCorruptCacheIgnored() throws IOException
+    {
+        Path cacheFile = this.tempDirectory.resolve("paths.bin");
+        assertTrue(PathManager.readCache(cacheFile.toString()).isEmpty());
+
+        Map<String, PathManager.StoredPath> paths = new HashMap<String, PathManager.StoredPath>();
+        paths.put("a", new PathManager.StoredPath(1318L, PathManagerTests.createPath(100, 1.0)));
+        PathManager.writeCache(cacheFile.toString(), paths);
+
+        // truncate the file partway through the path's columns
+        byte[] contents = Files.readAllBytes(cacheFile);
+        byte[] truncated = new byte[contents.length / 2];
+        System.arraycopy(contents, 0, truncated, 0, truncated.length);
+        Files.write(cacheFile, truncated);
+
+        assertTrue(PathManager.readCache(cacheFile.toString()).isEmpty());
+
+        // a missing precomputed paths resource is ignored as well
+        assertTrue(PathManager.readPrecomputed("/Paths/does_not_exist.bin").isEmpty());
+    }
+
+    @Test
+    public void testGeneratedPathsUseCache()
+    {
+        String cacheFilePath = this.tempDirectory.resolve("paths.bin").toString();
+        TankPath generatedPath = PathManagerTests.createPath(5, 3.0);
+
+        PathManager firstPathManager = new PathManager(cacheFilePath, null, Integer.MAX_VALUE, 0.0);
+        firstPathManager.addPath("generated", 1318L, () -> generatedPath);
+        firstPathManager.loadPaths();
+        PathManagerTests.assertPathEquals(generatedPath, firstPathManager.getPath("generated"));
+        TankPath csvPath = firstPathManager.getPath("/Paths/straight_path.csv");
+        assertNotNull(csvPath);
+        firstPathManager.waitForLoader();
+        assertTrue(Files.exists(this.tempDirectory.resolve("paths.bin")));
+
+        // on the next boot, the path is read from the cache instead of being generated again
+        PathManager secondPathManager = new PathManager(cacheFilePath, null, Integer.MAX_VALUE, 0.0);
+        secondPathManager.addPath(
+            "generated",
+            1318L,
+            () ->
+            {
+                fail("expected the path to be read from the cache");
+                return null;
+            });
+        secondPathManager.loadPaths();
+
+        PathManagerTests.assertPathEquals(generatedPath, secondPathManager.getPath("generated"));
+        PathManagerTests.assertPathEquals(csvPath, secondPathManager.getPath("/Paths/straight_path.csv"));
+    }
+
+    @Test
+    public void testCsvPathAccelerations()
+    {
+        PathManager pathManager = new PathManager(this.tempDirectory.resolve("paths.bin").toString(), null, Integer.MAX_VALUE, 0.0);
+        pathManager.loadPaths();
+
+        // the first row of straight_path.csv accelerates from a standstill
+        TankPath path = pathManager.getPath("/Paths/straight_path.csv");
+        assertNotNull(path);
+        assertEquals(0.0, path.getLeftVelocity(0), 1e-9);
+        assertEquals(200.0, path.getLeftAcceleration(0), 1e-9);
+        assertEquals(200.0, path.getRightAcceleration(0), 1e-9);
+
+        // and the accelerations survive being read back from the cache
+        pathManager.waitForLoader();
+        PathManager cachedPathManager = new PathManager(this.tempDirectory.resolve("paths.bin").toString(), null, Integer.MAX_VALUE, 0.0);
+        cachedPathManager.loadPaths();
+        PathManagerTests.assertPathEquals(path, cachedPathManager.getPath("/Paths/straight_path.csv"));
+    }
+
+    @Test
+    public void testChangedPathDefinitionRegenerated()
+    {
+        String cacheFilePath = this.tempDirectory.resolve("paths.bin").toString();
+
+        PathManager firstPathManager = new PathManager(cacheFilePath, null, Integer.MAX_VALUE, 0.0);
+        firstPathManager.addPath("generated", 1318L, () -> PathManagerTests.createPath(5, 3.0));
+        firstPathManager.getPath("generated");
+        firstPathManager.waitForLoader();
+
+        // when the path definition changes (and so its key changes), the stale cached path isn't used
+        TankPath changedPath = PathManagerTests.createPath(7, 4.0);
+        PathManager secondPathManager = new PathManager(cacheFilePath, null, Integer.MAX_VALUE, 0.0);
+        secondPathManager.addPath("generated", 1319L, () -> changedPath);
+        PathManagerTests.assertPathEquals(changedPath, secondPathManager.getPath("generated"));
+        secondPathManager.waitForLoader();
+
+        Map<String, PathManager.StoredPath> cachedPaths = PathManager.readCache(cacheFilePath);
+        assertEquals(1319L, cachedPaths.get("generated").key);
+        PathManagerTests.assertPathEquals(changedPath, cachedPaths.get("generated").getPath());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPathEvicted()
+    {
+        int[] generatedCounts = new int[2];
+        PathManager pathManager = new PathManager(null, null, 10, 0.0);
+        pathManager.addPath(
+            "a",
+            1L,
+            () ->
+            {
+                generatedCounts[0]++;
+                return PathManagerTests.createPath(6, 1.0);
+            });
+        pathManager.addPath(
+            "b",
+            2L,
+            () ->
+            {
+                generatedCounts[1]++;
+                return PathManagerTests.createPath(6, 2.0);
+            });
+        pathManager.addPath("pinned", PathManagerTests.createPath(100, 3.0));
+
+        // nothing is generated until it is needed
+        assertArrayEquals(new int[] { 0, 0 }, generatedCounts);
+        assertEquals(0, pathManager.getLoadedSteps());
+
+        assertNotNull(pathManager.getPath("a"));
+        assertNotNull(pathManager.getPath("a"));
+        assertArrayEquals(new int[] { 1, 0 }, generatedCounts);
+        assertEquals(6, pathManager.getLoadedSteps());
+
+        // loading b goes over the limit, so a is evicted and has to be generated again
+        assertNotNull(pathManager.getPath("b"));
+        assertEquals(6, pathManager.getLoadedSteps());
+        assertNotNull(pathManager.getPath("a"));
+        assertArrayEquals(new int[] { 2, 1 }, generatedCounts);
+
+        // paths that were added directly are never evicted
+        assertEquals(100, pathManager.getPath("pinned").size());
+        assertNull(pathManager.getPath("unknown"));
+    }
+
+    @Test
+    public void testPreloadPaths()
+    {
+        int[] generatedCount = new int[1];
+        PathManager pathManager = new PathManager(null, null, Integer.MAX_VALUE, 0.0);
+        pathManager.addPath(
+            "a",
+            1L,
+            () ->
+            {
+                generatedCount[0]++;
+                return PathManagerTests.createPath(6, 1.0);
+            });
+
+        pathManager.preloadPaths(Arrays.asList("a", "unknown"));
+        pathManager.waitForLoader();
+        assertEquals(1, generatedCount[0]);
+        assertEquals(6, pathManager.getLoadedSteps());
+
+        // the preloaded path is used rather than generating it again
+        assertNotNull(pathManager.getPath("a"));
+        assertEquals(1, generatedCount[0]);
+    }
+
+    @Test
+    public void testGeneratePathOnLoader() throws Exception
+    {
+        PathManager pathManager = new PathManager(null, null, Integer.MAX_VALUE, 0.0);
+        Thread callingThread = Thread.currentThread();
+        Thread[] generatingThread = new Thread[1];
+        TankPath generatedPath = PathManagerTests.createPath(5, 1.0);
+
+        Future<TankPath> future = pathManager.generatePath(
+            () ->
+            {
+                generatingThread[0] = Thread.currentThread();
+                return generatedPath;
+            });
+
+        assertEquals(generatedPath, future.get());
+        assertNotNull(generatingThread[0]);
+        assertTrue(generatingThread[0] != callingThread);
+
+        // generated paths aren't kept by the path manager
+        assertEquals(0, pathManager.getLoadedSteps());
+    }
+
+    @Test
+    public void testGeneratePathWhilePreloading() throws Exception
+    {
+        PathManager pathManager = new PathManager(null, null, Integer.MAX_VALUE, 0.0);
+        CountDownLatch preloadStarted = new CountDownLatch(1);
+        CountDownLatch finishPreload = new CountDownLatch(1);
+        pathManager.addPath(
+            "slow",
+            1L,
+            () ->
+            {
+                preloadStarted.countDown();
+                try
+                {
+                    finishPreload.await();
+                }
+                catch (InterruptedException ex)
+                {
+                }
+
+                return PathManagerTests.createPath(3, 1.0);
+            });
+
+        pathManager.addPath("queued", 2L, () -> PathManagerTests.createPath(3, 2.0));
+        pathManager.preloadPaths(Arrays.asList("slow", "queued"));
+        assertTrue(preloadStarted.await(5, TimeUnit.SECONDS));
+
+        // the generated path doesn't wait for the preloads ahead of it
+        TankPath generatedPath = PathManagerTests.createPath(5, 1.0);
+        Future<TankPath> future = pathManager.generatePath(() -> generatedPath);
+        assertEquals(generatedPath, future.get(5, TimeUnit.SECONDS));
+        assertEquals(0, pathManager.getLoadedSteps());
+
+        finishPreload.countDown();
+        pathManager.waitForLoader();
+        assertEquals(6, pathManager.getLoadedSteps());
+    }
+
+    private static TankPath createPath(int size, double scale)
+    {
+        TankPath path = new TankPath(0.01, size);
+        for (int i = 0; i < size; i++)
+        {
+            path.set(i, i * scale, i * scale + 0.1, scale, scale + 0.2, 0.3, 0.4, i * 0.5);
+        }
+
+        return path;
+    }
+
+    private static void assertPathEquals(TankPath expected, TankPath actual)
+    {
+        assertNotNull(actual);
+        assertEquals(expected.getTimeStep(), actual.getTimeStep());
+        assertEquals(expected.size(), actual.size());
+        double[][] expectedColumns = expected.getColumns();
+        double[][] actualColumns = actual.getColumns();
+        for (int i = 0; i < TankPath.COLUMN_COUNT; i++)
+        {
+            assertArrayEquals(expectedColumns[i], actualColumns[i]);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package frc.robot.driver.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.inject.Injector;
+
+import frc.robot.ElectronicsConstants;
+import frc.robot.LoggingKey;
+import frc.robot.common.LoggingManager;
+import frc.robot.common.robotprovider.IJoystick;
+import frc.robot.common.robotprovider.IRobotProvider;
+import frc.robot.common.robotprovider.StringLogger;
+import frc.robot.driver.AnalogOperation;
+import frc.robot.driver.AutonomousRoutineSelector;
+import frc.robot.driver.DigitalOperation;
+import frc.robot.driver.IOperation;
+import frc.robot.driver.MacroOperation;
+import frc.robot.driver.PathManager;
+import frc.robot.driver.common.buttons.ButtonType;
+import frc.robot.driver.common.descriptions.AnalogOperationDescription;
+import frc.robot.driver.common.descriptions.DigitalOperationDescription;
+import frc.robot.driver.common.descriptions.MacroOperationDescription;
+import frc.robot.driver.common.descriptions.ShiftDescription;
+import frc.robot.driver.common.descriptions.UserInputDevice;
+
+public class DriverTests
+{
+    // toggle macros: A and B both use the left position, C only uses the right position, and the Y button modifies brake mode (used by A)
+    private static final MacroOperation MACRO_A = MacroOperation.FollowSomePath;
+    private static final MacroOperation MACRO_B = MacroOperation.FollowAnotherPath;
+    private static final MacroOperation MACRO_C = MacroOperation.FollowADifferentPath;
+
+    private final IJoystick joystick;
+    private final RecordingLogger recorder;
+    private final IControlTask taskA;
+    private final IControlTask taskB;
+    private final IControlTask taskC;
+    private final Driver driver;
+
+    public DriverTests()
+    {
+        this.joystick = mock(IJoystick.class);
+        IRobotProvider provider = mock(IRobotProvider.class);
+        doReturn(this.joystick).when(provider).getJoystick(ElectronicsConstants.JOYSTICK_DRIVER_PORT);
+        doReturn(mock(IJoystick.class)).when(provider).getJoystick(ElectronicsConstants.JOYSTICK_CO_DRIVER_PORT);
+
+        Injector injector = mock(Injector.class);
+        doReturn(mock(AutonomousRoutineSelector.class)).when(injector).getInstance(AutonomousRoutineSelector.class);
+        doReturn(mock(PathManager.class)).when(injector).getInstance(PathManager.class);
+
+        this.recorder = new RecordingLogger();
+        LoggingManager logger = new LoggingManager(i -> this.recorder);
+        logger.refresh(injector);
+
+        this.taskA = mock(IControlTask.class);
+        this.taskB = mock(IControlTask.class);
+        this.taskC = mock(IControlTask.class);
+
+        IButtonMap buttonMap = mock(IButtonMap.class);
+        doReturn(new ShiftDescription[0]).when(buttonMap).getShiftSchema();
+        doReturn(new AnalogOperationDescription[0]).when(buttonMap).getAnalogOperationSchema();
+        doReturn(
+            new DigitalOperationDescription[]
+            {
+                new DigitalOperationDescription(
+                    DigitalOperation.DriveTrainUseBrakeMode,
+                    UserInputDevice.Driver,
+                    UserInputDeviceButton.XBONE_Y_BUTTON,
+                    ButtonType.Simple),
+            }).when(buttonMap).getDigitalOperationSchema();
+        doReturn(
+            new MacroOperationDescription[]
+            {
+                new MacroOperationDescription(
+                    DriverTests.MACRO_A,
+                    UserInputDevice.Driver,
+                    UserInputDeviceButton.XBONE_A_BUTTON,
+                    ButtonType.Toggle,
+                    () -> this.taskA,
+                    new IOperation[] { DigitalOperation.DriveTrainUseBrakeMode, AnalogOperation.DriveTrainLeftPosition }),
+                new MacroOperationDescription(
+                    DriverTests.MACRO_B,
+                    UserInputDevice.Driver,
+                    UserInputDeviceButton.XBONE_B_BUTTON,
+                    ButtonType.Toggle,
+                    () -> this.taskB,
+                    new IOperation[] { AnalogOperation.DriveTrainLeftPosition }),
+                new MacroOperationDescription(
+                    DriverTests.MACRO_C,
+                    UserInputDevice.Driver,
+                    UserInputDeviceButton.XBONE_X_BUTTON,
+                    ButtonType.Toggle,
+                    () -> this.taskC,
+                    new IOperation[] { AnalogOperation.DriveTrainRightPosition }),
+            }).when(buttonMap).getMacroOperationSchema();
+
+        this.driver = new Driver(logger, injector, buttonMap, provider);
+    }
+
+    @Test
+    public void testUserInputCancelsMacro()
+    {
+        assertEquals(DriverTests.macros(DriverTests.MACRO_A), this.update(true, false, false, false));
+        verify(this.taskA).begin();
+
+        // rule #1: pressing Y modifies brake mode, which cancels A
+        assertEquals(DriverTests.macros(), this.update(false, false, false, true));
+        verify(this.taskA).stop();
+
+        // A can be started again afterwards
+        assertEquals(DriverTests.macros(DriverTests.MACRO_A), this.update(true, false, false, false));
+        verify(this.taskA, times(2)).begin();
+    }
+
+    @Test
+    public void testUserInputDoesNotCancelUnrelatedMacro()
+    {
+        assertEquals(DriverTests.macros(DriverTests.MACRO_C), this.update(false, false, true, false));
+        assertEquals(DriverTests.macros(DriverTests.MACRO_C), this.update(false, false, false, true));
+        verify(this.taskC, never()).stop();
+    }
+
+    @Test
+    public void testNewMacroCancelsPreviousMacro()
+    {
+        assertEquals(DriverTests.macros(DriverTests.MACRO_A), this.update(true, false, false, false));
+
+        // rule #2: B is new and overlaps with A, which was previously active, so A is cancelled
+        assertEquals(DriverTests.macros(DriverTests.MACRO_B), this.update(false, true, false, false));
+        verify(this.taskA).stop();
+        verify(this.taskB).begin();
+
+        assertEquals(DriverTests.macros(DriverTests.MACRO_B), this.update(false, false, false, false));
+        verify(this.taskB, never()).stop();
+    }
+
+    @Test
+    public void testSimultaneousOverlappingMacrosCancelled()
+    {
+        // rule #3: A and B both start at the same time and overlap, so both are cancelled
+        assertEquals(DriverTests.macros(), this.update(true, true, false, false));
+        assertEquals(DriverTests.macros(), this.update(false, false, false, false));
+        verify(this.taskA, never()).begin();
+        verify(this.taskB, never()).begin();
+    }
+
+    @Test
+    public void testSimultaneousOverlappingMacrosCancelledWithUnrelatedMacro()
+    {
+        assertEquals(DriverTests.macros(DriverTests.MACRO_C), this.update(false, false, true, false));
+        assertEquals(DriverTests.macros(DriverTests.MACRO_C), this.update(false, false, false, false));
+
+        // rule #3 only applies to A and B, C continues
+        assertEquals(DriverTests.macros(DriverTests.MACRO_C), this.update(true, true, false, false));
+        verify(this.taskC, never()).stop();
+    }
+
+    @Test
+    public void testNonOverlappingMacrosRunTogether()
+    {
+        assertEquals(DriverTests.macros(DriverTests.MACRO_A, DriverTests.MACRO_C), this.update(true, false, true, false));
+        assertEquals(DriverTests.macros(DriverTests.MACRO_A, DriverTests.MACRO_C), this.update(false, false, false, false));
+
+        // toggle A off
+        assertEquals(DriverTests.macros(DriverTests.MACRO_C), this.update(true, false, false, false));
+        verify(this.taskA).stop();
+        verify(this.taskC, never()).stop();
+    }
+
+    @Test
+    public void testOperationValues()
+    {
+        this.update(false, false, false, true);
+        assertEquals(true, this.driver.getDigital(DigitalOperation.DriveTrainUseBrakeMode));
+
+        this.update(false, false, false, false);
+        assertEquals(false, this.driver.getDigital(DigitalOperation.DriveTrainUseBrakeMode));
+    }
+
+    private List<String> update(boolean a, boolean b, boolean x, boolean y)
+    {
+        doReturn(a).when(this.joystick).getRawButton(UserInputDeviceButton.XBONE_A_BUTTON.Value);
+        doReturn(b).when(this.joystick).getRawButton(UserInputDeviceButton.XBONE_B_BUTTON.Value);
+        doReturn(x).when(this.joystick).getRawButton(UserInputDeviceButton.XBONE_X_BUTTON.Value);
+        doReturn(y).when(this.joystick).getRawButton(UserInputDeviceButton.XBONE_Y_BUTTON.Value);
+
+        this.driver.update();
+
+        List<String> activeMacros = new ArrayList<String>();
+        if (!this.recorder.activeMacros.isEmpty())
+        {
+            activeMacros.addAll(Arrays.asList(this.recorder.activeMacros.split(", ")));
+        }
+
+        Collections.sort(activeMacros);
+        return activeMacros;
+    }
+
+    private static List<String> macros(MacroOperation... macroOperations)
+    {
+        List<String> result = new ArrayList<String>();
+        for (MacroOperation macroOperation : macroOperations)
+        {
+            result.add(macroOperation.toString());
+        }
+
+        Collections.sort(result);
+        return result;
+    }
+
+    private static class RecordingLogger extends StringLogger
+    {
+        private String activeMacros = "";
+
+        @Override
+        public void logString(LoggingKey key, String value)
+        {
+            if (key == LoggingKey.DriverActiveMacros)
+            {
+                this.activeMacros = value;
+            }
+        }
+    }
+}
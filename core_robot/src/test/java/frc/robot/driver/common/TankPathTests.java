@@ -0,0 +1,98 @@
+package frc.robot.driver.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class TankPathTests
+{
+    @Test
+    public void testSampleAtSteps()
+    {
+        TankPath path = TankPathTests.createAcceleratingPath(0.01, 11);
+        TankPathSample sample = new TankPathSample();
+        for (int i = 0; i < path.size(); i++)
+        {
+            path.sample(i * 0.01, sample);
+            assertEquals(path.getLeftPosition(i), sample.getLeftPosition(), 1e-9);
+            assertEquals(path.getRightPosition(i), sample.getRightPosition(), 1e-9);
+            assertEquals(path.getLeftVelocity(i), sample.getLeftVelocity(), 1e-9);
+            assertEquals(path.getRightVelocity(i), sample.getRightVelocity(), 1e-9);
+            assertEquals(path.getLeftAcceleration(i), sample.getLeftAcceleration(), 1e-9);
+            assertEquals(path.getRightAcceleration(i), sample.getRightAcceleration(), 1e-9);
+            assertEquals(path.getHeading(i), sample.getHeading(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testSampleBetweenSteps()
+    {
+        TankPath path = TankPathTests.createAcceleratingPath(0.01, 11);
+        TankPathSample sample = new TankPathSample();
+
+        // constant acceleration, so position is quadratic and velocity is linear, which the interpolation reproduces exactly
+        double time = 0.0437;
+        path.sample(time, sample);
+        assertEquals(0.5 * 10.0 * time * time, sample.getLeftPosition(), 1e-9);
+        assertEquals(-0.5 * 10.0 * time * time, sample.getRightPosition(), 1e-9);
+        assertEquals(10.0 * time, sample.getLeftVelocity(), 1e-9);
+        assertEquals(-10.0 * time, sample.getRightVelocity(), 1e-9);
+        assertEquals(10.0, sample.getLeftAcceleration(), 1e-9);
+        assertEquals(-10.0, sample.getRightAcceleration(), 1e-9);
+        assertEquals(time * 100.0, sample.getHeading(), 1e-9);
+
+        // before the start and after the end give the first and last steps
+        path.sample(-1.0, sample);
+        assertEquals(0.0, sample.getLeftPosition(), 1e-9);
+        path.sample(path.getDuration() + 1.0, sample);
+        assertEquals(path.getLeftPosition(10), sample.getLeftPosition(), 1e-9);
+        assertEquals(0.1, path.getDuration(), 1e-9);
+    }
+
+    @Test
+    public void testSampleHeadingWraps()
+    {
+        TankPath path = new TankPath(0.01, 2);
+        path.set(0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 350.0);
+        path.set(1, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 10.0);
+
+        TankPathSample sample = new TankPathSample();
+        path.sample(0.0075, sample);
+        assertEquals(365.0, sample.getHeading(), 1e-9);
+    }
+
+    @Test
+    public void testResample()
+    {
+        TankPath path = TankPathTests.createAcceleratingPath(0.01, 101);
+        TankPath resampled = path.resample(0.03);
+        assertEquals(1.0 / 34, resampled.getTimeStep(), 1e-9);
+        assertEquals(35, resampled.size());
+
+        // the coarser path still matches the original between its steps
+        TankPathSample sample = new TankPathSample();
+        TankPathSample resampledSample = new TankPathSample();
+        assertEquals(path.getDuration(), resampled.getDuration(), 1e-9);
+        for (double time = 0.0; time < path.getDuration(); time += 0.007)
+        {
+            path.sample(time, sample);
+            resampled.sample(time, resampledSample);
+            assertEquals(sample.getLeftPosition(), resampledSample.getLeftPosition(), 1e-9);
+            assertEquals(sample.getLeftVelocity(), resampledSample.getLeftVelocity(), 1e-9);
+            assertEquals(sample.getHeading(), resampledSample.getHeading(), 1e-9);
+        }
+    }
+
+    private static TankPath createAcceleratingPath(double timeStep, int size)
+    {
+        TankPath path = new TankPath(timeStep, size);
+        for (int i = 0; i < size; i++)
+        {
+            double time = i * timeStep;
+            double position = 0.5 * 10.0 * time * time;
+            path.set(i, position, -position, 10.0 * time, -10.0 * time, 10.0, -10.0, time * 100.0);
+        }
+
+        return path;
+    }
+}
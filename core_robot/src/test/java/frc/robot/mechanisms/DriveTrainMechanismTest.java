@@ -1,5 +1,6 @@
 package frc.robot.mechanisms;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -116,6 +117,16 @@ public class DriveTrainMechanismTest
         verifyNoMoreInteractions(rightFollowerMotor);
     }
 
+    @Test
+    public void testCalculateFeedForward()
+    {
+        assertEquals(0.0, DriveTrainMechanism.CalculateFeedForward(0.0, 0.0, 0.05, 0.01, 0.002), 1e-9);
+        assertEquals(0.05 + 0.01 * 50.0 + 0.002 * 20.0, DriveTrainMechanism.CalculateFeedForward(50.0, 20.0, 0.05, 0.01, 0.002), 1e-9);
+
+        // static friction opposes the direction of travel, while decelerating reduces the power needed
+        assertEquals(-0.05 - 0.01 * 50.0 + 0.002 * 20.0, DriveTrainMechanism.CalculateFeedForward(-50.0, 20.0, 0.05, 0.01, 0.002), 1e-9);
+    }
+
     @Test
     public void testStop()
     {
@@ -0,0 +1,167 @@
+package frc.robot.mechanisms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import frc.robot.ElectronicsConstants;
+import frc.robot.TuningConstants;
+import frc.robot.common.LoggingManager;
+import frc.robot.common.robotprovider.*;
+
+public class OffboardVisionManagerTests
+{
+    @Test
+    public void testResultsFromListener()
+    {
+        TestNetworkTableEntry resultEntry = new TestNetworkTableEntry();
+        TestNetworkTableEntry centerXEntry = new TestNetworkTableEntry();
+        TestNetworkTableEntry centerYEntry = new TestNetworkTableEntry();
+        INetworkTableProvider networkTableProvider = mock(INetworkTableProvider.class);
+        doReturn(resultEntry).when(networkTableProvider).getSmartDashboardEntry("v.result");
+        doReturn(centerXEntry).when(networkTableProvider).getSmartDashboardEntry("v.x");
+        doReturn(centerYEntry).when(networkTableProvider).getSmartDashboardEntry("v.y");
+        IRobotProvider provider = mock(IRobotProvider.class);
+        doReturn(networkTableProvider).when(provider).getNetworkTableProvider();
+        doReturn(mock(IDigitalOutput.class)).when(provider).getDigitalOutput(ElectronicsConstants.VISION_RING_LIGHT_DIO);
+        ITimer timer = mock(ITimer.class);
+
+        OffboardVisionManager visionManager = new OffboardVisionManager(mock(LoggingManager.class), provider, timer);
+        assertNotNull(resultEntry.listener);
+
+        // nothing received yet
+        doReturn(10.0).when(timer).get();
+        visionManager.readSensors();
+        assertNull(visionManager.getHorizontalAngle());
+        assertNull(visionManager.getCaptureTime());
+
+        // an older vision processor only publishes v.x/v.y, which are used (without a capture time) until a result arrives
+        centerXEntry.doubleValue = 639.5;
+        centerYEntry.doubleValue = 359.5;
+        visionManager.readSensors();
+        assertTrue(visionManager.isNewResult());
+        assertNotNull(visionManager.getHorizontalAngle());
+        assertNotNull(visionManager.getDistance());
+        assertNull(visionManager.getCaptureTime());
+
+        centerXEntry.doubleValue = -1.0;
+        visionManager.readSensors();
+        assertNull(visionManager.getHorizontalAngle());
+
+        // a frame arrives (with one target in the center of the image), captured 0.1 seconds before it was received
+        resultEntry.set(new double[] { 7.0, 0.1, 639.5, 359.5 });
+        doReturn(10.05).when(timer).get();
+        visionManager.readSensors();
+        assertTrue(visionManager.isNewResult());
+        assertNotNull(visionManager.getHorizontalAngle());
+        assertNotNull(visionManager.getDistance());
+        assertEquals(9.9, visionManager.getCaptureTime(), 1e-9);
+
+        // the same frame isn't new on the next loop
+        visionManager.readSensors();
+        assertFalse(visionManager.isNewResult());
+        assertEquals(9.9, visionManager.getCaptureTime(), 1e-9);
+
+        // malformed values are ignored
+        resultEntry.set(new double[] { 8.0, 0.1, 639.5 });
+        visionManager.readSensors();
+        assertFalse(visionManager.isNewResult());
+        assertNotNull(visionManager.getHorizontalAngle());
+
+        // results are dropped once they are too old
+        doReturn(9.9 + TuningConstants.VISION_MAX_RESULT_AGE + 0.01).when(timer).get();
+        visionManager.readSensors();
+        assertNull(visionManager.getHorizontalAngle());
+        assertNull(visionManager.getDistance());
+
+        // a frame without any targets
+        resultEntry.set(new double[] { 9.0, 0.05 });
+        visionManager.readSensors();
+        assertTrue(visionManager.isNewResult());
+        assertNull(visionManager.getHorizontalAngle());
+    }
+
+    @Test
+    public void testResultsClearedWhenTimerReset()
+    {
+        TestNetworkTableEntry resultEntry = new TestNetworkTableEntry();
+        INetworkTableProvider networkTableProvider = mock(INetworkTableProvider.class);
+        doReturn(resultEntry).when(networkTableProvider).getSmartDashboardEntry("v.result");
+        doReturn(new TestNetworkTableEntry()).when(networkTableProvider).getSmartDashboardEntry("v.x");
+        doReturn(new TestNetworkTableEntry()).when(networkTableProvider).getSmartDashboardEntry("v.y");
+        IRobotProvider provider = mock(IRobotProvider.class);
+        doReturn(networkTableProvider).when(provider).getNetworkTableProvider();
+        doReturn(mock(IDigitalOutput.class)).when(provider).getDigitalOutput(ElectronicsConstants.VISION_RING_LIGHT_DIO);
+        ITimer timer = mock(ITimer.class);
+
+        OffboardVisionManager visionManager = new OffboardVisionManager(mock(LoggingManager.class), provider, timer);
+
+        doReturn(10.0).when(timer).get();
+        resultEntry.set(new double[] { 7.0, 0.1, 639.5, 359.5 });
+        visionManager.readSensors();
+        assertEquals(9.9, visionManager.getCaptureTime(), 1e-9);
+
+        // the timer is reset (e.g. going from autonomous to teleop), so the result was captured "in the future" and is ignored
+        doReturn(0.02).when(timer).get();
+        visionManager.readSensors();
+        assertNull(visionManager.getHorizontalAngle());
+        assertNull(visionManager.getCaptureTime());
+
+        // a result received before the robot was stopped is forgotten
+        doReturn(10.0).when(timer).get();
+        resultEntry.set(new double[] { 8.0, 0.1, 639.5, 359.5 });
+        visionManager.stop();
+        visionManager.readSensors();
+        assertNull(visionManager.getHorizontalAngle());
+        assertNull(visionManager.getCaptureTime());
+    }
+
+    private static class TestNetworkTableEntry implements INetworkTableEntry
+    {
+        private Double doubleValue;
+        private double[] value;
+        private INetworkTableListener listener;
+
+        void set(double[] value)
+        {
+            this.value = value;
+            this.listener.valueChanged(this);
+        }
+
+        @Override
+        public double getDouble(double defaultValue)
+        {
+            return this.doubleValue != null ? this.doubleValue : defaultValue;
+        }
+
+        @Override
+        public boolean getBoolean(boolean defaultValue)
+        {
+            return defaultValue;
+        }
+
+        @Override
+        public String getString(String defaultValue)
+        {
+            return defaultValue;
+        }
+
+        @Override
+        public double[] getDoubleArray(double[] defaultValue)
+        {
+            return this.value != null ? this.value : defaultValue;
+        }
+
+        @Override
+        public void addListener(INetworkTableListener listener)
+        {
+            this.listener = listener;
+        }
+    }
+}
@@ -32,6 +32,9 @@ public class FauxbotApplication extends Application
     private Thread runnerThread;
 
     private IRealWorldSimulator simulator;
+    private FauxbotSensorManager sensorManager;
+    private FauxbotActuatorManager actuatorManager;
+    private FauxbotJoystickManager joystickManager;
 
     private CoreRobot<FauxbotModule> robot;
     private Simulation desiredSimulation;
@@ -123,6 +126,9 @@ public class FauxbotApplication extends Application
         this.robot = new CoreRobot<FauxbotModule>(desiredModule);
 
         this.simulator = this.robot.getInjector().getInstance(IRealWorldSimulator.class);
+        this.sensorManager = this.robot.getInjector().getInstance(FauxbotSensorManager.class);
+        this.actuatorManager = this.robot.getInjector().getInstance(FauxbotActuatorManager.class);
+        this.joystickManager = this.robot.getInjector().getInstance(FauxbotJoystickManager.class);
         this.runner = new FauxbotRunner(this.robot, this);
         this.runnerThread = new Thread(this.runner);
         this.robot.robotInit();
@@ -228,7 +234,7 @@ public class FauxbotApplication extends Application
 
                     if (joystickPort != -1)
                     {
-                        final FauxbotJoystick joystick = FauxbotJoystickManager.get(joystickPort);
+                        final FauxbotJoystick joystick = this.joystickManager.get(joystickPort);
                         if (joystick != null)
                         {
                             int thisRowIndex = rowCount;
@@ -282,12 +288,12 @@ public class FauxbotApplication extends Application
         FauxbotSensorConnection[] sensors = this.simulator.getSensors();
         if (sensors == null)
         {
-            sensors = (FauxbotSensorConnection[])FauxbotSensorManager.sensorMap.keySet().toArray();
+            sensors = this.sensorManager.getConnections().toArray(new FauxbotSensorConnection[0]);
         }
 
         for (FauxbotSensorConnection connection : sensors)
         {
-            FauxbotSensorBase sensor = FauxbotSensorManager.get(connection);
+            FauxbotSensorBase sensor = this.sensorManager.get(connection);
             if (sensor != null)
             {
                 boolean useTextBox = this.simulator.getSensorTextBox(connection);
@@ -405,12 +411,12 @@ public class FauxbotApplication extends Application
         FauxbotActuatorConnection[] actuators = this.simulator.getActuators();
         if (actuators == null)
         {
-            actuators = (FauxbotActuatorConnection[])FauxbotActuatorManager.actuatorMap.keySet().toArray();
+            actuators = this.actuatorManager.getConnections().toArray(new FauxbotActuatorConnection[0]);
         }
 
         for (FauxbotActuatorConnection connection : actuators)
         {
-            FauxbotActuatorBase actuator = FauxbotActuatorManager.get(connection);
+            FauxbotActuatorBase actuator = this.actuatorManager.get(connection);
             if (actuator != null)
             {
                 if (firstActuator)
@@ -530,7 +536,7 @@ public class FauxbotApplication extends Application
 
         if (joystickPort != -1)
         {
-            final FauxbotJoystick joystick = FauxbotJoystickManager.get(joystickPort);
+            final FauxbotJoystick joystick = this.joystickManager.get(joystickPort);
             if (joystick != null)
             {
                 int thisRowIndex = rowCount;
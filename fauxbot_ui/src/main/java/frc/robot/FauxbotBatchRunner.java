@@ -0,0 +1,314 @@
+package frc.robot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.inject.Injector;
+
+import de.siegmar.fastcsv.writer.CsvAppender;
+import de.siegmar.fastcsv.writer.CsvWriter;
+
+import frc.robot.common.robotprovider.*;
+import frc.robot.driver.AutonomousRoutineSelector.AutoRoutine;
+import frc.robot.driver.AutonomousRoutineSelector.StartPosition;
+
+/**
+ * Runs headless simulations of every autonomous routine from every start position (optionally for each of a set of PID gains) in parallel,
+ * and summarizes the results.
+ *
+ * Each run gets its own injector (and therefore its own simulated sensors, actuators, and virtual clock), so the runs are independent of
+ * one another and each of them is deterministic.
+ */
+public class FauxbotBatchRunner
+{
+    // names of the choosers that AutonomousRoutineSelector adds to the smart dashboard
+    private static final String ROUTINE_CHOOSER_NAME = "Auto Routine";
+    private static final String POSITION_CHOOSER_NAME = "Start Position";
+
+    private final double duration;
+    private final int threadCount;
+
+    /**
+     * Initializes a new FauxbotBatchRunner
+     * @param duration the amount of virtual time to run autonomous mode for in each simulation, in seconds
+     * @param threadCount the number of simulations to run at the same time
+     */
+    public FauxbotBatchRunner(double duration, int threadCount)
+    {
+        this.duration = duration;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Run a simulation for each combination of autonomous routine, start position and PID gains
+     * @param pidOverrides the PID gains to simulate with (null within the list for the configured gains)
+     * @return the results of each simulation
+     */
+    public List<BatchResult> run(List<FauxbotPIDOverride> pidOverrides)
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(this.threadCount);
+        try
+        {
+            List<Future<BatchResult>> futures = new ArrayList<Future<BatchResult>>();
+            for (AutoRoutine routine : AutoRoutine.values())
+            {
+                for (StartPosition position : StartPosition.values())
+                {
+                    for (FauxbotPIDOverride pidOverride : pidOverrides)
+                    {
+                        futures.add(executor.submit(() -> this.runSimulation(routine, position, pidOverride)));
+                    }
+                }
+            }
+
+            List<BatchResult> results = new ArrayList<BatchResult>(futures.size());
+            for (Future<BatchResult> future : futures)
+            {
+                results.add(future.get());
+            }
+
+            return results;
+        }
+        catch (InterruptedException | ExecutionException ex)
+        {
+            throw new RuntimeException(ex);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Run a single simulation of an autonomous routine
+     * @param routine to run
+     * @param position to start from
+     * @param pidOverride the PID gains to use, or null for the configured gains
+     * @return the result of the simulation
+     */
+    private BatchResult runSimulation(AutoRoutine routine, StartPosition position, FauxbotPIDOverride pidOverride)
+    {
+        long startWallTime = System.nanoTime();
+        try
+        {
+            CoreRobot<FauxbotModule> robot = new CoreRobot<FauxbotModule>(new HeadlessRobotFauxbotModule(pidOverride));
+            FauxbotHeadlessRunner runner = new FauxbotHeadlessRunner(robot, FauxbotHeadlessRunner.DEFAULT_LOOP_PERIOD, 0.0);
+            runner.robotInit();
+
+            Injector injector = robot.getInjector();
+            FauxbotNetworkTableProvider networkTableProvider = injector.getInstance(FauxbotNetworkTableProvider.class);
+            FauxbotSendableChooser<AutoRoutine> routineChooser = networkTableProvider.getChooser(FauxbotBatchRunner.ROUTINE_CHOOSER_NAME);
+            FauxbotSendableChooser<StartPosition> positionChooser = networkTableProvider.getChooser(FauxbotBatchRunner.POSITION_CHOOSER_NAME);
+            if (routineChooser == null || positionChooser == null)
+            {
+                throw new RuntimeException("Expected the autonomous routine and start position choosers to be added to the smart dashboard");
+            }
+
+            routineChooser.setSelected(routine);
+            positionChooser.setSelected(position);
+
+            runner.run(RobotMode.Autonomous, this.duration);
+
+            FauxbotRecordingLogger logger = injector.getInstance(FauxbotRecordingLogger.class);
+            return new BatchResult(
+                routine,
+                position,
+                pidOverride,
+                runner.getLoops(),
+                runner.getSimulatedTime(),
+                (System.nanoTime() - startWallTime) / 1000000000.0,
+                new EnumMap<LoggingKey, String>(logger.getLatestValues()),
+                null);
+        }
+        catch (RuntimeException ex)
+        {
+            return new BatchResult(
+                routine,
+                position,
+                pidOverride,
+                0,
+                0.0,
+                (System.nanoTime() - startWallTime) / 1000000000.0,
+                new EnumMap<LoggingKey, String>(LoggingKey.class),
+                ex.toString());
+        }
+    }
+
+    /**
+     * Write a summary report of the simulation results as a CSV file, with the final value of each logged key
+     * @param filePath to write the report to
+     * @param results of the simulations
+     */
+    public static void writeReport(String filePath, List<BatchResult> results) throws IOException
+    {
+        Set<LoggingKey> loggedKeys = EnumSet.noneOf(LoggingKey.class);
+        for (BatchResult result : results)
+        {
+            loggedKeys.addAll(result.finalValues.keySet());
+        }
+
+        CsvWriter csvWriter = new CsvWriter();
+        try (CsvAppender csvAppender = csvWriter.append(new File(filePath), StandardCharsets.UTF_8))
+        {
+            csvAppender.appendField("routine");
+            csvAppender.appendField("position");
+            csvAppender.appendField("pid");
+            csvAppender.appendField("loops");
+            csvAppender.appendField("simulatedTime");
+            csvAppender.appendField("wallTime");
+            csvAppender.appendField("error");
+            for (LoggingKey key : loggedKeys)
+            {
+                csvAppender.appendField(key.value);
+            }
+
+            csvAppender.endLine();
+
+            for (BatchResult result : results)
+            {
+                csvAppender.appendField(result.routine.toString());
+                csvAppender.appendField(result.position.toString());
+                csvAppender.appendField(FauxbotBatchRunner.describe(result.pidOverride));
+                csvAppender.appendField(Long.toString(result.loops));
+                csvAppender.appendField(Double.toString(result.simulatedTime));
+                csvAppender.appendField(Double.toString(result.wallTime));
+                csvAppender.appendField(result.error == null ? "" : result.error);
+                for (LoggingKey key : loggedKeys)
+                {
+                    String value = result.finalValues.get(key);
+                    csvAppender.appendField(value == null ? "" : value);
+                }
+
+                csvAppender.endLine();
+            }
+        }
+    }
+
+    private static String describe(FauxbotPIDOverride pidOverride)
+    {
+        return pidOverride == null ? "configured" : pidOverride.toString();
+    }
+
+    /**
+     * Run simulations of all of the autonomous routines in parallel and report the results
+     * @param args the duration in seconds (default 15), the file to write the CSV report to (or "" for none),
+     * and any number of sets of PID gains to sweep over, each formatted as "kp,ki,kd,kf"
+     */
+    public static void main(String[] args) throws IOException
+    {
+        double duration = args.length > 0 && !args[0].isEmpty() ? Double.parseDouble(args[0]) : 15.0;
+        String reportFilePath = args.length > 1 ? args[1] : "";
+
+        List<FauxbotPIDOverride> pidOverrides = new ArrayList<FauxbotPIDOverride>();
+        for (int i = 2; i < args.length; i++)
+        {
+            String[] gains = args[i].split(",");
+            if (gains.length != 4)
+            {
+                System.out.println("Expected PID gains formatted as \"kp,ki,kd,kf\", but found \"" + args[i] + "\"");
+                return;
+            }
+
+            pidOverrides.add(
+                new FauxbotPIDOverride(
+                    Double.parseDouble(gains[0]),
+                    Double.parseDouble(gains[1]),
+                    Double.parseDouble(gains[2]),
+                    Double.parseDouble(gains[3])));
+        }
+
+        if (pidOverrides.isEmpty())
+        {
+            pidOverrides.add(null);
+        }
+
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        FauxbotBatchRunner batchRunner = new FauxbotBatchRunner(duration, threadCount);
+
+        long startWallTime = System.nanoTime();
+        List<BatchResult> results = batchRunner.run(pidOverrides);
+        double wallTime = (System.nanoTime() - startWallTime) / 1000000000.0;
+
+        int failures = 0;
+        double simulatedTime = 0.0;
+        for (BatchResult result : results)
+        {
+            simulatedTime += result.simulatedTime;
+            System.out.println(
+                String.format(
+                    "%1$-12s %2$-8s %3$-24s %4$6d loops %5$7.2fs %6$s",
+                    result.routine.toString(),
+                    result.position.toString(),
+                    FauxbotBatchRunner.describe(result.pidOverride),
+                    result.loops,
+                    result.simulatedTime,
+                    result.error == null ? "ok" : result.error));
+
+            if (result.error != null)
+            {
+                failures++;
+            }
+        }
+
+        System.out.println(
+            String.format(
+                "Ran %1$d simulations (%2$d failed) on %3$d threads, simulating %4$.1fs in %5$.3fs",
+                results.size(),
+                failures,
+                threadCount,
+                simulatedTime,
+                wallTime));
+
+        if (!reportFilePath.isEmpty())
+        {
+            FauxbotBatchRunner.writeReport(reportFilePath, results);
+            System.out.println("Wrote report to " + reportFilePath);
+        }
+    }
+
+    /**
+     * The result of one simulation within a batch
+     */
+    public static class BatchResult
+    {
+        public final AutoRoutine routine;
+        public final StartPosition position;
+        public final FauxbotPIDOverride pidOverride;
+        public final long loops;
+        public final double simulatedTime;
+        public final double wallTime;
+        public final Map<LoggingKey, String> finalValues;
+        public final String error;
+
+        BatchResult(
+            AutoRoutine routine,
+            StartPosition position,
+            FauxbotPIDOverride pidOverride,
+            long loops,
+            double simulatedTime,
+            double wallTime,
+            Map<LoggingKey, String> finalValues,
+            String error)
+        {
+            this.routine = routine;
+            this.position = position;
+            this.pidOverride = pidOverride;
+            this.loops = loops;
+            this.simulatedTime = simulatedTime;
+            this.wallTime = wallTime;
+            this.finalValues = finalValues;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package frc.robot;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.google.inject.Injector;
+
+import frc.robot.common.robotprovider.*;
+
+/**
+ * Runs the robot simulation without the UI, stepping the robot on a virtual clock instead of sleeping between loops.
+ *
+ * Each loop runs the periodic function for the current mode, updates the simulator, and then advances the virtual clock by the loop period.
+ * Because the timer only depends on the number of loops that have run, simulations are deterministic.  By default the loops run as quickly as
+ * the computer allows, but they can be paced to a multiple of real time (e.g. 1.0 to watch a simulation at the normal speed).
+ */
+public class FauxbotHeadlessRunner
+{
+    public static final double DEFAULT_LOOP_PERIOD = 0.02; // in seconds, matching the roboRIO and FauxbotRunner
+
+    private final CoreRobot<? extends FauxbotModule> robot;
+    private final IRealWorldSimulator simulator;
+    private final FauxbotVirtualClock clock;
+    private final double loopPeriod;
+    private final double realTimeMultiple;
+
+    private long loops;
+
+    /**
+     * Initializes a new FauxbotHeadlessRunner
+     * @param robot to run, which must be configured with a FauxbotVirtualTimer (e.g. using HeadlessRobotFauxbotModule)
+     * @param loopPeriod the amount of virtual time between loops, in seconds
+     * @param realTimeMultiple how many times faster than real time to run the loops, or 0.0 to run them as quickly as possible
+     */
+    public FauxbotHeadlessRunner(CoreRobot<? extends FauxbotModule> robot, double loopPeriod, double realTimeMultiple)
+    {
+        Injector injector = robot.getInjector();
+        ITimer timer = injector.getInstance(ITimer.class);
+        if (!(timer instanceof FauxbotVirtualTimer))
+        {
+            throw new RuntimeException("Expected robot to use a FauxbotVirtualTimer, but found " + timer.getClass().getName());
+        }
+
+        this.robot = robot;
+        this.simulator = injector.getInstance(IRealWorldSimulator.class);
+        this.clock = ((FauxbotVirtualTimer)timer).getClock();
+        this.loopPeriod = loopPeriod;
+        this.realTimeMultiple = realTimeMultiple;
+        this.loops = 0;
+    }
+
+    /**
+     * Initialize the robot (must be called once before run)
+     */
+    public void robotInit()
+    {
+        this.robot.robotInit();
+    }
+
+    /**
+     * Run the robot in the provided mode for the provided amount of virtual time, and then disable it
+     * @param mode to run in (Autonomous or Teleop)
+     * @param duration the amount of virtual time to run for, in seconds
+     */
+    public void run(RobotMode mode, double duration)
+    {
+        switch (mode)
+        {
+            case Autonomous:
+                this.robot.autonomousInit();
+                break;
+
+            case Teleop:
+                this.robot.teleopInit();
+                break;
+
+            case Disabled:
+                break;
+        }
+
+        long loopCount = Math.round(duration / this.loopPeriod);
+        long startWallTime = System.nanoTime();
+        for (long i = 1; i <= loopCount; i++)
+        {
+            switch (mode)
+            {
+                case Autonomous:
+                    this.robot.autonomousPeriodic();
+                    break;
+
+                case Teleop:
+                    this.robot.teleopPeriodic();
+                    break;
+
+                case Disabled:
+                    this.robot.disabledPeriodic();
+                    break;
+            }
+
+            this.simulator.update();
+            this.clock.advance(this.loopPeriod);
+            this.loops++;
+
+            if (this.realTimeMultiple > 0.0)
+            {
+                // wait until the real time catches up with the (scaled) virtual time
+                long targetWallTime = startWallTime + (long)(i * this.loopPeriod / this.realTimeMultiple * 1000000000.0);
+                long remaining = targetWallTime - System.nanoTime();
+                if (remaining > 0)
+                {
+                    LockSupport.parkNanos(remaining);
+                }
+            }
+        }
+
+        this.robot.disabledInit();
+    }
+
+    /**
+     * Gets the number of loops that have been run
+     * @return the number of loops
+     */
+    public long getLoops()
+    {
+        return this.loops;
+    }
+
+    /**
+     * Gets the amount of virtual time that has passed
+     * @return the virtual time, in seconds
+     */
+    public double getSimulatedTime()
+    {
+        return this.clock.getCurrentTime();
+    }
+
+    /**
+     * Run a headless simulation of the robot
+     * @param args the mode (Autonomous or Teleop), the duration in seconds, and optionally the multiple of real time to run at (0 for as fast as possible)
+     */
+    public static void main(String[] args)
+    {
+        if (args.length < 2)
+        {
+            System.out.println("usage: FauxbotHeadlessRunner <Autonomous|Teleop> <duration> [realTimeMultiple]");
+            return;
+        }
+
+        RobotMode mode = RobotMode.valueOf(args[0]);
+        double duration = Double.parseDouble(args[1]);
+        double realTimeMultiple = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+
+        CoreRobot<FauxbotModule> robot = new CoreRobot<FauxbotModule>(new HeadlessRobotFauxbotModule());
+        FauxbotHeadlessRunner runner = new FauxbotHeadlessRunner(robot, FauxbotHeadlessRunner.DEFAULT_LOOP_PERIOD, realTimeMultiple);
+
+        runner.robotInit();
+
+        long startWallTime = System.nanoTime();
+        runner.run(mode, duration);
+        double wallTime = (System.nanoTime() - startWallTime) / 1000000000.0;
+
+        System.out.println(
+            String.format(
+                "Simulated %1$d loops (%2$.2fs) of %3$s in %4$.3fs (%5$.1fx real time)",
+                runner.getLoops(),
+                runner.getSimulatedTime(),
+                mode.toString(),
+                wallTime,
+                runner.getSimulatedTime() / wallTime));
+    }
+}
@@ -17,12 +17,30 @@ public abstract class FauxbotModule extends AbstractModule
     protected void configure()
     {
         this.bind(IRobotProvider.class).to(FauxbotProvider.class);
-        this.bind(ITimer.class).to(FauxbotTimer.class);
+        this.bind(ITimer.class).to(this.getTimerClass());
         this.bind(IButtonMap.class).to(ButtonMap.class);
-        this.bind(ISmartDashboardLogger.class).to(FauxbotSmartDashboardLogger.class);
+        this.bind(ISmartDashboardLogger.class).to(this.getSmartDashboardLoggerClass());
         this.bind(IFile.class).to(FauxbotFile.class);
     }
 
+    /**
+     * Gets the timer to use for the robot (by default, one based on the real time)
+     * @return the class of the timer to bind to ITimer
+     */
+    protected Class<? extends ITimer> getTimerClass()
+    {
+        return FauxbotTimer.class;
+    }
+
+    /**
+     * Gets the smart dashboard logger to use for the robot (by default, one that discards everything)
+     * @return the class of the logger to bind to ISmartDashboardLogger
+     */
+    protected Class<? extends ISmartDashboardLogger> getSmartDashboardLoggerClass()
+    {
+        return FauxbotSmartDashboardLogger.class;
+    }
+
     @Singleton
     @Provides
     public MechanismManager getMechanismManager(Injector injector)
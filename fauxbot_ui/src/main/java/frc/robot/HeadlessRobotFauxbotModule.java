@@ -0,0 +1,48 @@
+package frc.robot;
+
+import frc.robot.common.robotprovider.*;
+
+/**
+ * Module for running the robot simulation without the UI, on a virtual clock (see FauxbotHeadlessRunner)
+ */
+public class HeadlessRobotFauxbotModule extends RobotFauxbotModule
+{
+    private final FauxbotPIDOverride pidOverride;
+
+    public HeadlessRobotFauxbotModule()
+    {
+        this(null);
+    }
+
+    /**
+     * Initializes a new HeadlessRobotFauxbotModule
+     * @param pidOverride the PID gains for the simulated motor controllers to use instead of the configured ones, or null to use the configured ones
+     */
+    public HeadlessRobotFauxbotModule(FauxbotPIDOverride pidOverride)
+    {
+        this.pidOverride = pidOverride;
+    }
+
+    @Override
+    protected void configure()
+    {
+        super.configure();
+
+        if (this.pidOverride != null)
+        {
+            this.bind(FauxbotPIDOverride.class).toInstance(this.pidOverride);
+        }
+    }
+
+    @Override
+    protected Class<? extends ITimer> getTimerClass()
+    {
+        return FauxbotVirtualTimer.class;
+    }
+
+    @Override
+    protected Class<? extends ISmartDashboardLogger> getSmartDashboardLoggerClass()
+    {
+        return FauxbotRecordingLogger.class;
+    }
+}
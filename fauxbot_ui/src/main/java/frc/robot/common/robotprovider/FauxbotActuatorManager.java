@@ -2,28 +2,47 @@ package frc.robot.common.robotprovider;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps track of the simulated actuators for one robot (one per injector, so that multiple robots can be simulated at once)
+ */
+@Singleton
 public class FauxbotActuatorManager
 {
-    public static final Map<FauxbotActuatorConnection, FauxbotActuatorBase> actuatorMap = new HashMap<>();
+    private final Map<FauxbotActuatorConnection, FauxbotActuatorBase> actuatorMap;
+
+    @Inject
+    public FauxbotActuatorManager()
+    {
+        this.actuatorMap = new HashMap<>();
+    }
 
-    public static void set(FauxbotActuatorConnection connection, FauxbotActuatorBase actuator)
+    public void set(FauxbotActuatorConnection connection, FauxbotActuatorBase actuator)
     {
-        if (FauxbotActuatorManager.actuatorMap.containsKey(connection))
+        if (this.actuatorMap.containsKey(connection))
         {
             throw new RuntimeException("Don't expect connection " + connection.toString() + " to be specified multiple times!");
         }
 
-        FauxbotActuatorManager.actuatorMap.put(connection, actuator);
+        this.actuatorMap.put(connection, actuator);
     }
 
-    public static FauxbotActuatorBase get(FauxbotActuatorConnection connection)
+    public FauxbotActuatorBase get(FauxbotActuatorConnection connection)
     {
-        if (!FauxbotActuatorManager.actuatorMap.containsKey(connection))
+        if (!this.actuatorMap.containsKey(connection))
         {
             return null;
         }
 
-        return FauxbotActuatorManager.actuatorMap.get(connection);
+        return this.actuatorMap.get(connection);
+    }
+
+    public Set<FauxbotActuatorConnection> getConnections()
+    {
+        return this.actuatorMap.keySet();
     }
 }
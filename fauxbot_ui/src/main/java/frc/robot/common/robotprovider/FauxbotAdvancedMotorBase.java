@@ -4,9 +4,9 @@ public abstract class FauxbotAdvancedMotorBase extends FauxbotMotorBase
 {
     protected FauxbotActuatorConnection connection;
 
-    protected FauxbotAdvancedMotorBase(int deviceNumber)
+    protected FauxbotAdvancedMotorBase(int deviceNumber, FauxbotActuatorManager actuatorManager)
     {
         this.connection = new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, deviceNumber);
-        FauxbotActuatorManager.set(this.connection, this);
+        actuatorManager.set(this.connection, this);
     }
 }
@@ -7,11 +7,11 @@ public class FauxbotAnalogInput extends FauxbotSensorBase implements IAnalogInpu
 {
     private final DoubleProperty valueProperty;
 
-    public FauxbotAnalogInput(int port)
+    public FauxbotAnalogInput(int port, FauxbotSensorManager sensorManager)
     {
         this.valueProperty = new SimpleDoubleProperty(0.0);
 
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.AnalogInput, port), this);
+        sensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.AnalogInput, port), this);
     }
 
     /**
@@ -7,10 +7,10 @@ public class FauxbotCounter extends FauxbotSensorBase implements ICounter
 {
     private final IntegerProperty countProperty;
 
-    public FauxbotCounter(int port)
+    public FauxbotCounter(int port, FauxbotSensorManager sensorManager)
     {
         this.countProperty = new SimpleIntegerProperty();
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, port), this);
+        sensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, port), this);
     }
 
     public int get()
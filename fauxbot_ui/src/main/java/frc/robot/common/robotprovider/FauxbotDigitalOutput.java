@@ -7,10 +7,10 @@ public class FauxbotDigitalOutput extends FauxbotSensorBase implements IDigitalO
 {
     private final BooleanProperty isSetProperty;
 
-    public FauxbotDigitalOutput(int port)
+    public FauxbotDigitalOutput(int port, FauxbotSensorManager sensorManager)
     {
         this.isSetProperty = new SimpleBooleanProperty();
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, port), this);
+        sensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, port), this);
     }
 
     /**
@@ -7,15 +7,15 @@ public class FauxbotDoubleSolenoid extends FauxbotActuatorBase implements IDoubl
 {
     private DoubleProperty currentValueProperty;
 
-    public FauxbotDoubleSolenoid(int forwardPort, int reversePort)
+    public FauxbotDoubleSolenoid(int forwardPort, int reversePort, FauxbotActuatorManager actuatorManager)
     {
-        this(0, forwardPort, reversePort);
+        this(0, forwardPort, reversePort, actuatorManager);
     }
 
-    public FauxbotDoubleSolenoid(int moduleNumber, int forwardPort, int reversePort)
+    public FauxbotDoubleSolenoid(int moduleNumber, int forwardPort, int reversePort, FauxbotActuatorManager actuatorManager)
     {
-        FauxbotActuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber, true), forwardPort), this);
-        FauxbotActuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber, false), reversePort), null);
+        actuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber, true), forwardPort), this);
+        actuatorManager.set(new FauxbotActuatorConnection(this.getModule(moduleNumber, false), reversePort), null);
 
         this.currentValueProperty = new SimpleDoubleProperty();
         this.currentValueProperty.set(0.0);
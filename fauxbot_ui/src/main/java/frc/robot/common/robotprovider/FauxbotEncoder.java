@@ -7,33 +7,33 @@ public class FauxbotEncoder extends FauxbotSensorBase implements IEncoder
 {
     private final DoubleProperty valueProperty;
     private final DoubleProperty rateProperty;
-    private final FauxbotTimer timer;
+    private final ITimer timer;
     private double distancePerPulse;
     private double prevTime;
 
-    public FauxbotEncoder(int channelA, int channelB)
+    public FauxbotEncoder(int channelA, int channelB, FauxbotSensorManager sensorManager, ITimer timer)
     {
         this.valueProperty = new SimpleDoubleProperty(0.0);
         this.rateProperty = new SimpleDoubleProperty(0.0);
-        this.timer = new FauxbotTimer();
+        this.timer = timer;
         this.timer.start();
         this.distancePerPulse = 1.0;
         this.prevTime = this.timer.get();
 
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, channelA), this);
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, channelB), null);
+        sensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, channelA), this);
+        sensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.DigitalInput, channelB), null);
     }
 
-    FauxbotEncoder(FauxbotSensorConnection connection)
+    FauxbotEncoder(FauxbotSensorConnection connection, FauxbotSensorManager sensorManager, ITimer timer)
     {
         this.valueProperty = new SimpleDoubleProperty(0.0);
         this.rateProperty = new SimpleDoubleProperty(0.0);
-        this.timer = new FauxbotTimer();
+        this.timer = timer;
         this.timer.start();
         this.distancePerPulse = 1.0;
         this.prevTime = this.timer.get();
 
-        FauxbotSensorManager.set(connection, this);
+        sensorManager.set(connection, this);
     }
 
     public double getRate()
@@ -1,6 +1,7 @@
 package frc.robot.common.robotprovider;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 
 import com.google.inject.Inject;
 
@@ -33,4 +34,9 @@ public class FauxbotFile implements IFile
     {
         return new FauxbotFileWriter();
     }
+
+    public FileChannel openChannel() throws IOException
+    {
+        throw new IOException("FauxbotFile does not support binary files");
+    }
 }
@@ -3,32 +3,46 @@ package frc.robot.common.robotprovider;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps track of the simulated joysticks for one robot (one per injector, so that multiple robots can be simulated at once)
+ */
+@Singleton
 public class FauxbotJoystickManager
 {
-    private static Map<Integer, FauxbotJoystick> joystickMap = new HashMap<Integer, FauxbotJoystick>();
-    private static int highestPort = 0;
+    private final Map<Integer, FauxbotJoystick> joystickMap;
+    private int highestPort;
+
+    @Inject
+    public FauxbotJoystickManager()
+    {
+        this.joystickMap = new HashMap<Integer, FauxbotJoystick>();
+        this.highestPort = 0;
+    }
 
-    public static void set(int port, FauxbotJoystick sensor)
+    public void set(int port, FauxbotJoystick sensor)
     {
-        FauxbotJoystickManager.joystickMap.put(port, sensor);
-        if (FauxbotJoystickManager.highestPort < port)
+        this.joystickMap.put(port, sensor);
+        if (this.highestPort < port)
         {
-            FauxbotJoystickManager.highestPort = port;
+            this.highestPort = port;
         }
     }
 
-    public static FauxbotJoystick get(int port)
+    public FauxbotJoystick get(int port)
     {
-        if (!FauxbotJoystickManager.joystickMap.containsKey(port))
+        if (!this.joystickMap.containsKey(port))
         {
             return null;
         }
 
-        return FauxbotJoystickManager.joystickMap.get(port);
+        return this.joystickMap.get(port);
     }
 
-    public static int getHightestPort()
+    public int getHightestPort()
     {
-        return FauxbotJoystickManager.highestPort;
+        return this.highestPort;
     }
 }
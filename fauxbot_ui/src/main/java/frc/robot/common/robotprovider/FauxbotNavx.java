@@ -7,10 +7,10 @@ public class FauxbotNavx extends FauxbotSensorBase implements INavx
 {
     private final DoubleProperty angleProperty;
 
-    public FauxbotNavx()
+    public FauxbotNavx(FauxbotSensorManager sensorManager)
     {
         this.angleProperty = new SimpleDoubleProperty();
-        FauxbotSensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.NavX, 0), this);
+        sensorManager.set(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.NavX, 0), this);
     }
 
     public boolean isConnected()
@@ -0,0 +1,40 @@
+package frc.robot.common.robotprovider;
+
+/**
+ * A smart dashboard entry in the simulator, where nothing ever writes to the smart dashboard (so it always gives the default value)
+ */
+public class FauxbotNetworkTableEntry implements INetworkTableEntry
+{
+    public FauxbotNetworkTableEntry()
+    {
+    }
+
+    @Override
+    public double getDouble(double defaultValue)
+    {
+        return defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(boolean defaultValue)
+    {
+        return defaultValue;
+    }
+
+    @Override
+    public String getString(String defaultValue)
+    {
+        return defaultValue;
+    }
+
+    @Override
+    public double[] getDoubleArray(double[] defaultValue)
+    {
+        return defaultValue;
+    }
+
+    @Override
+    public void addListener(INetworkTableListener listener)
+    {
+    }
+}
@@ -1,7 +1,22 @@
 package frc.robot.common.robotprovider;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
 public class FauxbotNetworkTableProvider implements INetworkTableProvider
 {
+    private final Map<String, ISendableChooser<?>> choosers;
+
+    @Inject
+    public FauxbotNetworkTableProvider()
+    {
+        this.choosers = new HashMap<String, ISendableChooser<?>>();
+    }
+
     @Override
     public INetworkTableEntry getNumberSlider(String title, double initialValue)
     {
@@ -14,6 +29,18 @@ public class FauxbotNetworkTableProvider implements INetworkTableProvider
     @Override
     public <V> void addChooser(String name, ISendableChooser<V> chooser)
     {
+        this.choosers.put(name, chooser);
+    }
+
+    /**
+     * Gets a sendable chooser that was added to the smart dashboard
+     * @param name of the chooser
+     * @return the chooser, or null if there is no chooser with that name
+     */
+    @SuppressWarnings("unchecked")
+    public <V> FauxbotSendableChooser<V> getChooser(String name)
+    {
+        return (FauxbotSendableChooser<V>)this.choosers.get(name);
     }
 
     @Override
@@ -22,6 +49,12 @@ public class FauxbotNetworkTableProvider implements INetworkTableProvider
         return new FauxbotSendableChooser<V>();
     }
 
+    @Override
+    public INetworkTableEntry getSmartDashboardEntry(String key)
+    {
+        return new FauxbotNetworkTableEntry();
+    }
+
     @Override
     public double getSmartDashboardNumber(String key)
     {
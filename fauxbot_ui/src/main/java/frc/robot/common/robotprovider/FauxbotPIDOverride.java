@@ -0,0 +1,77 @@
+package frc.robot.common.robotprovider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Overrides the PID gains used by the simulated motor controllers (e.g. to sweep over gains in a batch simulation).
+ * By default nothing is overridden, and the motor controllers use the gains that the mechanisms configure.
+ */
+@Singleton
+public class FauxbotPIDOverride
+{
+    private final boolean isOverridden;
+    private final double kp;
+    private final double ki;
+    private final double kd;
+    private final double kf;
+
+    @Inject
+    public FauxbotPIDOverride()
+    {
+        this.isOverridden = false;
+        this.kp = 0.0;
+        this.ki = 0.0;
+        this.kd = 0.0;
+        this.kf = 0.0;
+    }
+
+    public FauxbotPIDOverride(double kp, double ki, double kd, double kf)
+    {
+        this.isOverridden = true;
+        this.kp = kp;
+        this.ki = ki;
+        this.kd = kd;
+        this.kf = kf;
+    }
+
+    /**
+     * Gets whether the gains are overridden (in which case the motor controllers should always simulate their PID)
+     * @return true if the gains are overridden
+     */
+    public boolean isOverridden()
+    {
+        return this.isOverridden;
+    }
+
+    public double getKp()
+    {
+        return this.kp;
+    }
+
+    public double getKi()
+    {
+        return this.ki;
+    }
+
+    public double getKd()
+    {
+        return this.kd;
+    }
+
+    public double getKf()
+    {
+        return this.kf;
+    }
+
+    @Override
+    public String toString()
+    {
+        if (!this.isOverridden)
+        {
+            return "configured";
+        }
+
+        return this.kp + "/" + this.ki + "/" + this.kd + "/" + this.kf;
+    }
+}
@@ -9,60 +9,81 @@ import frc.robot.IRealWorldSimulator;
 public class FauxbotProvider implements IRobotProvider
 {
     private final IRealWorldSimulator simulator;
+    private final ITimer timer;
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotActuatorManager actuatorManager;
+    private final FauxbotJoystickManager joystickManager;
+    private final FauxbotPIDOverride pidOverride;
+    private final FauxbotNetworkTableProvider networkTableProvider;
+    private final OpenCVProvider openCVProvider;
 
     @Inject
-    public FauxbotProvider(IRealWorldSimulator simulator)
+    public FauxbotProvider(
+        IRealWorldSimulator simulator,
+        ITimer timer,
+        FauxbotSensorManager sensorManager,
+        FauxbotActuatorManager actuatorManager,
+        FauxbotJoystickManager joystickManager,
+        FauxbotPIDOverride pidOverride,
+        FauxbotNetworkTableProvider networkTableProvider)
     {
         nu.pattern.OpenCV.loadShared();
         this.simulator = simulator;
+        this.timer = timer;
+        this.sensorManager = sensorManager;
+        this.actuatorManager = actuatorManager;
+        this.joystickManager = joystickManager;
+        this.pidOverride = pidOverride;
+        this.networkTableProvider = networkTableProvider;
+        this.openCVProvider = new OpenCVProvider();
     }
 
     @Override
     public IAnalogInput getAnalogInput(int channel)
     {
-        return new FauxbotAnalogInput(channel);
+        return new FauxbotAnalogInput(channel, this.sensorManager);
     }
 
     @Override
     public IDigitalInput getDigitalInput(int channel)
     {
-        return new FauxbotDigitalInput(channel);
+        return new FauxbotDigitalInput(channel, this.sensorManager);
     }
 
     @Override
     public IDigitalOutput getDigitalOutput(int channel)
     {
-        return new FauxbotDigitalOutput(channel);
+        return new FauxbotDigitalOutput(channel, this.sensorManager);
     }
 
     @Override
     public ICounter getCounter(int channel)
     {
-        return new FauxbotCounter(channel);
+        return new FauxbotCounter(channel, this.sensorManager);
     }
 
     @Override
     public ITalonSRX getTalonSRX(int deviceNumber)
     {
-        return new FauxbotTalonSRX(deviceNumber, this.simulator);
+        return new FauxbotTalonSRX(deviceNumber, this.simulator, this.sensorManager, this.actuatorManager, this.pidOverride, this::createTimer);
     }
 
     @Override
     public ITalonFX getTalonFX(int deviceNumber)
     {
-        return new FauxbotTalonFX(deviceNumber, this.simulator);
+        return new FauxbotTalonFX(deviceNumber, this.simulator, this.sensorManager, this.actuatorManager, this.pidOverride, this::createTimer);
     }
 
     @Override
     public IVictorSPX getVictorSPX(int deviceNumber)
     {
-        return new FauxbotVictorSPX(deviceNumber);
+        return new FauxbotVictorSPX(deviceNumber, this.actuatorManager);
     }
 
     @Override
     public ISparkMax getSparkMax(int deviceID, SparkMaxMotorType motorType)
     {
-        return new FauxbotSparkMax(deviceID, motorType);
+        return new FauxbotSparkMax(deviceID, motorType, this.sensorManager, this.actuatorManager, this.pidOverride, this::createTimer);
     }
 
     @Override
@@ -80,37 +101,37 @@ public class FauxbotProvider implements IRobotProvider
     @Override
     public IDoubleSolenoid getDoubleSolenoid(int forwardChannel, int reverseChannel)
     {
-        return new FauxbotDoubleSolenoid(forwardChannel, reverseChannel);
+        return new FauxbotDoubleSolenoid(forwardChannel, reverseChannel, this.actuatorManager);
     }
 
     @Override
     public IDoubleSolenoid getDoubleSolenoid(int module, int forwardChannel, int reverseChannel)
     {
-        return new FauxbotDoubleSolenoid(module, forwardChannel, reverseChannel);
+        return new FauxbotDoubleSolenoid(module, forwardChannel, reverseChannel, this.actuatorManager);
     }
 
     @Override
     public IEncoder getEncoder(int channelA, int channelB)
     {
-        return new FauxbotEncoder(channelA, channelB);
+        return new FauxbotEncoder(channelA, channelB, this.sensorManager, this.createTimer());
     }
 
     @Override
     public IJoystick getJoystick(int port)
     {
-        return new FauxbotJoystick(port);
+        return new FauxbotJoystick(port, this.joystickManager);
     }
 
     @Override
     public IMotor getTalon(int channel)
     {
-        return new FauxbotTalon(channel);
+        return new FauxbotTalon(channel, this.actuatorManager);
     }
 
     @Override
     public IMotor getVictor(int channel)
     {
-        return new FauxbotVictor(channel);
+        return new FauxbotVictor(channel, this.actuatorManager);
     }
 
     @Override
@@ -146,19 +167,19 @@ public class FauxbotProvider implements IRobotProvider
     @Override
     public ISolenoid getSolenoid(int channel)
     {
-        return new FauxbotSolenoid(channel);
+        return new FauxbotSolenoid(channel, this.actuatorManager);
     }
 
     @Override
     public ISolenoid getSolenoid(int module, int channel)
     {
-        return new FauxbotSolenoid(module, channel);
+        return new FauxbotSolenoid(module, channel, this.actuatorManager);
     }
 
     @Override
     public INavx getNavx()
     {
-        return new FauxbotNavx();
+        return new FauxbotNavx(this.sensorManager);
     }
 
     @Override
@@ -194,12 +215,26 @@ public class FauxbotProvider implements IRobotProvider
     @Override
     public IOpenCVProvider getOpenCVProvider()
     {
-        return new OpenCVProvider();
+        return this.openCVProvider;
     }
 
     @Override
     public INetworkTableProvider getNetworkTableProvider()
     {
-        return new FauxbotNetworkTableProvider();
+        return this.networkTableProvider;
+    }
+
+    /**
+     * Create a new timer for a simulated device (based on the virtual clock when the robot uses a virtual timer)
+     * @return a new timer
+     */
+    private ITimer createTimer()
+    {
+        if (this.timer instanceof FauxbotVirtualTimer)
+        {
+            return new FauxbotVirtualTimer(((FauxbotVirtualTimer)this.timer).getClock());
+        }
+
+        return new FauxbotTimer();
     }
 }
@@ -0,0 +1,40 @@
+package frc.robot.common.robotprovider;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import frc.robot.LoggingKey;
+
+/**
+ * Smart dashboard logger for headless simulations that remembers the most recent value logged for each key,
+ * so that the final state of a simulated robot can be reported once it has finished running.
+ */
+@Singleton
+public class FauxbotRecordingLogger extends StringLogger implements ISmartDashboardLogger
+{
+    private final Map<LoggingKey, String> latestValues;
+
+    @Inject
+    public FauxbotRecordingLogger()
+    {
+        this.latestValues = new EnumMap<LoggingKey, String>(LoggingKey.class);
+    }
+
+    @Override
+    public void logString(LoggingKey key, String value)
+    {
+        this.latestValues.put(key, value);
+    }
+
+    /**
+     * Gets the most recent values that were logged
+     * @return map of logging key to the most recent value logged for it
+     */
+    public Map<LoggingKey, String> getLatestValues()
+    {
+        return this.latestValues;
+    }
+}
@@ -2,6 +2,9 @@ package frc.robot.common.robotprovider;
 
 public class FauxbotSendableChooser<V> implements ISendableChooser<V>
 {
+    private V defaultObject;
+    private V selectedObject;
+
     public FauxbotSendableChooser()
     {
     }
@@ -9,6 +12,7 @@ public class FauxbotSendableChooser<V> implements ISendableChooser<V>
     @Override
     public void addDefault(String name, V object)
     {
+        this.defaultObject = object;
     }
 
     @Override
@@ -19,6 +23,20 @@ public class FauxbotSendableChooser<V> implements ISendableChooser<V>
     @Override
     public V getSelected()
     {
-        return (V)null;
+        if (this.selectedObject != null)
+        {
+            return this.selectedObject;
+        }
+
+        return this.defaultObject;
+    }
+
+    /**
+     * Select an option, as if it was picked on the smart dashboard
+     * @param object to select
+     */
+    public void setSelected(V object)
+    {
+        this.selectedObject = object;
     }
 }
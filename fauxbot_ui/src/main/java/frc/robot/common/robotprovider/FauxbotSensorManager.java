@@ -2,28 +2,47 @@ package frc.robot.common.robotprovider;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps track of the simulated sensors for one robot (one per injector, so that multiple robots can be simulated at once)
+ */
+@Singleton
 public class FauxbotSensorManager
 {
-    public static final Map<FauxbotSensorConnection, FauxbotSensorBase> sensorMap = new HashMap<>();
+    private final Map<FauxbotSensorConnection, FauxbotSensorBase> sensorMap;
+
+    @Inject
+    public FauxbotSensorManager()
+    {
+        this.sensorMap = new HashMap<>();
+    }
 
-    public static void set(FauxbotSensorConnection connection, FauxbotSensorBase sensor)
+    public void set(FauxbotSensorConnection connection, FauxbotSensorBase sensor)
     {
-        if (FauxbotSensorManager.sensorMap.containsKey(connection))
+        if (this.sensorMap.containsKey(connection))
         {
             throw new RuntimeException("Don't expect port " + connection.toString() + " to be specified multiple times!");
         }
 
-        FauxbotSensorManager.sensorMap.put(connection, sensor);
+        this.sensorMap.put(connection, sensor);
     }
 
-    public static FauxbotSensorBase get(FauxbotSensorConnection connection)
+    public FauxbotSensorBase get(FauxbotSensorConnection connection)
     {
-        if (!FauxbotSensorManager.sensorMap.containsKey(connection))
+        if (!this.sensorMap.containsKey(connection))
         {
             return null;
         }
 
-        return FauxbotSensorManager.sensorMap.get(connection);
+        return this.sensorMap.get(connection);
+    }
+
+    public Set<FauxbotSensorConnection> getConnections()
+    {
+        return this.sensorMap.keySet();
     }
 }
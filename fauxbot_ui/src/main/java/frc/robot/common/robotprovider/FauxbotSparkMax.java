@@ -1,9 +1,14 @@
 package frc.robot.common.robotprovider;
 
+import java.util.function.Supplier;
+
 import frc.robot.common.PIDHandler;
 
 public class FauxbotSparkMax extends FauxbotAdvancedMotorBase implements ISparkMax
 {
+    private final FauxbotPIDOverride pidOverride;
+    private final Supplier<ITimer> timerSupplier;
+
     private FauxbotEncoder innerEncoder;
     private PIDHandler pidHandler;
 
@@ -13,12 +18,20 @@ public class FauxbotSparkMax extends FauxbotAdvancedMotorBase implements ISparkM
     private double kd;
     private double kf;
 
-    public FauxbotSparkMax(int deviceID, SparkMaxMotorType motorType)
+    public FauxbotSparkMax(
+        int deviceID,
+        SparkMaxMotorType motorType,
+        FauxbotSensorManager sensorManager,
+        FauxbotActuatorManager actuatorManager,
+        FauxbotPIDOverride pidOverride,
+        Supplier<ITimer> timerSupplier)
     {
-        super(deviceID);
+        super(deviceID, actuatorManager);
 
+        this.pidOverride = pidOverride;
+        this.timerSupplier = timerSupplier;
         this.currentMode = SparkMaxControlMode.PercentOutput;
-        this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.connection.getPort()));
+        this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.connection.getPort()), sensorManager, timerSupplier.get());
     }
 
     public void setControlMode(SparkMaxControlMode mode)
@@ -180,9 +193,16 @@ public class FauxbotSparkMax extends FauxbotAdvancedMotorBase implements ISparkM
         if (this.currentMode == SparkMaxControlMode.Position ||
             this.currentMode == SparkMaxControlMode.Velocity)
         {
-            ITimer timer = new FauxbotTimer();
+            ITimer timer = this.timerSupplier.get();
             timer.start();
-            this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
+            if (this.pidOverride.isOverridden())
+            {
+                this.pidHandler = new PIDHandler(this.pidOverride.getKp(), this.pidOverride.getKi(), this.pidOverride.getKd(), this.pidOverride.getKf(), 1.0, -4096.0, 4096.0, timer);
+            }
+            else
+            {
+                this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
+            }
         }
         else
         {
@@ -1,12 +1,20 @@
 package frc.robot.common.robotprovider;
 
+import java.util.function.Supplier;
+
 import frc.robot.IRealWorldSimulator;
 
 public class FauxbotTalonFX extends FauxbotTalonXBase implements ITalonFX
 {
-    public FauxbotTalonFX(int deviceNumber, IRealWorldSimulator simulator)
+    public FauxbotTalonFX(
+        int deviceNumber,
+        IRealWorldSimulator simulator,
+        FauxbotSensorManager sensorManager,
+        FauxbotActuatorManager actuatorManager,
+        FauxbotPIDOverride pidOverride,
+        Supplier<ITimer> timerSupplier)
     {
-        super(deviceNumber, simulator);
+        super(deviceNumber, simulator, sensorManager, actuatorManager, pidOverride, timerSupplier);
     }
 
     @Override
@@ -1,11 +1,19 @@
 package frc.robot.common.robotprovider;
 
+import java.util.function.Supplier;
+
 import frc.robot.IRealWorldSimulator;
 
 public class FauxbotTalonSRX extends FauxbotTalonXBase implements ITalonSRX
 {
-    public FauxbotTalonSRX(int deviceNumber, IRealWorldSimulator simulator)
+    public FauxbotTalonSRX(
+        int deviceNumber,
+        IRealWorldSimulator simulator,
+        FauxbotSensorManager sensorManager,
+        FauxbotActuatorManager actuatorManager,
+        FauxbotPIDOverride pidOverride,
+        Supplier<ITimer> timerSupplier)
     {
-        super(deviceNumber, simulator);
+        super(deviceNumber, simulator, sensorManager, actuatorManager, pidOverride, timerSupplier);
     }
 }
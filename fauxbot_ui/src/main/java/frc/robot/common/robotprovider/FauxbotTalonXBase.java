@@ -1,11 +1,17 @@
 package frc.robot.common.robotprovider;
 
+import java.util.function.Supplier;
+
 import frc.robot.IRealWorldSimulator;
 import frc.robot.common.PIDHandler;
 
 public abstract class FauxbotTalonXBase extends FauxbotAdvancedMotorBase implements ITalonSRX
 {
     private final IRealWorldSimulator simulator;
+    private final FauxbotSensorManager sensorManager;
+    private final FauxbotActuatorManager actuatorManager;
+    private final FauxbotPIDOverride pidOverride;
+    private final Supplier<ITimer> timerSupplier;
 
     private FauxbotEncoder innerEncoder;
     private PIDHandler pidHandler;
@@ -16,11 +22,21 @@ public abstract class FauxbotTalonXBase extends FauxbotAdvancedMotorBase impleme
     private double kd;
     private double kf;
 
-    FauxbotTalonXBase(int deviceNumber, IRealWorldSimulator simulator)
+    FauxbotTalonXBase(
+        int deviceNumber,
+        IRealWorldSimulator simulator,
+        FauxbotSensorManager sensorManager,
+        FauxbotActuatorManager actuatorManager,
+        FauxbotPIDOverride pidOverride,
+        Supplier<ITimer> timerSupplier)
     {
-        super(deviceNumber);
+        super(deviceNumber, actuatorManager);
 
         this.simulator = simulator;
+        this.sensorManager = sensorManager;
+        this.actuatorManager = actuatorManager;
+        this.pidOverride = pidOverride;
+        this.timerSupplier = timerSupplier;
         this.currentMode = TalonSRXControlMode.PercentOutput;
     }
 
@@ -47,7 +63,7 @@ public abstract class FauxbotTalonXBase extends FauxbotAdvancedMotorBase impleme
         if (feedbackDevice == TalonXFeedbackDevice.QuadEncoder ||
             feedbackDevice == TalonXFeedbackDevice.IntegratedSensor)
         {
-            this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.connection.getPort()));
+            this.innerEncoder = new FauxbotEncoder(new FauxbotSensorConnection(FauxbotSensorConnection.SensorConnector.CAN, this.connection.getPort()), this.sensorManager, this.timerSupplier.get());
         }
     }
 
@@ -98,7 +114,7 @@ public abstract class FauxbotTalonXBase extends FauxbotAdvancedMotorBase impleme
     {
         if (this.currentMode == TalonSRXControlMode.Follower)
         {
-            FauxbotActuatorBase actuator = FauxbotActuatorManager.get(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, (int)newValue));
+            FauxbotActuatorBase actuator = this.actuatorManager.get(new FauxbotActuatorConnection(FauxbotActuatorConnection.ActuatorConnector.CAN, (int)newValue));
             if (actuator != null && actuator instanceof FauxbotAdvancedMotorBase)
             {
                 FauxbotAdvancedMotorBase advancedMotor = (FauxbotAdvancedMotorBase)actuator;
@@ -182,12 +198,19 @@ public abstract class FauxbotTalonXBase extends FauxbotAdvancedMotorBase impleme
 
     private void resetPID()
     {
-        if (this.simulator.shouldSimulatePID() &&
+        if ((this.simulator.shouldSimulatePID() || this.pidOverride.isOverridden()) &&
             (this.currentMode == TalonSRXControlMode.Position || this.currentMode == TalonSRXControlMode.Velocity))
         {
-            ITimer timer = new FauxbotTimer();
+            ITimer timer = this.timerSupplier.get();
             timer.start();
-            this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
+            if (this.pidOverride.isOverridden())
+            {
+                this.pidHandler = new PIDHandler(this.pidOverride.getKp(), this.pidOverride.getKi(), this.pidOverride.getKd(), this.pidOverride.getKf(), 1.0, -4096.0, 4096.0, timer);
+            }
+            else
+            {
+                this.pidHandler = new PIDHandler(this.kp, this.ki, this.kd, this.kf, 1.0, -4096.0, 4096.0, timer);
+            }
         }
         else
         {
@@ -32,4 +32,24 @@ public class FauxbotUsbCamera implements IUsbCamera
     {
         return new Thread();
     }
+
+    public long grabFrame(IMat image, double timeout)
+    {
+        // there is no camera in the simulator, so behave as if no frame arrived in time
+        try
+        {
+            Thread.sleep((long)(timeout * 1000.0));
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        return 0L;
+    }
+
+    public long getCurrentTime()
+    {
+        return System.nanoTime() / 1000L;
+    }
 }
\ No newline at end of file
@@ -2,8 +2,8 @@ package frc.robot.common.robotprovider;
 
 public class FauxbotVictor extends FauxbotSimpleMotorBase
 {
-    public FauxbotVictor(int port)
+    public FauxbotVictor(int port, FauxbotActuatorManager actuatorManager)
     {
-        super(port);
+        super(port, actuatorManager);
     }
 }
@@ -2,9 +2,9 @@ package frc.robot.common.robotprovider;
 
 public class FauxbotVictorSPX extends FauxbotAdvancedMotorBase implements IVictorSPX
 {
-    public FauxbotVictorSPX(int deviceNumber)
+    public FauxbotVictorSPX(int deviceNumber, FauxbotActuatorManager actuatorManager)
     {
-        super(deviceNumber);
+        super(deviceNumber, actuatorManager);
     }
 
     public void follow(ITalonSRX talonSRX)
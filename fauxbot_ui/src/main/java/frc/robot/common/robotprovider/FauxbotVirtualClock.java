@@ -0,0 +1,38 @@
+package frc.robot.common.robotprovider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Virtual clock that only moves forward when it is advanced (by the FauxbotHeadlessRunner), shared by all of the
+ * FauxbotVirtualTimers for one simulated robot.
+ */
+@Singleton
+public class FauxbotVirtualClock
+{
+    private double currentTime;
+
+    @Inject
+    public FauxbotVirtualClock()
+    {
+        this.currentTime = 0.0;
+    }
+
+    /**
+     * Move the virtual clock forward
+     * @param seconds the amount of time that has passed
+     */
+    public void advance(double seconds)
+    {
+        this.currentTime += seconds;
+    }
+
+    /**
+     * Gets the current time of the virtual clock
+     * @return the number of seconds the virtual clock has been advanced in total
+     */
+    public double getCurrentTime()
+    {
+        return this.currentTime;
+    }
+}
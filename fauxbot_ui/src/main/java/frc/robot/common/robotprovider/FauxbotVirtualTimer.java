@@ -0,0 +1,63 @@
+package frc.robot.common.robotprovider;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Timer based on a virtual clock that only moves forward when it is advanced (by the FauxbotHeadlessRunner),
+ * so that simulations run deterministically regardless of how quickly the computer can run each loop.
+ */
+@Singleton
+public class FauxbotVirtualTimer implements ITimer
+{
+    private final FauxbotVirtualClock clock;
+
+    private boolean isRunning;
+    private double startTime;
+    private double accumulatedTime;
+
+    @Inject
+    public FauxbotVirtualTimer(FauxbotVirtualClock clock)
+    {
+        this.clock = clock;
+        this.accumulatedTime = 0.0;
+        this.isRunning = false;
+    }
+
+    /**
+     * Gets the virtual clock that this timer is based on
+     * @return the virtual clock
+     */
+    public FauxbotVirtualClock getClock()
+    {
+        return this.clock;
+    }
+
+    public void start()
+    {
+        this.isRunning = true;
+        this.startTime = this.clock.getCurrentTime();
+    }
+
+    public double get()
+    {
+        if (!this.isRunning)
+        {
+            return this.accumulatedTime;
+        }
+
+        return this.accumulatedTime + (this.clock.getCurrentTime() - this.startTime);
+    }
+
+    public void stop()
+    {
+        this.accumulatedTime = this.get();
+        this.isRunning = false;
+    }
+
+    public void reset()
+    {
+        this.accumulatedTime = 0.0;
+        this.startTime = this.clock.getCurrentTime();
+    }
+}
@@ -2,6 +2,12 @@ package frc.robot;
 
 import edu.wpi.first.wpilibj.TimedRobot;
 
+import frc.robot.common.LoggingManager;
+import frc.robot.common.robotprovider.SensorCache;
+import frc.robot.common.robotprovider.WriteFilter;
+
+import com.google.inject.Injector;
+
 /**
  * Robot wraps CoreRobot to allow for the basic autonomous/teleop and switching logic to be shared between
  * Robot and Fauxbot (and whatever may come after).
@@ -14,6 +20,10 @@ public class Robot extends TimedRobot
 {
     private final CoreRobot<RobotModule> robot;
 
+    private SensorCache sensorCache;
+    private WriteFilter writeFilter;
+    private LoggingManager logger;
+
     public Robot()
     {
         this.robot = new CoreRobot<RobotModule>(new RobotModule());
@@ -27,6 +37,25 @@ public class Robot extends TimedRobot
     public void robotInit()
     {
         this.robot.robotInit();
+
+        Injector injector = this.robot.getInjector();
+        this.sensorCache = injector.getInstance(SensorCache.class);
+        this.writeFilter = injector.getInstance(WriteFilter.class);
+        this.logger = injector.getInstance(LoggingManager.class);
+    }
+
+    /**
+     * Periodic code for all modes should go here.
+     * This code will be called after the periodic code for the current mode, each time through the loop.
+     */
+    public void robotPeriodic()
+    {
+        // report how many sensor values were read from the devices and how many identical writes were skipped during this loop
+        // (published with the next logger update), and start the next loop with fresh reads
+        this.sensorCache.endLoop();
+        this.writeFilter.endLoop();
+        this.logger.logInteger(LoggingKey.RobotSensorReads, this.sensorCache.getPreviousReadCount());
+        this.logger.logInteger(LoggingKey.RobotSuppressedWrites, this.writeFilter.getPreviousSuppressedCount());
     }
 
     /**
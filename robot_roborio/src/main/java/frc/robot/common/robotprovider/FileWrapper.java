@@ -2,6 +2,8 @@ package frc.robot.common.robotprovider;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import com.google.inject.Inject;
 
@@ -38,4 +40,9 @@ public class FileWrapper implements IFile
     {
         return new FileWriterWrapper(this.wrappedObject.getAbsolutePath());
     }
+
+    public FileChannel openChannel() throws IOException
+    {
+        return FileChannel.open(this.wrappedObject.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
 }
@@ -4,13 +4,23 @@ import org.opencv.core.*;
 
 public class MatWrapper implements IMat
 {
-    final Mat wrappedObject;
+    Mat wrappedObject;
+    boolean isPooled;
 
     public MatWrapper(Mat wrappedObject)
     {
         this.wrappedObject = wrappedObject;
     }
 
+    /**
+     * Point this wrapper at a different Mat, so that one wrapper can be reused for each frame instead of allocating a new one
+     * @param wrappedObject the Mat to wrap
+     */
+    void setWrappedObject(Mat wrappedObject)
+    {
+        this.wrappedObject = wrappedObject;
+    }
+
     @Override
     public IMat adjustROI(int dtop, int dbottom, int dleft, int dright)
     {
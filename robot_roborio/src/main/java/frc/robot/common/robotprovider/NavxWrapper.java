@@ -7,44 +7,133 @@ import edu.wpi.first.wpilibj.I2C.Port;
 public class NavxWrapper implements INavx
 {
     private final AHRS wrappedObject;
+    private final SensorCache sensorCache;
 
-    public NavxWrapper()
+    // sensor values cached for the rest of the loop that they were read in (see SensorCache)
+    private boolean isConnected;
+    private int isConnectedLoop;
+    private double angle;
+    private int angleLoop;
+    private double displacementX;
+    private int displacementXLoop;
+    private double displacementY;
+    private int displacementYLoop;
+    private double displacementZ;
+    private int displacementZLoop;
+
+    public NavxWrapper(SensorCache sensorCache)
     {
         this.wrappedObject = new AHRS(Port.kOnboard);
+        this.sensorCache = sensorCache;
+
+        this.isConnectedLoop = SensorCache.NOT_CACHED;
+        this.angleLoop = SensorCache.NOT_CACHED;
+        this.displacementXLoop = SensorCache.NOT_CACHED;
+        this.displacementYLoop = SensorCache.NOT_CACHED;
+        this.displacementZLoop = SensorCache.NOT_CACHED;
     }
 
     public boolean isConnected()
     {
-        return this.wrappedObject.isConnected();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.isConnected();
+        }
+
+        if (loop != this.isConnectedLoop)
+        {
+            this.isConnected = this.wrappedObject.isConnected();
+            this.isConnectedLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.isConnected;
     }
 
     public double getAngle()
     {
-        return this.wrappedObject.getAngle();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getAngle();
+        }
+
+        if (loop != this.angleLoop)
+        {
+            this.angle = this.wrappedObject.getAngle();
+            this.angleLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.angle;
     }
 
     public double getDisplacementX()
     {
-        return this.wrappedObject.getDisplacementX();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getDisplacementX();
+        }
+
+        if (loop != this.displacementXLoop)
+        {
+            this.displacementX = this.wrappedObject.getDisplacementX();
+            this.displacementXLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.displacementX;
     }
 
     public double getDisplacementY()
     {
-        return this.wrappedObject.getDisplacementY();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getDisplacementY();
+        }
+
+        if (loop != this.displacementYLoop)
+        {
+            this.displacementY = this.wrappedObject.getDisplacementY();
+            this.displacementYLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.displacementY;
     }
 
     public double getDisplacementZ()
     {
-        return this.wrappedObject.getDisplacementZ();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getDisplacementZ();
+        }
+
+        if (loop != this.displacementZLoop)
+        {
+            this.displacementZ = this.wrappedObject.getDisplacementZ();
+            this.displacementZLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.displacementZ;
     }
 
     public void reset()
     {
         this.wrappedObject.reset();
+        this.angleLoop = SensorCache.NOT_CACHED;
     }
 
     public void resetDisplacement()
     {
         this.wrappedObject.resetDisplacement();
+        this.displacementXLoop = SensorCache.NOT_CACHED;
+        this.displacementYLoop = SensorCache.NOT_CACHED;
+        this.displacementZLoop = SensorCache.NOT_CACHED;
     }
-}
\ No newline at end of file
+}
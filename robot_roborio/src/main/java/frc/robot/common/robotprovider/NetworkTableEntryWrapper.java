@@ -1,5 +1,6 @@
 package frc.robot.common.robotprovider;
 
+import edu.wpi.first.networktables.EntryListenerFlags;
 import edu.wpi.first.networktables.NetworkTableEntry;
 
 public class NetworkTableEntryWrapper implements INetworkTableEntry
@@ -15,4 +16,26 @@ public class NetworkTableEntryWrapper implements INetworkTableEntry
     {
         return this.wrappedObject.getDouble(defaultValue);
     }
-}
\ No newline at end of file
+
+    public boolean getBoolean(boolean defaultValue)
+    {
+        return this.wrappedObject.getBoolean(defaultValue);
+    }
+
+    public String getString(String defaultValue)
+    {
+        return this.wrappedObject.getString(defaultValue);
+    }
+
+    public double[] getDoubleArray(double[] defaultValue)
+    {
+        return this.wrappedObject.getDoubleArray(defaultValue);
+    }
+
+    public void addListener(INetworkTableListener listener)
+    {
+        this.wrappedObject.addListener(
+            notification -> listener.valueChanged(this),
+            EntryListenerFlags.kNew | EntryListenerFlags.kUpdate);
+    }
+}
@@ -26,6 +26,17 @@ public class NetworkTableProvider implements INetworkTableProvider
         SmartDashboard.putData(name, wrappedChooser.wrappedObject);
     }
 
+    /**
+     * Gets a handle to a smart dashboard entry, to keep and read from every loop instead of looking up the key each time
+     * @param key of the entry
+     * @return the entry (whose getters return the default value while the entry doesn't exist or has a different type)
+     */
+    @Override
+    public INetworkTableEntry getSmartDashboardEntry(String key)
+    {
+        return new NetworkTableEntryWrapper(SmartDashboard.getEntry(key));
+    }
+
     @Override
     public double getSmartDashboardNumber(String key)
     {
@@ -1,57 +1,150 @@
 package frc.robot.common.robotprovider;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opencv.core.*;
 import org.opencv.imgcodecs.*;
 import org.opencv.imgproc.*;
 
+import frc.robot.TuningConstants;
+
+/**
+ * Provides OpenCV operations on top of the wrapper types.
+ *
+ * Keeps a pool of Mats that the vision pipeline can acquire and release each frame, so that the native buffers (and their wrappers)
+ * are reused from one frame to the next instead of being allocated and left for the garbage collector.  Every wrapper that the
+ * provider has to allocate is counted, so the allocations for each frame can be checked.
+ */
 public class OpenCVProvider implements IOpenCVProvider
 {
+    private final ArrayDeque<MatWrapper> matPool;
+    private final AtomicInteger allocationCount;
+    private final AtomicInteger reuseCount;
+
+    private volatile int frameAllocationStart;
+    private volatile int frameReuseStart;
+
     public OpenCVProvider()
     {
+        this.matPool = new ArrayDeque<MatWrapper>(TuningConstants.VISION_MAT_POOL_SIZE);
+        this.allocationCount = new AtomicInteger();
+        this.reuseCount = new AtomicInteger();
+    }
+
+    @Override
+    public IMat acquireMat()
+    {
+        MatWrapper mat;
+        synchronized (this.matPool)
+        {
+            mat = this.matPool.pollLast();
+            if (mat != null)
+            {
+                mat.isPooled = false;
+            }
+        }
+
+        if (mat == null)
+        {
+            this.allocationCount.incrementAndGet();
+            return new MatWrapper(new Mat());
+        }
+
+        this.reuseCount.incrementAndGet();
+        return mat;
+    }
+
+    @Override
+    public void releaseMat(IMat mat)
+    {
+        MatWrapper wrapper = (MatWrapper)mat;
+        synchronized (this.matPool)
+        {
+            if (wrapper.isPooled)
+            {
+                return;
+            }
+
+            if (this.matPool.size() < TuningConstants.VISION_MAT_POOL_SIZE)
+            {
+                wrapper.isPooled = true;
+                this.matPool.addLast(wrapper);
+                return;
+            }
+        }
+
+        // the pool is full, so free the native buffer now rather than waiting for the finalizer
+        wrapper.wrappedObject.release();
+    }
+
+    @Override
+    public void startFrame()
+    {
+        this.frameAllocationStart = this.allocationCount.get();
+        this.frameReuseStart = this.reuseCount.get();
+    }
+
+    @Override
+    public int getFrameAllocationCount()
+    {
+        return this.allocationCount.get() - this.frameAllocationStart;
+    }
+
+    @Override
+    public int getFrameReuseCount()
+    {
+        return this.reuseCount.get() - this.frameReuseStart;
     }
 
     @Override
     public IMat newMat()
     {
+        this.allocationCount.incrementAndGet();
         return new MatWrapper(new Mat());
     }
 
     @Override
     public IMat newMat(int i, int j, int cvType)
     {
+        this.allocationCount.incrementAndGet();
         return new MatWrapper(new Mat(i, j, cvType));
     }
 
     @Override
     public IPoint newPoint(double d, double e)
     {
+        this.allocationCount.incrementAndGet();
         return new PointWrapper(new Point(d, e));
     }
 
     @Override
     public IScalar newScalar(int i)
     {
+        this.allocationCount.incrementAndGet();
         return new ScalarWrapper(new Scalar(i));
     }
 
     @Override
     public IScalar newScalar(int v0, int v1, int v2)
     {
+        this.allocationCount.incrementAndGet();
         return new ScalarWrapper(new Scalar(v0, v1, v2));
     }
 
     @Override
     public ISize newSize(int i, int j)
     {
+        this.allocationCount.incrementAndGet();
         return new SizeWrapper(new Size(i, j));
     }
 
     @Override
     public IMatOfPoint2f convertToMatOfPoints2f(IMatOfPoint points)
     {
+        this.allocationCount.incrementAndGet();
         MatOfPoint unwrapped = OpenCVProvider.unwrap(points);
         MatOfPoint2f newMop2f = new MatOfPoint2f();
         unwrapped.convertTo(newMop2f, CvType.CV_32FC2);
@@ -73,18 +166,21 @@ public class OpenCVProvider implements IOpenCVProvider
     @Override
     public IRect boundingRect(IMatOfPoint points)
     {
+        this.allocationCount.incrementAndGet();
         return new RectWrapper(Imgproc.boundingRect(OpenCVProvider.unwrap(points)));
     }
 
     @Override
     public IRotatedRect minAreaRect(IMatOfPoint2f points)
     {
+        this.allocationCount.incrementAndGet();
         return new RotatedRectWrapper(Imgproc.minAreaRect(OpenCVProvider.unwrap(points)));
     }
 
     @Override
     public IMoments moments(IMatOfPoint array)
     {
+        this.allocationCount.incrementAndGet();
         return new MomentsWrapper(Imgproc.moments(OpenCVProvider.unwrap(array)));
     }
 
@@ -99,6 +195,7 @@ public class OpenCVProvider implements IOpenCVProvider
 
         Imgproc.findContours(OpenCVProvider.unwrap(image), unwrappedContours, OpenCVProvider.unwrap(hierarchy), mode, method);
 
+        this.allocationCount.addAndGet(unwrappedContours.size());
         for (int i = 0; i < unwrappedContours.size(); i++)
         {
             contours.add(i, new MatOfPointWrapper(unwrappedContours.get(i)));
@@ -2,9 +2,23 @@ package frc.robot.common.robotprovider;
 
 import javax.inject.Singleton;
 
+import com.google.inject.Inject;
+
 @Singleton
 public class RobotProvider implements IRobotProvider
 {
+    private final SensorCache sensorCache;
+    private final WriteFilter writeFilter;
+    private final OpenCVProvider openCVProvider;
+
+    @Inject
+    public RobotProvider(SensorCache sensorCache, WriteFilter writeFilter)
+    {
+        this.sensorCache = sensorCache;
+        this.writeFilter = writeFilter;
+        this.openCVProvider = new OpenCVProvider();
+    }
+
     @Override
     public IAnalogInput getAnalogInput(int channel)
     {
@@ -32,25 +46,25 @@ public class RobotProvider implements IRobotProvider
     @Override
     public ITalonSRX getTalonSRX(int deviceNumber)
     {
-        return new TalonSRXWrapper(deviceNumber);
+        return new TalonSRXWrapper(deviceNumber, this.sensorCache, this.writeFilter);
     }
 
     @Override
     public ITalonFX getTalonFX(int deviceNumber)
     {
-        return new TalonFXWrapper(deviceNumber);
+        return new TalonFXWrapper(deviceNumber, this.sensorCache, this.writeFilter);
     }
 
     @Override
     public IVictorSPX getVictorSPX(int deviceNumber)
     {
-        return new VictorSPXWrapper(deviceNumber);
+        return new VictorSPXWrapper(deviceNumber, this.writeFilter);
     }
 
     @Override
     public ISparkMax getSparkMax(int deviceID, SparkMaxMotorType motorType)
     {
-        return new SparkMaxWrapper(deviceID, motorType);
+        return new SparkMaxWrapper(deviceID, motorType, this.sensorCache, this.writeFilter);
     }
 
     @Override
@@ -146,7 +160,7 @@ public class RobotProvider implements IRobotProvider
     @Override
     public INavx getNavx()
     {
-        return new NavxWrapper();
+        return new NavxWrapper(this.sensorCache);
     }
 
     @Override
@@ -170,7 +184,7 @@ public class RobotProvider implements IRobotProvider
     @Override
     public IUsbCamera getUsbCamera(String name, int dev)
     {
-        return new UsbCameraWrapper(name, dev);
+        return new UsbCameraWrapper(name, dev, this.openCVProvider);
     }
 
     @Override
@@ -182,7 +196,7 @@ public class RobotProvider implements IRobotProvider
     @Override
     public IOpenCVProvider getOpenCVProvider()
     {
-        return new OpenCVProvider();
+        return this.openCVProvider;
     }
 
     @Override
@@ -0,0 +1,75 @@
+package frc.robot.common.robotprovider;
+
+import javax.inject.Singleton;
+
+/**
+ * Tracks the robot loop for the CAN device wrappers, so that each of a device's sensor values is only read from the device once per loop.
+ * The wrappers keep the value that they read (along with the loop that it was read in) in primitive fields, and serve any
+ * other reads during the same loop from there.
+ *
+ * Only reads on the robot loop's thread are cached.  Other threads (such as the control thread) run on their own schedule, so they
+ * always read from the device directly.
+ */
+@Singleton
+public class SensorCache
+{
+    public static final int NOT_CACHED = -1;
+
+    private volatile Thread loopThread;
+    private int loop;
+    private int readCount;
+    private int previousReadCount;
+
+    public SensorCache()
+    {
+        this.loopThread = null;
+        this.loop = 0;
+        this.readCount = 0;
+        this.previousReadCount = 0;
+    }
+
+    /**
+     * Gets the current loop, which a wrapper's cached value must have been read in to still be used
+     * @return the current loop, or NOT_CACHED if values shouldn't be cached on the calling thread
+     */
+    public int getLoop()
+    {
+        if (Thread.currentThread() != this.loopThread)
+        {
+            return SensorCache.NOT_CACHED;
+        }
+
+        return this.loop;
+    }
+
+    /**
+     * Record that a wrapper read a value from its device (rather than from its cache) during the current loop
+     */
+    public void recordRead()
+    {
+        this.readCount++;
+    }
+
+    /**
+     * Mark the end of the robot loop, so that the next read of each value comes from the device again.
+     * This must be called from the robot loop's thread.
+     */
+    public void endLoop()
+    {
+        this.loopThread = Thread.currentThread();
+        this.previousReadCount = this.readCount;
+        this.readCount = 0;
+
+        // skip NOT_CACHED if the loop counter ever wraps around
+        this.loop = this.loop == Integer.MAX_VALUE ? 0 : this.loop + 1;
+    }
+
+    /**
+     * Gets the number of values read from the devices during the most recently completed loop
+     * @return the number of reads
+     */
+    public int getPreviousReadCount()
+    {
+        return this.previousReadCount;
+    }
+}
@@ -2,16 +2,29 @@ package frc.robot.common.robotprovider;
 
 import javax.inject.Singleton;
 
+import edu.wpi.first.networktables.NetworkTableEntry;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 import frc.robot.LoggingKey;
 
 /**
  * Logger that logs current values to a dashboard.
  *
+ * The entry for each key is looked up the first time the key is logged and then kept, so logging doesn't look up the key every loop.
+ * NetworkTables only sends an entry's value when it changes, so values are set without reading the previous value first.
  */
 @Singleton
 public class SmartDashboardLogger implements ISmartDashboardLogger
 {
+    private final NetworkTableEntry[] entries;
+
+    /**
+     * Initializes a new SmartDashboardLogger
+     */
+    public SmartDashboardLogger()
+    {
+        this.entries = new NetworkTableEntry[LoggingKey.values().length];
+    }
+
     /**
      * Write a boolean to the smart dashboard
      * @param key to write to
@@ -20,10 +33,7 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
     @Override
     public void logBoolean(LoggingKey key, boolean value)
     {
-        if (SmartDashboard.getBoolean(key.value, !value) != value)
-        {
-            SmartDashboard.putBoolean(key.value, value);
-        }
+        this.getEntry(key).setBoolean(value);
     }
 
     /**
@@ -34,7 +44,7 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
     @Override
     public void logBooleanArray(LoggingKey key, boolean[] value)
     {
-        SmartDashboard.putBooleanArray(key.value, value);
+        this.getEntry(key).setBooleanArray(value);
     }
 
     /**
@@ -45,10 +55,7 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
     @Override
     public void logNumber(LoggingKey key, double value)
     {
-        if (SmartDashboard.getNumber(key.value, value + 0.5) != value)
-        {
-            SmartDashboard.putNumber(key.value, value);
-        }
+        this.getEntry(key).setDouble(value);
     }
 
     /**
@@ -65,7 +72,7 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
             valueString = "" + value;
         }
 
-        SmartDashboard.putString(key.value, valueString);
+        this.getEntry(key).setString(valueString);
     }
 
     /**
@@ -88,10 +95,7 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
     @Override
     public void logInteger(LoggingKey key, int value, String formatString)
     {
-        if (SmartDashboard.getNumber(key.value, value + 0.5) != value)
-        {
-            SmartDashboard.putNumber(key.value, value);
-        }
+        this.getEntry(key).setDouble(value);
     }
 
     /**
@@ -119,10 +123,24 @@ public class SmartDashboardLogger implements ISmartDashboardLogger
     @Override
     public void logString(LoggingKey key, String value)
     {
-        if (SmartDashboard.getString(key.value, null) != value)
+        this.getEntry(key).setString(value);
+    }
+
+    /**
+     * Gets the smart dashboard entry for a key, looking it up the first time
+     * @param key to get the entry for
+     * @return the entry
+     */
+    private NetworkTableEntry getEntry(LoggingKey key)
+    {
+        NetworkTableEntry entry = this.entries[key.ordinal()];
+        if (entry == null)
         {
-            SmartDashboard.putString(key.value, value);
+            entry = SmartDashboard.getEntry(key.value);
+            this.entries[key.ordinal()] = entry;
         }
+
+        return entry;
     }
 
     /**
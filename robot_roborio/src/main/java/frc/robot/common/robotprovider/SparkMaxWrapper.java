@@ -14,10 +14,29 @@ public class SparkMaxWrapper implements ISparkMax
     private CANDigitalInput wrappedFwdLimitSwitch;
     private CANDigitalInput wrappedRevLimitSwitch;
 
+    private final SensorCache sensorCache;
+    private final WriteFilter writeFilter;
+
     private SparkMaxControlMode currentMode;
     private int currentSlot;
 
-    public SparkMaxWrapper(int deviceID, SparkMaxMotorType motorType)
+    // the last output sent to the device, so that identical writes can be skipped (see WriteFilter)
+    private SparkMaxControlMode lastMode;
+    private int lastSlot;
+    private double lastValue;
+    private long lastSetTime;
+
+    // sensor values cached for the rest of the loop that they were read in (see SensorCache)
+    private double position;
+    private int positionLoop;
+    private double velocity;
+    private int velocityLoop;
+    private boolean forwardLimitSwitchStatus;
+    private int forwardLimitSwitchStatusLoop;
+    private boolean reverseLimitSwitchStatus;
+    private int reverseLimitSwitchStatusLoop;
+
+    public SparkMaxWrapper(int deviceID, SparkMaxMotorType motorType, SensorCache sensorCache, WriteFilter writeFilter)
     {
         MotorType type = MotorType.kBrushless;
         switch (motorType)
@@ -32,8 +51,17 @@ public class SparkMaxWrapper implements ISparkMax
         }
 
         this.wrappedObject = new CANSparkMax(deviceID, type);
+        this.sensorCache = sensorCache;
+        this.writeFilter = writeFilter;
         this.currentMode = SparkMaxControlMode.PercentOutput;
         this.currentSlot = 0;
+
+        this.lastMode = null;
+
+        this.positionLoop = SensorCache.NOT_CACHED;
+        this.velocityLoop = SensorCache.NOT_CACHED;
+        this.forwardLimitSwitchStatusLoop = SensorCache.NOT_CACHED;
+        this.reverseLimitSwitchStatusLoop = SensorCache.NOT_CACHED;
     }
 
     public void setControlMode(SparkMaxControlMode mode)
@@ -48,6 +76,20 @@ public class SparkMaxWrapper implements ISparkMax
 
     public void set(double value)
     {
+        long currentTime = System.nanoTime();
+        if (this.currentMode == this.lastMode &&
+            this.currentSlot == this.lastSlot &&
+            value == this.lastValue &&
+            this.writeFilter.suppress(this.lastSetTime, currentTime))
+        {
+            return;
+        }
+
+        this.lastMode = this.currentMode;
+        this.lastSlot = this.currentSlot;
+        this.lastValue = value;
+        this.lastSetTime = currentTime;
+
         if (this.currentMode != SparkMaxControlMode.PercentOutput &&
             this.pidController == null)
         {
@@ -251,6 +293,7 @@ public class SparkMaxWrapper implements ISparkMax
     public void stop()
     {
         this.wrappedObject.stopMotor();
+        this.lastMode = null;
     }
 
     public void setPosition(double position)
@@ -265,6 +308,7 @@ public class SparkMaxWrapper implements ISparkMax
         }
 
         this.wrappedEncoder.setPosition(position);
+        this.positionLoop = SensorCache.NOT_CACHED;
     }
 
     public void reset()
@@ -283,7 +327,20 @@ public class SparkMaxWrapper implements ISparkMax
             }
         }
 
-        return this.wrappedEncoder.getPosition();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedEncoder.getPosition();
+        }
+
+        if (loop != this.positionLoop)
+        {
+            this.position = this.wrappedEncoder.getPosition();
+            this.positionLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.position;
     }
 
     public double getVelocity()
@@ -297,7 +354,20 @@ public class SparkMaxWrapper implements ISparkMax
             }
         }
 
-        return this.wrappedEncoder.getVelocity();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedEncoder.getVelocity();
+        }
+
+        if (loop != this.velocityLoop)
+        {
+            this.velocity = this.wrappedEncoder.getVelocity();
+            this.velocityLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.velocity;
     }
 
     public boolean getForwardLimitSwitchStatus()
@@ -307,7 +377,20 @@ public class SparkMaxWrapper implements ISparkMax
             return false;
         }
 
-        return this.wrappedFwdLimitSwitch.get();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedFwdLimitSwitch.get();
+        }
+
+        if (loop != this.forwardLimitSwitchStatusLoop)
+        {
+            this.forwardLimitSwitchStatus = this.wrappedFwdLimitSwitch.get();
+            this.forwardLimitSwitchStatusLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.forwardLimitSwitchStatus;
     }
 
     public boolean getReverseLimitSwitchStatus()
@@ -317,6 +400,19 @@ public class SparkMaxWrapper implements ISparkMax
             return false;
         }
 
-        return this.wrappedRevLimitSwitch.get();
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedRevLimitSwitch.get();
+        }
+
+        if (loop != this.reverseLimitSwitchStatusLoop)
+        {
+            this.reverseLimitSwitchStatus = this.wrappedRevLimitSwitch.get();
+            this.reverseLimitSwitchStatusLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.reverseLimitSwitchStatus;
     }
 }
@@ -17,17 +17,58 @@ public class TalonSRXWrapper implements ITalonSRX
 
     final TalonSRX wrappedObject;
 
+    private final SensorCache sensorCache;
+    private final WriteFilter writeFilter;
+
     private ControlMode controlMode;
 
-    public TalonSRXWrapper(int deviceNumber)
+    // the last output and settings sent to the device, so that identical writes can be skipped (see WriteFilter)
+    private ControlMode lastControlMode;
+    private double lastValue;
+    private long lastSetTime;
+    private int lastSlotId;
+    private long lastSlotTime;
+
+    // sensor values cached for the rest of the loop that they were read in (see SensorCache)
+    private int position;
+    private int positionLoop;
+    private double velocity;
+    private int velocityLoop;
+    private double error;
+    private int errorLoop;
+    private TalonXLimitSwitchStatus limitSwitchStatus;
+    private int limitSwitchStatusLoop;
+
+    public TalonSRXWrapper(int deviceNumber, SensorCache sensorCache, WriteFilter writeFilter)
     {
         this.wrappedObject = new TalonSRX(deviceNumber);
+        this.sensorCache = sensorCache;
+        this.writeFilter = writeFilter;
         this.controlMode = ControlMode.PercentOutput;
+
+        this.lastControlMode = null;
+        this.lastSlotId = -1;
+
+        this.positionLoop = SensorCache.NOT_CACHED;
+        this.velocityLoop = SensorCache.NOT_CACHED;
+        this.errorLoop = SensorCache.NOT_CACHED;
+        this.limitSwitchStatusLoop = SensorCache.NOT_CACHED;
     }
 
     public void set(double value)
     {
+        long currentTime = System.nanoTime();
+        if (this.controlMode == this.lastControlMode &&
+            value == this.lastValue &&
+            this.writeFilter.suppress(this.lastSetTime, currentTime))
+        {
+            return;
+        }
+
         this.wrappedObject.set(this.controlMode, value);
+        this.lastControlMode = this.controlMode;
+        this.lastValue = value;
+        this.lastSetTime = currentTime;
     }
 
     public void follow(ITalonSRX talonSRX)
@@ -115,7 +156,16 @@ public class TalonSRXWrapper implements ITalonSRX
 
     public void setSelectedSlot(int slotId)
     {
+        long currentTime = System.nanoTime();
+        if (slotId == this.lastSlotId &&
+            this.writeFilter.suppress(this.lastSlotTime, currentTime))
+        {
+            return;
+        }
+
         this.wrappedObject.selectProfileSlot(slotId, TalonSRXWrapper.pidIdx);
+        this.lastSlotId = slotId;
+        this.lastSlotTime = currentTime;
     }
 
     public void setPIDF(double p, double i, double d, double f, int slotId)
@@ -220,34 +270,94 @@ public class TalonSRXWrapper implements ITalonSRX
     public void stop()
     {
         this.wrappedObject.set(ControlMode.Disabled, 0.0);
+        this.lastControlMode = null;
     }
 
     public void setPosition(int position)
     {
         this.wrappedObject.setSelectedSensorPosition(position, TalonSRXWrapper.pidIdx, TalonSRXWrapper.timeoutMS);
+        this.positionLoop = SensorCache.NOT_CACHED;
     }
 
     public void reset()
     {
         this.wrappedObject.setSelectedSensorPosition(0, TalonSRXWrapper.pidIdx, TalonSRXWrapper.timeoutMS);
+        this.positionLoop = SensorCache.NOT_CACHED;
     }
 
     public int getPosition()
     {
-        return this.wrappedObject.getSelectedSensorPosition(TalonSRXWrapper.pidIdx);
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getSelectedSensorPosition(TalonSRXWrapper.pidIdx);
+        }
+
+        if (loop != this.positionLoop)
+        {
+            this.position = this.wrappedObject.getSelectedSensorPosition(TalonSRXWrapper.pidIdx);
+            this.positionLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.position;
     }
 
     public double getVelocity()
     {
-        return this.wrappedObject.getSelectedSensorVelocity(TalonSRXWrapper.pidIdx);
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getSelectedSensorVelocity(TalonSRXWrapper.pidIdx);
+        }
+
+        if (loop != this.velocityLoop)
+        {
+            this.velocity = this.wrappedObject.getSelectedSensorVelocity(TalonSRXWrapper.pidIdx);
+            this.velocityLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.velocity;
     }
 
     public double getError()
     {
-        return this.wrappedObject.getClosedLoopError(TalonSRXWrapper.pidIdx);
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.wrappedObject.getClosedLoopError(TalonSRXWrapper.pidIdx);
+        }
+
+        if (loop != this.errorLoop)
+        {
+            this.error = this.wrappedObject.getClosedLoopError(TalonSRXWrapper.pidIdx);
+            this.errorLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.error;
     }
 
     public TalonXLimitSwitchStatus getLimitSwitchStatus()
+    {
+        int loop = this.sensorCache.getLoop();
+        if (loop == SensorCache.NOT_CACHED)
+        {
+            return this.readLimitSwitchStatus();
+        }
+
+        if (loop != this.limitSwitchStatusLoop)
+        {
+            this.limitSwitchStatus = this.readLimitSwitchStatus();
+            this.limitSwitchStatusLoop = loop;
+            this.sensorCache.recordRead();
+        }
+
+        return this.limitSwitchStatus;
+    }
+
+    private TalonXLimitSwitchStatus readLimitSwitchStatus()
     {
         SensorCollection collection = this.wrappedObject.getSensorCollection();
 
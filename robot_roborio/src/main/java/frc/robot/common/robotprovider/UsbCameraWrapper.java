@@ -2,18 +2,25 @@ package frc.robot.common.robotprovider;
 
 import org.opencv.core.Mat;
 
+import edu.wpi.cscore.CvSink;
 import edu.wpi.cscore.UsbCamera;
+import edu.wpi.first.cameraserver.CameraServer;
 import edu.wpi.first.vision.VisionPipeline;
 import edu.wpi.first.vision.VisionRunner;
 import edu.wpi.first.vision.VisionThread;
+import edu.wpi.first.wpilibj.RobotController;
 
 public class UsbCameraWrapper implements IUsbCamera
 {
     private final UsbCamera wrappedObject;
+    private final IOpenCVProvider openCVProvider;
 
-    public UsbCameraWrapper(String name, int dev)
+    private CvSink sink;
+
+    public UsbCameraWrapper(String name, int dev, IOpenCVProvider openCVProvider)
     {
         this.wrappedObject = new UsbCamera(name, dev);
+        this.openCVProvider = openCVProvider;
     }
 
     public boolean setResolution(int width, int height)
@@ -46,18 +53,39 @@ public class UsbCameraWrapper implements IUsbCamera
         return new VisionThread(this.wrappedObject, new VisionPipelineWrapper<T>(pipeline), new VisionListenerWrapper<T>(listener));
     }
 
+    public long grabFrame(IMat image, double timeout)
+    {
+        if (this.sink == null)
+        {
+            this.sink = CameraServer.getInstance().getVideo(this.wrappedObject);
+        }
+
+        return this.sink.grabFrame(OpenCVProvider.unwrap(image), timeout);
+    }
+
+    public long getCurrentTime()
+    {
+        // cscore stamps frames using the FPGA time on the roboRIO
+        return RobotController.getFPGATime();
+    }
+
     private class VisionPipelineWrapper<T extends IVisionPipeline> implements VisionPipeline
     {
         private final T wrappedObject;
+        private final MatWrapper frame;
 
         public VisionPipelineWrapper(T visionPipeline)
         {
             this.wrappedObject = visionPipeline;
+            this.frame = new MatWrapper(null);
         }
 
         public void process(Mat image)
         {
-            this.wrappedObject.process(new MatWrapper(image));
+            // the vision thread passes the same image Mat for every frame, so re-point one wrapper at it instead of allocating one per frame
+            this.frame.setWrappedObject(image);
+            UsbCameraWrapper.this.openCVProvider.startFrame();
+            this.wrappedObject.process(this.frame);
         }
     }
 
@@ -10,17 +10,38 @@ public class VictorSPXWrapper implements IVictorSPX
 {
     final VictorSPX wrappedObject;
 
+    private final WriteFilter writeFilter;
+
     private ControlMode controlMode;
 
-    public VictorSPXWrapper(int deviceNumber)
+    // the last output sent to the device, so that identical writes can be skipped (see WriteFilter)
+    private ControlMode lastControlMode;
+    private double lastValue;
+    private long lastSetTime;
+
+    public VictorSPXWrapper(int deviceNumber, WriteFilter writeFilter)
     {
         this.wrappedObject = new VictorSPX(deviceNumber);
+        this.writeFilter = writeFilter;
         this.controlMode = ControlMode.PercentOutput;
+
+        this.lastControlMode = null;
     }
 
     public void set(double value)
     {
+        long currentTime = System.nanoTime();
+        if (this.controlMode == this.lastControlMode &&
+            value == this.lastValue &&
+            this.writeFilter.suppress(this.lastSetTime, currentTime))
+        {
+            return;
+        }
+
         this.wrappedObject.set(this.controlMode, value);
+        this.lastControlMode = this.controlMode;
+        this.lastValue = value;
+        this.lastSetTime = currentTime;
     }
 
     public void follow(ITalonSRX talonSRX)
@@ -81,5 +102,6 @@ public class VictorSPXWrapper implements IVictorSPX
     public void stop()
     {
         this.wrappedObject.set(ControlMode.Disabled, 0.0);
+        this.lastControlMode = null;
     }
 }
@@ -0,0 +1,64 @@
+package frc.robot.common.robotprovider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+
+import frc.robot.TuningConstants;
+
+/**
+ * Decides when the motor wrappers can skip a write to their device that is identical to the previous one, and counts the writes skipped.
+ *
+ * Each wrapper remembers the last value that it sent for each output or setting (and when it sent it).  An identical write is
+ * skipped unless the keep-alive period has passed since the last one was sent, in which case it is sent again anyway (in case the
+ * device lost it, e.g. after a brown-out).
+ */
+@Singleton
+public class WriteFilter
+{
+    private final long keepAlivePeriod;
+    private final AtomicInteger suppressedCount;
+    private int previousSuppressedCount;
+
+    public WriteFilter()
+    {
+        this.keepAlivePeriod = TuningConstants.MOTOR_WRITE_KEEPALIVE_PERIOD;
+        this.suppressedCount = new AtomicInteger();
+        this.previousSuppressedCount = 0;
+    }
+
+    /**
+     * Check whether a write that is identical to the previous one should be skipped, counting it if so
+     * @param lastWriteTime when the previous write was sent (from System.nanoTime())
+     * @param currentTime the current time (from System.nanoTime())
+     * @return true if the write should be skipped, false if it should be sent again
+     */
+    public boolean suppress(long lastWriteTime, long currentTime)
+    {
+        if (this.keepAlivePeriod <= 0L || currentTime - lastWriteTime >= this.keepAlivePeriod)
+        {
+            return false;
+        }
+
+        // writes can come from the control thread as well as the robot loop
+        this.suppressedCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Mark the end of the robot loop, recording how many writes were skipped during it
+     */
+    public void endLoop()
+    {
+        this.previousSuppressedCount = this.suppressedCount.getAndSet(0);
+    }
+
+    /**
+     * Gets the number of writes that were skipped during the most recently completed loop
+     * @return the number of skipped writes
+     */
+    public int getPreviousSuppressedCount()
+    {
+        return this.previousSuppressedCount;
+    }
+}